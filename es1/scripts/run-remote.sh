@@ -0,0 +1,41 @@
+#!/bin/sh
+# Plays a headless run with the bots in separate JVMs: starts N player nodes and one arbiter JVM on localhost.
+# Usage: scripts/run-remote.sh N [headless options, see es1.batch.BatchOptions]
+# Example: scripts/run-remote.sh 2 --players 3 --length 3 --games 500 --concurrency 16
+set -e
+cd "$(dirname "$0")/.."
+
+NODES=${1:-2}
+[ $# -gt 0 ] && shift
+BASE_PORT=${BASE_PORT:-25530}
+JAVA_OPTS=${JAVA_OPTS:--Dakka.loglevel=WARNING}
+
+if [ ! -f target/classpath.txt ] || [ ! -d target/classes ]; then
+    mvn -B -q compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+fi
+CP="target/classes:$(cat target/classpath.txt)"
+
+PIDS=""
+trap 'kill $PIDS 2>/dev/null' EXIT INT TERM
+
+ADDRESSES=""
+i=0
+while [ $i -lt "$NODES" ]; do
+    PORT=$((BASE_PORT + i))
+    LOG="target/player-node-$i.log"
+    java $JAVA_OPTS -cp "$CP" es1.Launcher --player-node $PORT > "$LOG" 2>&1 &
+    PIDS="$PIDS $!"
+    ADDRESSES="$ADDRESSES${ADDRESSES:+,}127.0.0.1:$PORT"
+    i=$((i + 1))
+done
+
+# waiting for all the player nodes
+i=0
+while [ $i -lt "$NODES" ]; do
+    until grep -q "Player node ready" "target/player-node-$i.log"; do
+        sleep 0.2
+    done
+    i=$((i + 1))
+done
+
+java $JAVA_OPTS -cp "$CP" es1.Launcher --headless --player-nodes "$ADDRESSES" "$@"
@@ -0,0 +1,30 @@
+package es1.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Class that runs the benchmarks always with the gc profiler, so every result reports the allocation rate next to
+ * the throughput. It accepts the same arguments of the JMH command line.
+ */
+public class BenchmarkMain {
+
+    /**
+     * Main of the benchmarks.
+     * @param args - JMH command line options, for example a regexp of the benchmarks to run.
+     * @throws CommandLineOptionException if the options are wrong.
+     * @throws RunnerException if a benchmark fails.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
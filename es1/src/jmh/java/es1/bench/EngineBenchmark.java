@@ -0,0 +1,89 @@
+package es1.bench;
+
+import es1.engine.CandidateSet;
+import es1.engine.CodeSpace;
+import es1.strategy.GuessStrategy;
+import es1.strategy.StrategyType;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the hot paths of a Player: checking an attempt (Player.checkAttempt), generating the secret code
+ * (Player.generateCode) and generating an attempt with each Strategy (Player.generateGuess).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+
+    @Param({"2", "3", "4"})
+    private int codeLength;
+
+    private CodeSpace space;
+    private Random random;
+    private int[] codes;
+    private int next;
+    private CandidateSet candidates;
+    private GuessStrategy randomStrategy;
+    private GuessStrategy minimaxStrategy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        space = CodeSpace.of(codeLength);
+        random = new Random(42);
+        codes = new int[1024];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = space.randomCode(random);
+        }
+        //the candidates after the first attempt, the set that the second attempt of a bot sees
+        int secret = codes[0];
+        int attempt = codes[1];
+        candidates = new CandidateSet(space);
+        candidates.retain(attempt, space.feedback(secret, attempt));
+        randomStrategy = StrategyType.RANDOM.create(Long.MAX_VALUE);
+        minimaxStrategy = StrategyType.MINIMAX.create(Long.MAX_VALUE);
+        space.feedbackAt(0, 0);
+    }
+
+    @Benchmark
+    public int checkAttempt() {
+        int secret = codes[next++ & 1023];
+        return space.feedback(secret, codes[next & 1023]);
+    }
+
+    @Benchmark
+    public int checkAttemptTable() {
+        int secret = next++ % space.size();
+        return space.feedbackAt(secret, (secret * 31 + 7) % space.size());
+    }
+
+    @Benchmark
+    public int generateCode() {
+        return space.randomCode(random);
+    }
+
+    @Benchmark
+    public int generateGuessRandom() {
+        return randomStrategy.nextGuess(candidates);
+    }
+
+    @Benchmark
+    public int generateGuessMinimax() {
+        return minimaxStrategy.nextGuess(candidates);
+    }
+}
@@ -0,0 +1,80 @@
+package es1.bench;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import es1.actors.Arbiter;
+import es1.strategy.StrategyType;
+import es1.util.GameSettings;
+import es1.util.StartMsg;
+import es1.view.GameObserver;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of complete games played by the actors in the same JVM, from the StartMsg to the win message.
+ * Every invocation is a whole game, so it's measured as single shots.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(value = 1, jvmArgsAppend = "-Dakka.loglevel=WARNING")
+public class GameBenchmark {
+
+    @Param({"2", "3", "4"})
+    private int codeLength;
+
+    @Param({"2", "3", "4"})
+    private int players;
+
+    @Param({"RANDOM", "MINIMAX"})
+    private StrategyType strategy;
+
+    private ActorSystem system;
+    private ActorRef arbiter;
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        system = ActorSystem.create("GameBenchmark");
+        arbiter = system.actorOf(Props.create(Arbiter.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        system.terminate();
+        system.getWhenTerminated().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public int game() {
+        CompletableFuture<Integer> turns = new CompletableFuture<>();
+        GameSettings settings = new GameSettings().withStrategy(strategy).withSeed(seed++);
+        arbiter.tell(new StartMsg(codeLength, players, new GameObserver() {
+            @Override
+            public void addEvent(String message) {
+            }
+
+            @Override
+            public void gameEnded(int winner, int played, long messages) {
+                turns.complete(played);
+            }
+        }, settings), ActorRef.noSender());
+        return turns.join();
+    }
+}
@@ -0,0 +1,237 @@
+package es1.bench;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.pattern.Patterns;
+import akka.persistence.AbstractPersistentActor;
+import akka.persistence.SaveSnapshotSuccess;
+import com.typesafe.config.ConfigFactory;
+import es1.actors.Arbiter;
+import es1.engine.CodeSpace;
+import es1.persistence.ArbiterSnapshot;
+import es1.persistence.CodesGeneratedEvent;
+import es1.persistence.GameStartedEvent;
+import es1.persistence.RoundShuffledEvent;
+import es1.persistence.TurnEndedEvent;
+import es1.strategy.StrategyType;
+import es1.util.GameSettings;
+import es1.util.GameStatusMsg;
+import es1.util.GetGameStatusMsg;
+import es1.util.StartMsg;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the recovery of an Arbiter from the LevelDB journal, for a game of 3 bots in progress with a long
+ * history. Before every invocation a new game is journaled, with or without a snapshot taken 500 events before its
+ * end; the invocation starts the Arbiter and waits for its status, that is answered after the recovery.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Dakka.loglevel=WARNING")
+public class RecoveryBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+    private static final int PLAYERS = 3;
+    private static final int BATCH = 1000;
+    private static final CodeSpace SPACE = CodeSpace.of(4);
+
+    @Param({"10000", "50000"})
+    private int events;
+
+    @Param({"false", "true"})
+    private boolean snapshot;
+
+    private Path directory;
+    private ActorSystem system;
+    private ActorRef arbiter;
+    private String name;
+    private int game;
+    private long reported;
+    private int recoveries;
+
+    /**
+     * Persistent actor that journals the events and saves the snapshots of an Arbiter, with its persistence id.
+     * It answers "written" when they are stored.
+     */
+    public static class EventWriter extends AbstractPersistentActor {
+
+        private final String persistenceId;
+        private ActorRef requester;
+
+        public EventWriter(String persistenceId) {
+            this.persistenceId = persistenceId;
+        }
+
+        @Override
+        public String persistenceId() {
+            return persistenceId;
+        }
+
+        @Override
+        public String journalPluginId() {
+            return "akka.persistence.journal.leveldb";
+        }
+
+        @Override
+        public String snapshotPluginId() {
+            return "akka.persistence.snapshot-store.local";
+        }
+
+        @Override
+        public Receive createReceiveRecover() {
+            return receiveBuilder().matchAny(event -> { }).build();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(List.class, events -> {
+                        ActorRef sender = getSender();
+                        persistAll((List<Object>) events, event -> { });
+                        deferAsync("written", done -> sender.tell(done, getSelf()));
+                    })
+                    .match(ArbiterSnapshot.class, snapshot -> {
+                        this.requester = getSender();
+                        saveSnapshot(snapshot);
+                    })
+                    .match(SaveSnapshotSuccess.class, saved -> requester.tell("written", getSelf()))
+                    .build();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("recovery");
+        system = ActorSystem.create("RecoveryBenchmark", ConfigFactory.parseString(
+                "es1.persistence.enabled = on\n"
+                        + "akka.persistence.journal.leveldb.dir = \"" + directory.resolve("journal").toString().replace('\\', '/') + "\"\n"
+                        + "akka.persistence.snapshot-store.local.dir = \"" + directory.resolve("snapshots").toString().replace('\\', '/') + "\"\n")
+                .withFallback(ConfigFactory.load()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        System.out.printf("%nrecovery reported by the Arbiter: %.1f ms on average%n", reported / 1e6 / recoveries);
+        system.terminate();
+        system.getWhenTerminated().toCompletableFuture().join();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * Method that journals a new game in progress: its start, the codes and rounds of attempts of the bots, every one
+     * to the next bot, with a shuffle of the order after every round.
+     * @throws Exception if the events aren't written.
+     */
+    @Setup(Level.Invocation)
+    public void writeGame() throws Exception {
+        String name = "Arbiter" + (++game);
+        Random random = new Random(game);
+        StartMsg start = new StartMsg(4, PLAYERS, null, new GameSettings().withStrategy(StrategyType.RANDOM).withSeed((long) game));
+        int[] codes = new int[PLAYERS];
+        int[] order = new int[PLAYERS];
+        for (int i = 0; i < PLAYERS; i++) {
+            codes[i] = SPACE.randomCode(random);
+            order[i] = i;
+        }
+        ActorRef writer = system.actorOf(Props.create(EventWriter.class, "/user/" + name));
+        List<Object> batch = new ArrayList<>();
+        batch.add(new GameStartedEvent(start));
+        batch.add(new CodesGeneratedEvent(codes.clone(), order.clone()));
+        int[] history = new int[4 * events];
+        int attempts = 0;
+        int count = 0;
+        int turns = 0;
+        for (int written = 2; written < events; written++) {
+            if (count == PLAYERS) {
+                batch.add(new RoundShuffledEvent(order.clone()));
+                count = 0;
+            } else {
+                int player = order[count];
+                int target = (player + 1) % PLAYERS;
+                int attempt;
+                do {
+                    attempt = SPACE.randomCode(random);
+                } while (attempt == codes[target]);
+                int result = SPACE.feedback(codes[target], attempt);
+                batch.add(new TurnEndedEvent(TurnEndedEvent.ATTEMPT, player, target, attempt, result));
+                history[4 * attempts] = player;
+                history[4 * attempts + 1] = target;
+                history[4 * attempts + 2] = attempt;
+                history[4 * attempts + 3] = result;
+                attempts++;
+                count++;
+                turns++;
+            }
+            if (snapshot && written == events - 500) {
+                write(writer, batch);
+                write(writer, new ArbiterSnapshot(start, codes, order.clone(), count, turns, Arrays.copyOf(history, 4 * attempts)));
+            } else if (batch.size() == BATCH) {
+                write(writer, batch);
+            }
+        }
+        write(writer, batch);
+        system.stop(writer);
+        this.name = name;
+        this.arbiter = null;
+    }
+
+    /**
+     * Method that stores events or a snapshot with the writer.
+     * @param writer - the writer.
+     * @param stored - list of events, that is emptied, or a snapshot.
+     * @throws Exception if they aren't written.
+     */
+    private static void write(ActorRef writer, Object stored) throws Exception {
+        Object message = stored instanceof List ? new ArrayList<>((List<?>) stored) : stored;
+        if (stored instanceof List) {
+            ((List<?>) stored).clear();
+        }
+        Patterns.ask(writer, message, TIMEOUT).toCompletableFuture().get();
+    }
+
+    @TearDown(Level.Invocation)
+    public void stopGame() {
+        if (arbiter != null) {
+            system.stop(arbiter);
+        }
+    }
+
+    @Benchmark
+    public int recover() throws Exception {
+        arbiter = system.actorOf(Props.create(Arbiter.class), name);
+        GameStatusMsg status = (GameStatusMsg) Patterns.ask(arbiter, new GetGameStatusMsg(), TIMEOUT).toCompletableFuture().get();
+        reported += status.getRecoveryNanos();
+        recoveries++;
+        return status.getTurns();
+    }
+}
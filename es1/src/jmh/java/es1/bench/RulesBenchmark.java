@@ -0,0 +1,64 @@
+package es1.bench;
+
+import es1.engine.CodeSpace;
+import es1.engine.Rules;
+import es1.util.Pair;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the check of a win message done by the Arbiter (Arbiter.checkWinner), with a correct claim so all
+ * the codes are compared.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RulesBenchmark {
+
+    @Param({"2", "3", "4"})
+    private int codeLength;
+
+    @Param({"2", "3", "4", "16"})
+    private int players;
+
+    private CodeSpace space;
+    private final Map<Integer, Integer> codes = new HashMap<>();
+    private final ArrayList<Pair<Integer, ArrayList<Integer>>> claims = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        space = CodeSpace.of(codeLength);
+        Random random = new Random(42);
+        for (int player = 0; player < players; player++) {
+            int code = space.randomCode(random);
+            codes.put(player, code);
+            //the winner claims the codes of all the other players
+            if (player > 0) {
+                claims.add(new Pair<>(player, space.toList(code)));
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean checkWinner() {
+        return Rules.checkWinner(codes, claims, space);
+    }
+}
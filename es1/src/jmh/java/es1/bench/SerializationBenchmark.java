@@ -0,0 +1,118 @@
+package es1.bench;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Props;
+import akka.serialization.JavaSerializer;
+import akka.serialization.SerializationExtension;
+import akka.serialization.Serializer;
+import akka.serialization.SerializerWithStringManifest;
+import akka.serialization.Serializers;
+import com.typesafe.config.ConfigFactory;
+import es1.engine.Feedback;
+import es1.util.*;
+import java.io.NotSerializableException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the serialization of the messages of a game, with the binary serializer of es1 and with Java
+ * serialization. The size of every serialized message is printed at the start of its trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dakka.loglevel=WARNING")
+public class SerializationBenchmark {
+
+    @Param({"TryAttempt", "SendAttemptToPlayer", "SendResponseToPlayer", "PlayerAttemptMsg", "WinMsg", "CodeGeneratedMsg"})
+    private String message;
+
+    @Param({"binary", "java"})
+    private String format;
+
+    private ActorSystem system;
+    private Object value;
+    private Serializer serializer;
+    private String manifest;
+    private byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        //java serialization is disabled by default, it's enabled only for the comparison
+        system = ActorSystem.create("SerializationBenchmark", ConfigFactory
+                .parseString("akka.actor.allow-java-serialization = on\nakka.actor.warn-about-java-serializer-usage = off")
+                .withFallback(ConfigFactory.load()));
+        value = create(message, system.actorOf(Props.empty(), "first"), system.actorOf(Props.empty(), "second"));
+        serializer = format.equals("java")
+                ? new JavaSerializer((ExtendedActorSystem) system)
+                : SerializationExtension.get(system).findSerializerFor(value);
+        manifest = Serializers.manifestFor(serializer, value);
+        bytes = serializer.toBinary(value);
+        System.out.println(message + " " + format + ": " + bytes.length + " bytes");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        system.terminate();
+    }
+
+    /**
+     * Method that creates a message like the ones of a game with 4 chars codes and 3 Players.
+     * @param message - name of the class of the message.
+     * @param first - a Player.
+     * @param second - another Player.
+     * @return the message.
+     */
+    private static Object create(String message, ActorRef first, ActorRef second) {
+        switch (message) {
+            case "TryAttempt":
+                return new TryAttempt(false, -1, -1);
+            case "SendAttemptToPlayer":
+                return new SendAttemptToPlayer(3915);
+            case "SendResponseToPlayer":
+                return new SendResponseToPlayer(Feedback.of(1, 2));
+            case "PlayerAttemptMsg":
+                return new PlayerAttemptMsg(3915, 2, Feedback.of(1, 2));
+            case "WinMsg":
+                ArrayList<Pair<ActorRef, ArrayList<Integer>>> result = new ArrayList<>();
+                result.add(new Pair<>(first, new ArrayList<>(Arrays.asList(3, 9, 1, 5))));
+                result.add(new Pair<>(second, new ArrayList<>(Arrays.asList(7, 2, 4, 8))));
+                return new WinMsg(result);
+            case "CodeGeneratedMsg":
+                return new CodeGeneratedMsg(3915);
+            default:
+                throw new IllegalArgumentException(message);
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.toBinary(value);
+    }
+
+    @Benchmark
+    public Object deserialize() throws NotSerializableException {
+        if (serializer instanceof SerializerWithStringManifest) {
+            return ((SerializerWithStringManifest) serializer).fromBinary(bytes, manifest);
+        }
+        return serializer.fromBinary(bytes);
+    }
+}
@@ -0,0 +1,104 @@
+package es1.bench;
+
+import es1.engine.TurnOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the bookkeeping of a turn done by the Arbiter: the lookup of the Player that sent the attempt, the check
+ * that it's in turn, a wrong win claim every 64 turns and a new shuffled round when all the Players played.
+ * The list variant is the one with the indexes of the Players in lists, the order variant uses {@link TurnOrder} and a
+ * map of the Players. When half of the Players were removed the game starts again with all of them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurnOrderBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int players;
+
+    private final Random random = new Random(42);
+    private final ArrayList<Object> roster = new ArrayList<>();
+    private final Map<Object, Integer> indexes = new HashMap<>();
+    private ArrayList<Integer> list;
+    private TurnOrder order;
+    private int count;
+    private int turns;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        for (int player = 0; player < players; player++) {
+            Object ref = new Object();
+            roster.add(ref);
+            indexes.put(ref, player);
+        }
+        list = new ArrayList<>();
+        for (int player = 0; player < players; player++) {
+            list.add(player);
+        }
+        order = TurnOrder.of(players);
+    }
+
+    @Benchmark
+    public int list() {
+        if (count >= list.size()) {
+            if (list.size() < players / 2) {
+                list.clear();
+                for (int player = 0; player < players; player++) {
+                    list.add(player);
+                }
+            }
+            Collections.shuffle(list, random);
+            count = 0;
+        }
+        Object sender = roster.get(list.get(count));
+        int player = roster.indexOf(sender);
+        if (roster.get(list.get(count)) != sender) {
+            throw new IllegalStateException();
+        }
+        if (++turns % 64 == 0) {
+            list.remove(count);
+        }
+        count++;
+        return player;
+    }
+
+    @Benchmark
+    public int order() {
+        if (count >= order.size()) {
+            order.reset(order.size() < players / 2 ? TurnOrder.of(players).shuffled(random) : order.shuffled(random));
+            count = 0;
+        }
+        Object sender = roster.get(order.get(count));
+        int player = indexes.get(sender);
+        if (order.get(count) != player) {
+            throw new IllegalStateException();
+        }
+        if (++turns % 64 == 0) {
+            order.remove(player);
+            return player;
+        }
+        count++;
+        return player;
+    }
+}
@@ -2,9 +2,22 @@ package es1;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
-import akka.actor.Props;
 import es1.actors.Arbiter;
+import es1.batch.BatchOptions;
+import es1.batch.BatchRunner;
+import es1.batch.SimulationRunner;
+import es1.cluster.ClusterRunner;
+import es1.engine.CodeSpace;
+import es1.journal.JournalReplay;
+import es1.metrics.GameMetrics;
+import es1.remote.RemoteNodes;
+import es1.strategy.OpeningBook;
 import es1.view.ViewFrame;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Class that Launch the Game.
@@ -13,11 +26,53 @@ public class Launcher {
 
     /**
      * Main of the Project.
+     * With --headless as first argument it plays a batch of games without GUI and prints their statistics in JSON,
+     * see {@link BatchOptions} for the other arguments.
+     * With --player-node PORT it starts a player node, where the Arbiters of other JVMs deploy their bots, and runs
+     * until it's killed, then it prints the metrics of its bots in JSON.
+     * With --replay DIRECTORY it replays the games journaled in the directory and prints the results in JSON.
+     * With --build-book FILE SPACE... it computes the {@link OpeningBook} of the code spaces and writes it in the file,
+     * a space is LENGTH or LENGTH:MIN:MAX:DUPLICATES, with the default values of the game if they aren't given.
      * @param args of the main.
+     * @throws Exception if a headless run fails.
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("--headless")) {
+            BatchOptions options = BatchOptions.parse(Arrays.copyOfRange(args, 1, args.length));
+            if (options.isSimulation()) {
+                System.out.println(new SimulationRunner(options).run());
+                return;
+            }
+            System.out.println(options.getNodes() > 0 ? new ClusterRunner(options).run() : new BatchRunner(options).run());
+            return;
+        }
+        if (args.length > 1 && args[0].equals("--player-node")) {
+            ActorSystem node = RemoteNodes.startPlayerNode(Integer.parseInt(args[1]));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> System.out.println(GameMetrics.get().dump())));
+            System.out.println("Player node ready at " + node.provider().getDefaultAddress());
+            node.getWhenTerminated().toCompletableFuture().join();
+            return;
+        }
+        if (args.length > 1 && args[0].equals("--replay")) {
+            System.out.println(JournalReplay.run(Paths.get(args[1])));
+            return;
+        }
+        if (args.length > 2 && args[0].equals("--build-book")) {
+            List<CodeSpace> spaces = new ArrayList<>();
+            for (String space : Arrays.copyOfRange(args, 2, args.length)) {
+                String[] rules = space.split(":");
+                spaces.add(rules.length == 1 ? CodeSpace.of(Integer.parseInt(rules[0]))
+                        : CodeSpace.of(Integer.parseInt(rules[0]), Integer.parseInt(rules[1]), Integer.parseInt(rules[2]), Boolean.parseBoolean(rules[3])));
+            }
+            long start = System.nanoTime();
+            OpeningBook.build(Paths.get(args[1]), spaces);
+            System.out.println("{\"book\":\"" + args[1] + "\",\"spaces\":" + spaces.size() + ",\"elapsedSeconds\":"
+                    + String.format(Locale.ROOT, "%.3f", (System.nanoTime() - start) / 1e9) + "}");
+            return;
+        }
         ActorSystem system = ActorSystem.create("MySystem");
-        ActorRef act = system.actorOf(Props.create(Arbiter.class));
+        //the name is the persistence id of the Arbiter, so it recovers its game after a restart
+        ActorRef act = system.actorOf(Arbiter.props(), "Arbiter");
         new ViewFrame(act);
     }
 }
@@ -1,130 +1,377 @@
 package es1.actors;
 
-import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
-import akka.actor.ActorSystem;
+import akka.actor.Address;
+import akka.actor.AddressFromURIString;
+import akka.actor.Deploy;
+import akka.actor.OneForOneStrategy;
 import akka.actor.Props;
+import akka.actor.SupervisorStrategy;
+import akka.actor.Terminated;
 import akka.event.Logging;
 import akka.event.LoggingAdapter;
+import akka.japi.Procedure;
+import akka.japi.pf.DeciderBuilder;
+import akka.persistence.AbstractPersistentActor;
+import akka.persistence.DeleteMessagesFailure;
+import akka.persistence.DeleteMessagesSuccess;
+import akka.persistence.Recovery;
+import akka.persistence.RecoveryCompleted;
+import akka.persistence.SaveSnapshotFailure;
+import akka.persistence.SaveSnapshotSuccess;
+import akka.persistence.SnapshotOffer;
+import akka.remote.RemoteScope;
+import com.typesafe.config.Config;
+import es1.dispatch.GameMailbox;
+import es1.engine.CodeSpace;
+import es1.engine.Feedback;
+import es1.engine.Rules;
+import es1.engine.TurnOrder;
+import es1.journal.GameJournal;
+import es1.metrics.GameMetrics;
+import es1.metrics.LiveCounters;
+import es1.persistence.*;
+import es1.strategy.StrategyType;
 import es1.util.*;
-import es1.view.ViewFrame;
+import es1.view.GameObserver;
+import java.time.Duration;
 import java.util.*;
-import java.util.stream.IntStream;
 
 /**
  * This Class manage all action of the Arbiter in the game.
+ * Players and TimeoutActor of a game are children of the Arbiter, so they are stopped when the game ends, when it's
+ * stopped or when a new game starts. The bots can be deployed on other ActorSystems listed in
+ * es1.remote.player-nodes, the TimeoutActor and the Human Player are always local.
+ * The Arbiter is event sourced: the start of a game, the secret codes, every turn, every new round and the end of the
+ * game are events that change its state. With es1.persistence.enabled the events are journaled and snapshotted, and
+ * after a restart the Arbiter recovers the game, creates its Players again with the same codes and the attempts they
+ * made, and resumes it from the next turn. The events are identified by the id given to the Arbiter, unique to the
+ * games it plays, or by its path for the Arbiter of the GUI; at the end of a game they are replaced by a snapshot, so
+ * another game of the same Arbiter never replays them.
+ * In a game with simultaneous rounds all the Players of a round make their attempts at once: the Arbiter waits for the
+ * attempts of all of them, or for the timeout of the round, before it starts the next one, so a round lasts as much as
+ * its slowest Player instead of the sum of all of them.
  */
-public class Arbiter extends AbstractActor {
+public class Arbiter extends AbstractPersistentActor {
+
+    /**
+     * Message that starts the turn of a bot, it chooses its attempt and the Player to send it.
+     */
+    private static final TryAttempt BOT_TURN = new TryAttempt(false, -1, -1);
+
+    /**
+     * Id of the dispatcher of the Arbiters in the configuration.
+     */
+    public static final String DISPATCHER = "es1.dispatchers.arbiter";
 
     /**
      * Fields that represents all data of the Class.
      */
     private int nPlayers;
     private int count;
+    private int generated;
     private final ArrayList<ActorRef> players = new ArrayList<>();
-    private final Map<ActorRef, ArrayList<Integer>> playerCodes = new HashMap<>();
+    private final Map<ActorRef, Integer> playerIndexes = new HashMap<>();
+    private final Map<ActorRef, Integer> playerCodes = new HashMap<>();
+    private CodeSpace space;
     private ActorRef timeoutActor;
+    private GameClock clock = GameClock.SYSTEM;
+    private long timerTurn;
     private ActorRef humanPlayer;
-    private ArrayList<Integer> attempt = new ArrayList<>();
-    private int playerToSend = 0;
-    private ArrayList<Integer> turn;
-    private ViewFrame viewFrame;
+    private TurnOrder turn;
+    private final BitSet pending = new BitSet();
+    private GameObserver viewFrame = GameObserver.NONE;
+    private ActorRef requester;
+    private GameSettings settings;
+    private long[] latencies = new long[64];
     private boolean stop = false;
+    private Random random = new Random();
+    private long turnStart;
+    private int turns;
+    private long messages;
+    private int game;
+    private boolean running = false;
+    private final List<Address> playerNodes = new ArrayList<>();
+    private int nextPlayerNode;
+    private GameJournal journal;
+    private int journalGame;
+
+    /**
+     * Fields that represents the persistent state: the game in progress, its secret codes and its attempts, 4 values
+     * each: Player, target, packed attempt and packed result.
+     */
+    private final String gameId;
+    private final boolean durable;
+    private final Config persistence;
+    private StartMsg start;
+    private int[] codes;
+    private int[] history = new int[256];
+    private int historySize;
+    private boolean resuming;
+    private final long created = System.nanoTime();
+    private long recoveryNanos;
+    private final LoggingAdapter log = Logging.getLogger(getContext().getSystem(), this);
+
+    /**
+     * Supervision of the actors of the games: a failed actor is restarted as by default. A Player that fails loses the
+     * attempt or the answer it was working on, so the turn can only end with its timeout: on a virtual clock the game is
+     * idle and the TimeoutActor moves the clock to the deadline of the turn, that times out at once.
+     */
+    private final SupervisorStrategy supervision = new OneForOneStrategy(DeciderBuilder.matchAny(cause -> {
+        //the sender is the failed child
+        idle(getSender(), "failed");
+        return SupervisorStrategy.defaultDecider().apply(cause);
+    }).build());
+
+    /**
+     * Constructor of the Class, for an Arbiter whose events are identified by its path.
+     */
+    public Arbiter() {
+        this(null);
+    }
+
+    /**
+     * Constructor of the Class.
+     * @param gameId - unique id of the events of the Arbiter, null to identify them by its path.
+     */
+    public Arbiter(String gameId) {
+        this.gameId = gameId;
+        this.persistence = getContext().getSystem().settings().config().getConfig("es1.persistence");
+        this.durable = persistence.getBoolean("enabled");
+    }
+
+    /**
+     * Method that creates the Props of the Actor, with the mailbox of the games and the dispatcher of the Arbiters.
+     * @return the Props.
+     */
+    public static Props props() {
+        return Props.create(Arbiter.class).withMailbox(GameMailbox.ID).withDispatcher(DISPATCHER);
+    }
+
+    /**
+     * Method that creates the Props of an Arbiter whose events are identified by a unique id instead of its path, for
+     * the Arbiters whose path is reused by other games, with the mailbox of the games and the dispatcher of the Arbiters.
+     * @param gameId - unique id of the events of the Arbiter.
+     * @return the Props.
+     */
+    public static Props props(String gameId) {
+        return Props.create(Arbiter.class, gameId).withMailbox(GameMailbox.ID).withDispatcher(DISPATCHER);
+    }
 
     /**
      * Method that manage all operations of the Arbiter Player.
      * @return Message to Player or TimeOutActor with the Result of the Operation required.
      */
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        LiveCounters.actorStarted();
+        this.journal = GameJournal.get(getContext().getSystem());
+        //nodes where the bots are deployed, if there's none they are local
+        for(String node : getContext().getSystem().settings().config().getStringList("es1.remote.player-nodes")){
+            playerNodes.add(AddressFromURIString.parse(node));
+        }
+    }
+
+    @Override
+    public void postStop() {
+        stopGame();
+        LiveCounters.actorStopped();
+    }
+
+    @Override
+    public SupervisorStrategy supervisorStrategy() {
+        return supervision;
+    }
+
+    /**
+     * Method that return the id of the events of the Arbiter, the id of its games or else its path.
+     * @return the persistence id.
+     */
+    @Override
+    public String persistenceId() {
+        return gameId == null ? getSelf().path().toStringWithoutAddress() : gameId;
+    }
+
+    @Override
+    public String journalPluginId() {
+        return durable ? persistence.getString("journal-plugin") : "akka.persistence.journal.inmem";
+    }
+
+    @Override
+    public String snapshotPluginId() {
+        return durable ? persistence.getString("snapshot-plugin") : "akka.persistence.no-snapshot-store";
+    }
+
+    /**
+     * Method that return how the Arbiter recovers, without durable events there's nothing to recover.
+     * @return the recovery.
+     */
+    @Override
+    public Recovery recovery() {
+        return durable ? Recovery.create() : Recovery.none();
+    }
+
+    /**
+     * Method that rebuilds the state of the Arbiter from its snapshot and its events, and resumes the game in progress.
+     * @return the handlers of the snapshot and of the events.
+     */
+    @Override
+    public Receive createReceiveRecover() {
+        return receiveBuilder()
+                .match(SnapshotOffer.class, offer -> restore((ArbiterSnapshot) offer.snapshot()))
+                .match(GameStartedEvent.class, this::applyStart)
+                .match(CodesGeneratedEvent.class, this::applyCodes)
+                .match(TurnEndedEvent.class, this::applyTurn)
+                .match(RoundShuffledEvent.class, this::applyRound)
+                .match(GameEndedEvent.class, e -> applyEnd())
+                .match(RecoveryCompleted.class, r -> resume())
+                .build();
+    }
+
     @Override
     public Receive createReceive() {
-        LoggingAdapter log = Logging.getLogger(getContext().getSystem(), this);
         return receiveBuilder()
                 .match(
                         StartMsg.class,
                         msg -> {
-                            playerCodes.clear();
-                            players.clear();
-                            log.info("Pressed! " + "number: " +msg.getNumber() + " players: " + msg.getPlayers());
+                            stopGame();
+                            log.info("Pressed! number: {} players: {}", msg.getNumber(), msg.getPlayers());
                             //setting viewFrame
-                            this.viewFrame = msg.getViewFrame();
-                            //setting players number in order to magane turns
-                            this.nPlayers = msg.getPlayers();
-                            //Creating new actor system for players
-                            ActorSystem system = ActorSystem.create("PlayMistermind");
-                            //creating timeout Actor
-                            this.timeoutActor = system.actorOf(Props.create(TimeoutActor.class));
-                            //Creating plyers Actors and saving them into a List
-                            for(int i = 0; i < msg.getPlayers(); i++){
-                                players.add(system.actorOf(Props.create(Player.class), "Guess" + i));
-                            }
-                            //checking if there's an human player
-                            if(msg.isHumanPlayer()){
-                                this.humanPlayer = system.actorOf(Props.create(Player.class), msg.getPlayerName());
-                                log.info("ADDING HUMAN PLAYER...");
-                                players.add(humanPlayer);
-                                this.nPlayers = msg.getPlayers() + 1;
-                            }
-                            this.turn = generateRoundsList();
-                            this.count = 1;
-                            //telling player Actors to start
-                            players.forEach(p-> {
-                                if(p.equals(humanPlayer)){
-                                    log.info("SETTING UP HUMAN PLAYER...");
-                                    p.tell(new SetupHumanPlayer(msg.getNumber(), msg.getPlayerCode()), this.getSelf());
-                                }else{
-                                    p.tell(new SetupPlayer(msg.getNumber()), this.getSelf());
-                                }
+                            this.viewFrame = msg.getObserver() == null ? GameObserver.NONE : msg.getObserver();
+                            //the result of the game is sent also to the actor that started it, if there's one
+                            this.requester = getSender().equals(getContext().getSystem().deadLetters()) ? null : getSender();
+                            persistEvent(new GameStartedEvent(msg), e -> {
+                                applyStart(e);
+                                startPlayers();
                             });
                 })
                 .match(
                         StopMsg.class,
                         stopMsg -> {
                             log.info("STOP!");
-                            players.forEach(p-> p.tell(new StopMsg(), ActorRef.noSender()));
-                            timeoutActor.tell("StopTimer", ActorRef.noSender());
+                            if(start == null){
+                                stopGame();
+                                return;
+                            }
+                            persistEvent(new GameEndedEvent(-1), e -> {
+                                applyEnd();
+                                stopGame();
+                            });
                 })
                 .match(
                         HumanPlayerAttempt.class,
                         humanPlayerAttempt->{
-                            this.playerToSend = humanPlayerAttempt.getPlayerToSend();
-                            this.attempt = humanPlayerAttempt.getAttempt();
-                            humanPlayer.tell(new TryAttempt(players, true, attempt, playerToSend), this.getSelf());
+                            ArrayList<Integer> attempt = humanPlayerAttempt.getAttempt();
+                            //an attempt of the wrong length gets no right chars from any Player
+                            int code = attempt.size() == space.length() ? space.pack(attempt) : -1;
+                            humanPlayer.tell(new TryAttempt(true, code, humanPlayerAttempt.getPlayerToSend()), this.getSelf());
                 })
                 .match(
                         CodeGeneratedMsg.class,
                         done-> {
+                            if(!fromCurrentGame()){
+                                return;
+                            }
+                            messages++;
                             playerCodes.put(getSender(), done.getCode());
-                            if(count < nPlayers){
+                            if(++generated < nPlayers){
                                 log.info("DONE");
-                                count++;
-                            }else{
-                                this.count = 0;
-                                log.info("ALL PLAYERS GENERATED A SECRET NUMBER, THE GAME IS STARTING ...");
-                                Collections.shuffle(turn);
-                                log.info("Rounds: " + turn);
+                                return;
+                            }
+                            log.info("ALL PLAYERS GENERATED A SECRET NUMBER, THE GAME IS STARTING ...");
+                            //the roster that the messages of the turns refer to by index
+                            ActorRef[] roster = players.toArray(new ActorRef[0]);
+                            int human = humanPlayer == null ? -1 : indexOf(humanPlayer);
+                            for(int i = 0; i < roster.length; i++){
+                                roster[i].tell(new RosterMsg(roster, i, human), this.getSelf());
+                                messages++;
+                            }
+                            if(resuming){
+                                this.resuming = false;
+                                sendHistory(roster);
+                                journalSetup();
+                                log.info("Resuming from turn {}, rounds: {}", turns, turn);
+                                if(settings.isSimultaneous() && count > 0){
+                                    //the attempts of the interrupted round are lost with its Players, the round starts again
+                                    persistEvent(new RoundShuffledEvent(turn.toArray()), e -> {
+                                        applyRound(e);
+                                        nextTurn();
+                                    });
+                                    return;
+                                }
                                 nextTurn();
+                                return;
+                            }
+                            int[] generatedCodes = new int[roster.length];
+                            for(int i = 0; i < roster.length; i++){
+                                generatedCodes[i] = playerCodes.get(roster[i]);
                             }
+                            persistEvent(new CodesGeneratedEvent(generatedCodes, turn.shuffled(random)), e -> {
+                                applyCodes(e);
+                                journalSetup();
+                                log.info("Rounds: {}", turn);
+                                nextTurn();
+                            });
                 })
                 .match(
                         PlayerAttemptMsg.class,
                         guess-> {
+                            if(!fromCurrentGame() || !fromPlayerInTurn()){
+                                return;
+                            }
                             log.info("Player finished his turn.. next turn");
-                            timeoutActor.tell("ResetTimer", ActorRef.noSender());
-                            viewFrame.addEvent("Player" + players.indexOf(getSender()) + " attempt: " + guess.getAttempt() + "\t Result: " + guess.getResult());
-                            count++;
-                            nextTurn();
+                            GameMetrics.turnEnded(endTurn(3));
+                            int player = indexOf(getSender());
+                            if(settings.isSimultaneous()){
+                                //the timer of the round keeps running for the Players that didn't answer yet
+                                pending.clear(senderIndex());
+                            }else{
+                                resetTimer();
+                            }
+                            journal.attempt(journalGame, player, guess.getTarget(), guess.getAttempt(), guess.getResult());
+                            //the description is built only for an observer that shows it
+                            if(viewFrame != GameObserver.NONE){
+                                viewFrame.addEvent("Player" + player + " attempt: " + (guess.getAttempt() < 0 ? "[]" : space.toList(guess.getAttempt())) + "\t Result: " + Feedback.toList(guess.getResult()));
+                            }
+                            persistEvent(new TurnEndedEvent(TurnEndedEvent.ATTEMPT, player, guess.getTarget(), guess.getAttempt(), guess.getResult()), e -> {
+                                applyTurn(e);
+                                publish(e.getPlayer(), e.getAttempt(), e.getTarget(), e.getResult());
+                                nextTurn();
+                            });
                 })
-                .matchEquals(
-                        "Timeout",
+                .match(
+                        TimeoutMsg.class,
                         timeout->{
+                            //a timeout of a turn that already ended
+                            if(!running || timeout.getTurn() != timerTurn){
+                                return;
+                            }
+                            if(generated < nPlayers){
+                                //a Player that doesn't generate its code would keep the game from starting forever
+                                log.warning("Only {} of {} Players generated their code, the game ends", generated, nPlayers);
+                                viewFrame.addEvent("Timeout... the Players didn't generate their codes, the game ends without a winner");
+                                endGame(-1);
+                                return;
+                            }
+                            if(settings.isSimultaneous()){
+                                roundTimedOut();
+                                return;
+                            }
                             log.info("Timeout... starting next turn");
+                            endTurn(2);
+                            GameMetrics.turnTimedOut();
                             viewFrame.addEvent("Timeout... starting next players turn");
-                            players.get(turn.get(count)).tell("Timeout", this.getSelf());
-                            count++;
-                            nextTurn();
+                            int player = turn.get(count);
+                            journal.timeout(journalGame, player);
+                            players.get(player).tell("Timeout", this.getSelf());
+                            persistEvent(new TurnEndedEvent(TurnEndedEvent.TIMEOUT, player), e -> {
+                                applyTurn(e);
+                                nextTurn();
+                            });
                 })
                 .match(
-                		HumanWinMsg.class, 
+                		HumanWinMsg.class,
                 		humanWin -> {
                 			ArrayList<Pair<ActorRef, ArrayList<Integer>>> tmp = new ArrayList<>();
                 			for(int i = 0; i < humanWin.getResult().size(); i++) {
@@ -135,78 +382,539 @@ public class Arbiter extends AbstractActor {
                 .match(
                         WinMsg.class,
                         win->{
+                            //a win message of the GUI comes from the Human Player
+                            int player = senderIndex();
+                            if(!fromCurrentGame() || !fromPlayerInTurn() || player < 0){
+                                return;
+                            }
+                            endTurn(3);
                         	//checking if players guess is correct
-                            if(checkWinner(win.getResult())){
-                                log.info("WINNERRRRRRRRR: " + getSender());
-                                timeoutActor.tell("StopTimer", ActorRef.noSender());
-                                viewFrame.addEvent("Winner: " + "Player" + players.indexOf(getSender()));
+                            boolean valid = checkWinner(win.getResult());
+                            if(journal.isEnabled()){
+                                journalWin(win.getResult(), valid);
+                            }
+                            if(valid){
+                                log.info("WINNERRRRRRRRR: {}", players.get(player));
+                                viewFrame.addEvent("Winner: " + "Player" + player);
                                 win.getResult().forEach(res-> {
-                                    ArrayList<Integer> tmp = playerCodes.get(res.getKey());
-                                    viewFrame.addEvent("Player" + players.indexOf(res.getKey()) + " numbers: "+ tmp  + "Guessed:  " + res.getValue());
+                                    ArrayList<Integer> tmp = space.toList(playerCodes.get(res.getKey()));
+                                    viewFrame.addEvent("Player" + indexOf(res.getKey()) + " numbers: "+ tmp  + "Guessed:  " + res.getValue());
                                 });
-                                //telling all players to stop couse one player submitted the correct guess
-                                players.forEach(p-> p.tell(new StopMsg(), ActorRef.noSender()));
-                                timeoutActor.tell("Stop", ActorRef.noSender());
+                                //stopping all players couse one player submitted the correct guess
+                                this.turns++;
+                                endGame(player);
                             } else {
                             	//removing the player that submitted the wrong guess
-                                turn.remove(count);
                                 //players.get(count).tell(new StopMsg(), ActorRef.noSender());
-                                count++;
-                                nextTurn();
+                                //the Human Player can claim the win out of its turn, the turn in progress goes on
+                                boolean inTurn = settings.isSimultaneous() || (count < turn.size() && turn.get(count) == player);
+                                if(settings.isSimultaneous()){
+                                    pending.clear(player);
+                                }
+                                persistEvent(new TurnEndedEvent(TurnEndedEvent.WRONG_WIN, player), e -> {
+                                    applyTurn(e);
+                                    if(inTurn){
+                                        nextTurn();
+                                    }
+                                });
                             }
-        }).build();
+                })
+                .match(
+                        Terminated.class,
+                        //a Player stopped, or its node is gone, before the end of the game
+                        terminated -> idle(terminated.getActor(), "stopped"))
+                .match(
+                        GetGameStatusMsg.class,
+                        status -> getSender().tell(new GameStatusMsg(start != null, turns, recoveryNanos), getSelf()))
+                .match(SaveSnapshotSuccess.class, saved -> log.debug("Snapshot saved at {}", saved.metadata().sequenceNr()))
+                .match(SaveSnapshotFailure.class, failed -> log.warning("Snapshot failed: {}", failed.cause()))
+                .match(DeleteMessagesSuccess.class, deleted -> log.debug("Events deleted up to {}", deleted.toSequenceNr()))
+                .match(DeleteMessagesFailure.class, failed -> log.warning("Events not deleted: {}", failed.cause()))
+                .build();
+    }
+
+    /**
+     * Method that changes the state with an event, after it's journaled if the Arbiter is durable, and snapshots the
+     * state every es1.persistence.snapshot-every events and at the end of the game, whose events are then deleted.
+     * @param event - the event.
+     * @param handler - the change of the state and the actions that follow it.
+     * @param <E> - type of the event.
+     * @throws Exception if the handler fails.
+     */
+    private <E> void persistEvent(E event, Procedure<E> handler) throws Exception {
+        if(!durable){
+            handler.apply(event);
+            return;
+        }
+        persist(event, e -> {
+            handler.apply(e);
+            if(e instanceof GameEndedEvent){
+                //the snapshot of the end replaces the events, so they are never replayed into another game
+                saveSnapshot(snapshot());
+                deleteMessages(lastSequenceNr());
+            }else if(lastSequenceNr() % persistence.getInt("snapshot-every") == 0){
+                saveSnapshot(snapshot());
+            }
+        });
+    }
+
+    /**
+     * Method that changes the state for the start of a game.
+     * @param e - the event.
+     */
+    private void applyStart(GameStartedEvent e) {
+        this.start = e.getStart();
+        //a Human Player plays in real time
+        this.settings = start.isHumanPlayer() ? start.getSettings().withVirtualTime(false) : start.getSettings();
+        this.random = settings.getSeed() == null ? new Random() : new Random(settings.getSeed());
+        this.turns = 0;
+        this.messages = 1;
+        //setting players number in order to magane turns
+        this.nPlayers = start.getPlayers() + (start.isHumanPlayer() ? 1 : 0);
+        this.space = CodeSpace.of(start.getNumber());
+        this.codes = null;
+        this.historySize = 0;
+        this.count = 0;
+    }
+
+    /**
+     * Method that changes the state for the secret codes and the first round.
+     * @param e - the event.
+     */
+    private void applyCodes(CodesGeneratedEvent e) {
+        this.codes = e.getCodes();
+        this.turn = new TurnOrder(nPlayers, e.getOrder());
+        this.count = 0;
+    }
+
+    /**
+     * Method that changes the state for the end of a turn.
+     * @param e - the event.
+     */
+    private void applyTurn(TurnEndedEvent e) {
+        this.turns++;
+        if(e.getKind() == TurnEndedEvent.WRONG_WIN){
+            //the Player that takes the place of the removed one didn't play yet, in a sequential round it's the next
+            //in turn and in a simultaneous one the round ends when the Players left in it answered
+            turn.remove(e.getPlayer());
+            return;
+        }
+        if(e.getKind() == TurnEndedEvent.ATTEMPT){
+            if(historySize + 4 > history.length){
+                history = Arrays.copyOf(history, history.length * 2);
+            }
+            history[historySize++] = e.getPlayer();
+            history[historySize++] = e.getTarget();
+            history[historySize++] = e.getAttempt();
+            history[historySize++] = e.getResult();
+        }
+        count++;
+    }
+
+    /**
+     * Method that changes the state for a new round.
+     * @param e - the event.
+     */
+    private void applyRound(RoundShuffledEvent e) {
+        this.turn.reset(e.getOrder());
+        this.count = 0;
+    }
+
+    /**
+     * Method that changes the state for the end of the game.
+     */
+    private void applyEnd() {
+        this.start = null;
+        this.codes = null;
+        this.historySize = 0;
+    }
+
+    /**
+     * Method that returns the snapshot of the state.
+     * @return the snapshot.
+     */
+    private ArbiterSnapshot snapshot() {
+        return new ArbiterSnapshot(start, codes, turn == null ? new int[0] : turn.toArray(), count, turns, Arrays.copyOf(history, historySize));
+    }
+
+    /**
+     * Method that changes the state to the one of a snapshot.
+     * @param snapshot - the snapshot.
+     */
+    private void restore(ArbiterSnapshot snapshot) {
+        if(snapshot.getStart() == null){
+            applyEnd();
+            return;
+        }
+        applyStart(new GameStartedEvent(snapshot.getStart()));
+        this.codes = snapshot.getCodes();
+        this.turn = new TurnOrder(nPlayers, snapshot.getOrder());
+        this.count = snapshot.getCount();
+        this.turns = snapshot.getTurns();
+        this.history = Arrays.copyOf(snapshot.getHistory(), Math.max(256, snapshot.getHistory().length));
+        this.historySize = snapshot.getHistory().length;
+    }
+
+    /**
+     * Method called when the recovery ends, it resumes the game in progress if there's one. A game whose codes weren't
+     * all generated is started again.
+     */
+    private void resume() {
+        this.recoveryNanos = System.nanoTime() - created;
+        if(start == null){
+            return;
+        }
+        log.info("Recovered game after {} turns in {} ms", turns, recoveryNanos / 1000000);
+        this.resuming = codes != null;
+        startPlayers();
+    }
+
+    /**
+     * Method that creates the actors of the game and sets up the Players, with the codes of the state when the game is
+     * resumed.
+     */
+    private void startPlayers() {
+        this.game++;
+        this.running = true;
+        LiveCounters.gameStarted();
+        playerCodes.clear();
+        players.clear();
+        playerIndexes.clear();
+        pending.clear();
+        this.humanPlayer = null;
+        this.generated = 0;
+        //one clock for all the actors of the game on this node
+        this.clock = GameClock.of(settings);
+        //creating timeout Actor, the names of the children get the number of the game because the
+        //ones of the previous game could still be stopping
+        this.timeoutActor = getContext().actorOf(TimeoutActor.props(Duration.ofMillis(settings.getTurnTimeout()), clock), "Timeout-" + game);
+        //the Players generate their codes within the timeout of a turn, the id of the timer is a new one so a timeout of
+        //the previous game doesn't match it
+        timeoutActor.tell(new StartTimerMsg(++timerTurn), this.getSelf());
+        //Creating plyers Actors and saving them into a List
+        for(int i = 0; i < start.getPlayers(); i++){
+            players.add(getContext().watch(getContext().actorOf(playerProps(), "Guess" + i + "-" + game)));
+            playerIndexes.put(players.get(i), i);
+        }
+        //checking if there's an human player
+        if(start.isHumanPlayer()){
+            this.humanPlayer = getContext().watch(getContext().actorOf(Player.props(clock), start.getPlayerName() + "-" + game));
+            log.info("ADDING HUMAN PLAYER...");
+            playerIndexes.put(humanPlayer, players.size());
+            players.add(humanPlayer);
+        }
+        if(!resuming){
+            this.turn = TurnOrder.of(nPlayers);
+        }
+        //telling player Actors to start
+        for(int i = 0; i < players.size(); i++){
+            ActorRef p = players.get(i);
+            if(p.equals(humanPlayer)){
+                log.info("SETTING UP HUMAN PLAYER...");
+                p.tell(new SetupHumanPlayer(start.getNumber(), resuming ? space.toList(codes[i]) : start.getPlayerCode()), this.getSelf());
+            }else{
+                //each bot gets its own strategy and its own seed derived from the one of the game
+                GameSettings playerSettings = settings.withStrategy(settings.getStrategy(i));
+                if(settings.getSeed() != null){
+                    playerSettings = playerSettings.withSeed(random.nextLong());
+                }
+                p.tell(new SetupPlayer(start.getNumber(), playerSettings, resuming ? codes[i] : -1), this.getSelf());
+            }
+            messages++;
+        }
+    }
+
+    /**
+     * Method that sends to every Player of a resumed game the attempts it made before the restart.
+     * @param roster - the Players.
+     */
+    private void sendHistory(ActorRef[] roster) {
+        for(int i = 0; i < historySize; i += 4){
+            roster[history[i]].tell(new PlayerAttemptMsg(history[i + 2], history[i + 1], history[i + 3]), this.getSelf());
+            messages++;
+            publish(history[i], history[i + 2], history[i + 1], history[i + 3]);
+        }
+    }
+
+    /**
+     * Method that publishes an attempt on the public board: the bots other than the one that made it and the one that
+     * received it narrow with it the codes still possible for the opponent. The board of a game is its roster, so it
+     * reaches the Players of the game on any node and no other game. The next turn starts after the publication, so
+     * every Player sees all the attempts made before its turn.
+     * @param player - index of the Player that made the attempt.
+     * @param attempt - the packed attempt.
+     * @param target - index of the opponent.
+     * @param result - the packed result.
+     */
+    private void publish(int player, int attempt, int target, int result) {
+        if(!settings.isPublicBoard()){
+            return;
+        }
+        PublicAttemptMsg msg = new PublicAttemptMsg(player, attempt, target, result);
+        for(int i = 0; i < players.size(); i++){
+            if(i != player && i != target && !players.get(i).equals(humanPlayer)){
+                players.get(i).tell(msg, this.getSelf());
+                messages++;
+            }
+        }
+    }
+
+    /**
+     * Method that writes the start of the game in the journal of the games.
+     */
+    private void journalSetup() {
+        if(journal.isEnabled()){
+            StrategyType[] strategies = new StrategyType[codes.length];
+            for(int i = 0; i < codes.length; i++){
+                strategies[i] = players.get(i).equals(humanPlayer) ? null : settings.getStrategy(i);
+            }
+            this.journalGame = journal.setup(space.length(), codes, strategies, settings.getSeed());
+        }
+    }
+
+    /**
+     * Method that checks if the message being processed belongs to the current game, messages of the Players of a
+     * previous game can still arrive after it ended. Messages without sender come from the GUI.
+     * @return true if the message must be handled.
+     */
+    private boolean fromCurrentGame() {
+        return running && (getSender().equals(getContext().getSystem().deadLetters()) || playerIndexes.containsKey(getSender()));
+    }
+
+    /**
+     * Method that checks if the message being processed comes from the Player of the current turn. The timeout of a turn
+     * overtakes the messages waiting in the mailbox, so an attempt or a win message can arrive after its turn ended.
+     * Messages without sender come from the GUI. No turn is in progress until all the Players generated their codes.
+     * @return true if the message must be handled.
+     */
+    private boolean fromPlayerInTurn() {
+        if(generated < nPlayers){
+            return false;
+        }
+        if(settings.isSimultaneous()){
+            int player = senderIndex();
+            return player >= 0 && pending.get(player);
+        }
+        return getSender().equals(getContext().getSystem().deadLetters())
+                || (count < turn.size() && turn.get(count) == indexOf(getSender()));
+    }
+
+    /**
+     * Method that return the index of the Player that sent the message being processed, the messages without sender
+     * come from the GUI on behalf of the Human Player.
+     * @return the index or -1 if the sender isn't a Player of the game.
+     */
+    private int senderIndex() {
+        return indexOf(getSender().equals(getContext().getSystem().deadLetters()) ? humanPlayer : getSender());
+    }
+
+    /**
+     * Method that return the index of a Player of the game.
+     * @param player - the Player.
+     * @return the index or -1 if it isn't a Player of the game.
+     */
+    private int indexOf(ActorRef player) {
+        Integer index = playerIndexes.get(player);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Method that stops the actors of the current game, if there's one.
+     */
+    private void stopGame() {
+        if(running){
+            this.running = false;
+            LiveCounters.gameEnded();
+            players.forEach(p -> {
+                getContext().unwatch(p);
+                getContext().stop(p);
+            });
+            getContext().stop(timeoutActor);
+        }
+    }
+
+    /**
+     * Method that returns the Props of a bot, deployed on the next player node in round robin if there are any. A local
+     * bot shares the clock of the game, a remote one has its own.
+     * @return the Props of the Player.
+     */
+    private Props playerProps() {
+        if(playerNodes.isEmpty()){
+            return Player.props(clock);
+        }
+        Address node = playerNodes.get(nextPlayerNode++ % playerNodes.size());
+        return Player.props().withDeploy(new Deploy(new RemoteScope(node)));
     }
 
     /**
-     * Method that generates the list of the random turns.
-     * @return the turn of the Game.
+     * Method called when a Player failed or stopped: on a virtual clock the turn it was part of can only end with its
+     * timeout, so the game is idle.
+     * @param ref - the Player.
+     * @param reason - what happened to the Player.
      */
-    private ArrayList<Integer> generateRoundsList() {
-        ArrayList<Integer> turn = new ArrayList<>();
-        IntStream.range(0, nPlayers)
-                .distinct()
-                .limit(nPlayers)
-                .forEach(turn::add);
-        return turn;
+    private void idle(ActorRef ref, String reason) {
+        int player = indexOf(ref);
+        if(running && settings.isVirtualTime() && player >= 0){
+            log.warning("Player{} {}, the game is idle until the timeout of the turn", player, reason);
+            timeoutActor.tell("Idle", this.getSelf());
+        }
+    }
+
+    /**
+     * Method that ends the game, reports its result to the observer and to the requester and stops its actors.
+     * @param winner - index of the winner, -1 if the game ends without one.
+     * @throws Exception if the end of the game can't be journaled.
+     */
+    private void endGame(int winner) throws Exception {
+        StrategyType strategy = winner < 0 || players.get(winner).equals(humanPlayer) ? null : settings.getStrategy(winner);
+        timerTurn++;
+        timeoutActor.tell("StopTimer", ActorRef.noSender());
+        persistEvent(new GameEndedEvent(winner), e -> {
+            viewFrame.gameEnded(winner, turns, messages);
+            if(requester != null){
+                requester.tell(new GameResultMsg(winner, strategy, turns, messages, Arrays.copyOf(latencies, turns)), this.getSelf());
+            }
+            applyEnd();
+            stopGame();
+            gameFinished();
+        });
+    }
+
+    /**
+     * Method called after a game ended and its actors were stopped, subclasses can release the Arbiter.
+     */
+    protected void gameFinished() {
     }
 
     /**
      * Method that starts next players turn if it's the last player turn shuffles the list and restart the round robin.
+     * @throws Exception if the new round can't be journaled.
      */
-    private void nextTurn() {
+    private void nextTurn() throws Exception {
         //Thread.sleep(1000);
         if(!stop){
-            timeoutActor.tell("StartTimer", this.getSelf());
+            if(settings.isSimultaneous() && (!pending.isEmpty() || (count > 0 && count < turn.size()))){
+                //the round is still waiting for the attempts of some Players
+                return;
+            }
+            if(turn.size() == 0){
+                //every Player was removed by a wrong win message
+                log.info("No players left, the game ends without a winner");
+                viewFrame.addEvent("No players left, the game ends without a winner");
+                endGame(-1);
+                return;
+            }
+            timeoutActor.tell(new StartTimerMsg(++timerTurn), this.getSelf());
             if(count < turn.size()){
-                if(players.get(turn.get(count)).equals(humanPlayer)){
-                    viewFrame.addEvent("Please chose a code and a player to send it..");
+                if(settings.isSimultaneous()){
+                    for(int i = 0; i < turn.size(); i++){
+                        pending.set(turn.get(i));
+                        startTurn(turn.get(i));
+                    }
                 }else{
-                    players.get(turn.get(count)).tell(new TryAttempt(players, false, attempt, playerToSend), this.getSelf());
+                    startTurn(turn.get(count));
                 }
+                this.turnStart = System.nanoTime();
             }else{
-                System.out.println("All players done one turn... changing turn order");
-                count = 0;
-                Collections.shuffle(turn);
-                System.out.println("NEW ORDER: " + turn);
-                nextTurn();
+                log.info("All players done one turn... changing turn order");
+                persistEvent(new RoundShuffledEvent(turn.shuffled(random)), e -> {
+                    applyRound(e);
+                    log.info("NEW ORDER: {}", turn);
+                    nextTurn();
+                });
             }
         }
     }
 
+    /**
+     * Method that cancels the timer of the turn that ended, a timeout of it already sent is dropped.
+     */
+    private void resetTimer() {
+        timerTurn++;
+        timeoutActor.tell("ResetTimer", ActorRef.noSender());
+    }
+
+    /**
+     * Method that asks a Player to make its attempt, the Human Player is asked through the GUI.
+     * @param player - index of the Player.
+     */
+    private void startTurn(int player) {
+        if(players.get(player).equals(humanPlayer)){
+            viewFrame.addEvent("Please chose a code and a player to send it..");
+        }else{
+            players.get(player).tell(BOT_TURN, this.getSelf());
+        }
+        messages += 2;
+    }
+
+    /**
+     * Method that ends a simultaneous round that timed out: the Players that didn't answer lose their turn and the next
+     * round starts when the last of them is journaled.
+     * @throws Exception if the turns can't be journaled.
+     */
+    private void roundTimedOut() throws Exception {
+        log.info("Timeout... starting next round");
+        viewFrame.addEvent("Timeout... starting next round");
+        //the Players are taken out of the round before it ends, the next round marks its own
+        BitSet missing = (BitSet) pending.clone();
+        pending.clear();
+        for(int player = missing.nextSetBit(0); player >= 0; player = missing.nextSetBit(player + 1)){
+            journal.timeout(journalGame, player);
+            players.get(player).tell("Timeout", this.getSelf());
+            persistEvent(new TurnEndedEvent(TurnEndedEvent.TIMEOUT, player), e -> {
+                endTurn(2);
+                GameMetrics.turnTimedOut();
+                applyTurn(e);
+                nextTurn();
+            });
+        }
+    }
+
+    /**
+     * Method that ends the current turn and reports it to the observer.
+     * @param received - messages of the turn not sent or received by the Arbiter: the attempt and the response
+     *                 exchanged by the Players, the timeout and the message that ended the turn.
+     * @return the latency of the turn in nanoseconds.
+     */
+    private long endTurn(int received) {
+        long latency = System.nanoTime() - turnStart;
+        if(turns == latencies.length){
+            latencies = Arrays.copyOf(latencies, turns * 2);
+        }
+        latencies[turns] = latency;
+        messages += received;
+        viewFrame.turnCompleted(latency);
+        return latency;
+    }
+
+    /**
+     * Method that writes a win message in the journal, with the index of the Players instead of their references.
+     * @param results - the codes claimed by the sender.
+     * @param valid - true if the claim was accepted.
+     */
+    private void journalWin(ArrayList<Pair<ActorRef, ArrayList<Integer>>> results, boolean valid) {
+        int[] targets = new int[results.size()];
+        int[] claims = new int[results.size()];
+        for(int i = 0; i < results.size(); i++){
+            targets[i] = indexOf(results.get(i).getKey());
+            ArrayList<Integer> claim = results.get(i).getValue();
+            claims[i] = claim.size() == space.length() ? space.pack(claim) : -1;
+        }
+        journal.win(journalGame, senderIndex(), valid, targets, claims);
+    }
+
     /**
      * Method that checks if the submitted result is correct.
      * @param results with the Secret Code.
      * @return true if correct or false if not.
      */
     private boolean checkWinner(ArrayList<Pair<ActorRef, ArrayList<Integer>>> results){
-        ArrayList<Boolean> winCondition = new ArrayList<>();
-        results.forEach(res-> {
-            ArrayList<Integer> tmp = playerCodes.get(res.getKey());
-            System.out.println("Players numbers: "+tmp  + "Guessed:  " + res.getValue());
-            for(int i = 0; i < tmp.size(); i++){
-                winCondition.add(tmp.get(i).equals(res.getValue().get(i)));
-            }
-        });
-        return winCondition.stream().noneMatch(cond -> cond.equals(false));
+        if(log.isInfoEnabled()){
+            results.forEach(res-> {
+                Integer code = playerCodes.get(res.getKey());
+                log.info("Players numbers: {} Guessed: {}", code == null ? null : space.toList(code), res.getValue());
+            });
+        }
+        return Rules.checkWinner(playerCodes, results, space);
     }
-}
\ No newline at end of file
+}
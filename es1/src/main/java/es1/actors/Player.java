@@ -1,16 +1,32 @@
 package es1.actors;
 
 import akka.actor.*;
+import akka.dispatch.RequiresMessageQueue;
 import akka.event.Logging;
 import akka.event.LoggingAdapter;
+import akka.pattern.Patterns;
+import es1.dispatch.GameMailbox;
+import es1.engine.CandidateSet;
+import es1.engine.CodeSpace;
+import es1.engine.Feedback;
+import es1.engine.Rules;
+import es1.metrics.GameMetrics;
+import es1.metrics.LiveCounters;
+import es1.strategy.GuessStrategy;
+import es1.strategy.TargetStrategy;
 import es1.util.*;
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class that is the Actor that Manages all Player (Human or Not) of the Game.
  */
-public class Player extends AbstractActor {
+public class Player extends AbstractActor implements RequiresMessageQueue<GameMailbox.GameSemantics> {
+
+    /**
+     * Id of the dispatcher of the Players in the configuration.
+     */
+    public static final String DISPATCHER = "es1.dispatchers.player";
 
     /**
      * Fields that represents all data of the Class.
@@ -19,26 +35,83 @@ public class Player extends AbstractActor {
     private int _codeLength;
     private int _minCodeValue;
     private int _maxCodeValue;
-    private int numberOfPlayers;
     private boolean stop;
     private boolean timeout;
-    private ArrayList<Integer> _code = new ArrayList<>();
+    private int _code;
+    private CodeSpace space;
     private ActorRef sendedTo;
+    private int sendedToIndex;
+    private GuessStrategy strategy;
+    private TargetStrategy target;
     private ActorRef arbiterRef;
     private ArrayList<Integer> currentAttempt;
+    private int currentCode;
+    private ActorRef[] roster;
+    private int index;
+    private int human = -1;
+    private int guessRequest;
+    private long guessStart;
+    private long attemptSent;
+    private Random random = new Random();
     private final ArrayList<Pair<ActorRef, ArrayList<Integer>>> results = new ArrayList<>();
-    private final ArrayList<Integer> basicLogicIA = new ArrayList<>();
+    private final BitSet solved = new BitSet();
+    private CandidateSet[] candidates;
+    private final BitSet inconsistent = new BitSet();
+    private final GameClock clock;
+    private final LoggingAdapter log = Logging.getLogger(getContext().getSystem(), this);
+
+    /**
+     * Constructor of the Class, for a Player with its own clock.
+     */
+    public Player() {
+        this(null);
+    }
+
+    /**
+     * Constructor of the Class.
+     * @param clock - the clock of the game, null for a clock of the Player created from the settings of the game.
+     */
+    public Player(GameClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Method that creates the Props of the Actor, with the dispatcher of the Players.
+     * @return the Props.
+     */
+    public static Props props() {
+        return Props.create(Player.class).withDispatcher(DISPATCHER);
+    }
+
+    /**
+     * Method that creates the Props of a Player that shares the clock of its game, with the dispatcher of the Players.
+     * The clock isn't serializable, the Actor is created on the node of its Arbiter.
+     * @param clock - the clock of the game.
+     * @return the Props.
+     */
+    public static Props props(GameClock clock) {
+        return Props.create(Player.class, clock).withDispatcher(DISPATCHER);
+    }
 
     /**
      * Method to pre-Setup variables before Actor starts working.
      */
     public void preStart() {
         _codeLength = 2;
-        _minCodeValue = 1;
-        _maxCodeValue = 10;
-        _duplicatesAllowed = false;
+        _minCodeValue = CodeSpace.DEFAULT_MIN_VALUE;
+        _maxCodeValue = CodeSpace.DEFAULT_MAX_VALUE;
+        _duplicatesAllowed = CodeSpace.DEFAULT_DUPLICATES_ALLOWED;
         stop = false;
         timeout = false;
+        LiveCounters.actorStarted();
+    }
+
+    /**
+     * Method called when the Actor is stopped, at the end of its game.
+     */
+    @Override
+    public void postStop() {
+        LiveCounters.actorStopped();
     }
 
     /**
@@ -47,34 +120,81 @@ public class Player extends AbstractActor {
      */
     @Override
     public Receive createReceive() {
-        LoggingAdapter log = Logging.getLogger(getContext().getSystem(), this);
         return receiveBuilder()
                 .match(
                         SetupPlayer.class,
                         s -> {
                             results.clear();
-                            _code.clear();
+                            solved.clear();
                             this.stop = false;
                             this._codeLength = s.getNumber();
-                            generateCode();
-                            log.info("Created New Code" + _code);
+                            this.random = s.getSettings().getSeed() == null ? new Random() : new Random(s.getSettings().getSeed());
+                            this.space = CodeSpace.of(_codeLength, _minCodeValue, _maxCodeValue, _duplicatesAllowed);
+                            //the Strategy draws from the generator of the Player, so a seeded bot always plays the same attempts
+                            this.strategy = s.getSettings().getStrategy().create(s.getSettings().getGuessBudget(), random, clock == null ? GameClock.of(s.getSettings()) : clock);
+                            this.target = s.getSettings().getTarget().create(random);
+                            //a resumed game gives back the code of the Player
+                            if(s.getCode() < 0){
+                                generateCode();
+                            }else{
+                                this._code = s.getCode();
+                            }
+                            log.info("Created New Code {}", space.toList(_code));
                             getSender().tell(new CodeGeneratedMsg(_code), this.getSelf());
                 })
                 .match(
                         SetupHumanPlayer.class,
                         setupHumanPlayer -> {
+                            results.clear();
+                            solved.clear();
                             this.stop = false;
                             this._codeLength = setupHumanPlayer.getNumber();
-                            _code = setupHumanPlayer.getCode();
-                            log.info("Created New Code" + _code);
+                            this.strategy = null;
+                            this.space = CodeSpace.of(_codeLength, _minCodeValue, _maxCodeValue, _duplicatesAllowed);
+                            _code = space.pack(setupHumanPlayer.getCode());
+                            log.info("Created New Code {}", setupHumanPlayer.getCode());
                             getSender().tell(new CodeGeneratedMsg(_code), this.getSelf());
                 })
+                .match(
+                        RosterMsg.class,
+                        r -> {
+                            this.roster = r.getRoster();
+                            this.index = r.getIndex();
+                            this.human = r.getHuman();
+                            this.candidates = new CandidateSet[roster.length];
+                            inconsistent.clear();
+                })
+                .match(
+                        PlayerAttemptMsg.class,
+                        past -> {
+                            //an attempt made before the restart of a resumed game
+                            int result = past.getResult();
+                            if(strategy != null && past.getAttempt() >= 0){
+                                candidatesOf(past.getTarget()).retain(past.getAttempt(), result);
+                            }
+                            if(Rules.isSolved(space, result) && !solved.get(past.getTarget())){
+                                solved.set(past.getTarget());
+                                results.add(new Pair<>(roster[past.getTarget()], space.toList(past.getAttempt())));
+                            }
+                })
+                .match(
+                        PublicAttemptMsg.class,
+                        board -> {
+                            //an attempt of another Player on the public board, its result narrows the codes of the
+                            //opponent also for this Player
+                            if(strategy != null && board.getAttempt() >= 0 && board.getTarget() != index){
+                                candidatesOf(board.getTarget()).retain(board.getAttempt(), board.getResult());
+                            }
+                })
                 .match(
                         SendAttemptToPlayer.class,
                         s -> {
                             log.info("Received Attempt of Another Actor");
-                            getSender().tell(new SendResponseToPlayer(checkAttempt(s.getAttempt())), this.getSelf());
-                            log.info("tentativo" + checkAttempt(s.getAttempt()).toString());
+                            int result = checkAttempt(s.getAttempt());
+                            getSender().tell(new SendResponseToPlayer(result), this.getSelf());
+                            if(log.isInfoEnabled()){
+                                log.info("tentativo {}", Feedback.toList(result));
+                            }
                 })
                 .match(
                         TryAttempt.class,
@@ -83,39 +203,68 @@ public class Player extends AbstractActor {
                                 //Decoment in order to test TimeoutActor
                                 //Thread.sleep(10000);
                                 this.timeout = false;
-                                this.numberOfPlayers = s.getPlayers().size();
                                 this.arbiterRef = getSender();
                                 //checks if the current player is a human player or a bot
                                 if(s.isHuman()){
-                                    this.currentAttempt = s.getAttempt();
-                                    log.info("Inserted Code: " + currentAttempt);
-                                    this.sendedTo = s.getPlayers().get(s.getPlayerToSend());
+                                    this.currentCode = s.getAttempt();
+                                    this.currentAttempt = currentCode < 0 ? new ArrayList<>() : space.toList(currentCode);
+                                    log.info("Inserted Code: {}", currentAttempt);
+                                    this.sendedToIndex = s.getPlayerToSend();
+                                    this.sendedTo = roster[sendedToIndex];
+                                    sendAttempt();
                                 }else{
-                                    this.currentAttempt = generateGuess();
-                                    log.info("Generated Code: " + currentAttempt);
-                                    int num = new Random().nextInt(s.getPlayers().size());
-                                    while(num == s.getPlayers().indexOf(this.getSelf())){
-                                        num = new Random().nextInt(s.getPlayers().size());
+                                    int num = target.nextTarget(index, space, candidates, solved);
+                                    this.sendedToIndex = num;
+                                    this.sendedTo = roster[num];
+                                    //expensive strategies compute the attempt on the compute pool and send it back as a message
+                                    int request = ++guessRequest;
+                                    this.guessStart = System.nanoTime();
+                                    CandidateSet set = candidatesOf(num);
+                                    CompletableFuture<Integer> guess = set.size() == 0 ? CompletableFuture.completedFuture(randomAttempt(set))
+                                            : strategy.nextGuessAsync(set).toCompletableFuture();
+                                    if(guess.isDone()){
+                                        setAttempt(guess.join());
+                                        sendAttempt();
+                                    }else{
+                                        //a failure carries the request too, so a late one is dropped like a late attempt
+                                        Patterns.pipe(guess.handle((attempt, failure) -> failure == null ? new GuessComputedMsg(request, attempt)
+                                                : new GuessComputedMsg(request, failure)), getContext().getDispatcher())
+                                                .to(this.getSelf());
                                     }
-                                    this.sendedTo = s.getPlayers().get(num);
-                                }
-
-                                if(!timeout){
-                                    sendedTo.tell(new SendAttemptToPlayer(s.getPlayers(), currentAttempt), this.getSelf());
                                 }
                             }
                 })
+                .match(
+                        GuessComputedMsg.class,
+                        guess -> {
+                            if(stop || guess.getRequest() != guessRequest){
+                                return;
+                            }
+                            if(guess.getFailure() != null){
+                                log.error(guess.getFailure(), "Attempt computation failed, using a random candidate");
+                                setAttempt(randomAttempt(candidatesOf(sendedToIndex)));
+                            }else{
+                                setAttempt(guess.getAttempt());
+                            }
+                            sendAttempt();
+                })
                 .match(
                         SendResponseToPlayer.class,
                         response-> {
                         	
+                             GameMetrics.responseReceived(System.nanoTime() - attemptSent);
                              if(!timeout){
-                                 log.info("SENDED TO: " + sendedTo + "SENDER: " + getSender());
-                                 log.info("RESULT: " + response.getResult());
+                                 if(log.isInfoEnabled()){
+                                     log.info("SENDED TO: {} SENDER: {}", sendedTo, getSender());
+                                     log.info("RESULT: {}", Feedback.toList(response.getResult()));
+                                 }
+                                 if(strategy != null){
+                                     candidatesOf(sendedToIndex).retain(currentCode, response.getResult());
+                                 }
                                  //checks if a player guessed all the numbers of other players, if yes sends a win mesage otherwise ends his turn
-                                 if(!checkWin(response.getResult(), getSender())){
+                                 if(!checkWin(response.getResult())){
                                      log.info("ENDING MY TURN ...");
-                                     arbiterRef.tell(new PlayerAttemptMsg(currentAttempt, response.getResult()), this.getSelf());
+                                     arbiterRef.tell(new PlayerAttemptMsg(currentCode, sendedToIndex, response.getResult()), this.getSelf());
                                  }else {
                                      log.info("SENDING WIN MESSAGE");
                                      arbiterRef.tell(new WinMsg(results), this.getSelf());
@@ -129,144 +278,91 @@ public class Player extends AbstractActor {
     }
 
     /**
-     * Method that generates the secret code for the user to guess.
+     * Method that sets the attempt of a bot.
+     * @param attempt - index in the code space of the attempt.
      */
-    private void generateCode() {
-        if (!_duplicatesAllowed) {
-            int codeRangeSize = _maxCodeValue - _minCodeValue;
-            if (codeRangeSize < _codeLength) {
-                throw new RuntimeException("Code value range must be larger than code length! Duplicate values are not permitted.");
-            }
-        }
-
-        for (int i = 0; i < _codeLength; i++) {
-            int number = ThreadLocalRandom.current().nextInt(_minCodeValue, _maxCodeValue);
-            if (!_duplicatesAllowed) {
-                // Recalculate number for current position if it already exists to prevent duplicates
-                while (_code.contains(number)) {
-                    number = ThreadLocalRandom.current().nextInt(_minCodeValue, _maxCodeValue);
-                }
-            }
-            _code.add(number);
-        }
+    private void setAttempt(int attempt) {
+        GameMetrics.guessComputed(System.nanoTime() - guessStart);
+        this.currentCode = space.codeAt(attempt);
+        this.currentAttempt = space.toList(currentCode);
     }
 
     /**
-     * Method that generate an attempt for the game.
-     * @return List<Integer> that contains the attempt.
+     * Method that sends the current attempt to the chosen Player, unless the turn is over.
      */
-    private ArrayList<Integer> generateGuess() {
-        ArrayList<Integer> attempt = new ArrayList<>();
-        for (int i = 0; i < _codeLength; i++) {
-            int number = ThreadLocalRandom.current().nextInt(_minCodeValue, _maxCodeValue);
-            if (!_duplicatesAllowed) {
-                // Recalculate number for current position if it already exists to prevent duplicates
-                while (attempt.contains(number)) {
-                    number = ThreadLocalRandom.current().nextInt(_minCodeValue, _maxCodeValue);
-                }
-                attempt.add(number);
-            }
+    private void sendAttempt() {
+        if(!timeout){
+            log.info("Generated Code: {}", currentAttempt);
+            this.attemptSent = System.nanoTime();
+            sendedTo.tell(new SendAttemptToPlayer(currentCode), this.getSelf());
         }
-        return attempt;
     }
 
     /**
-     * Method that generate an attempt for the game.
-     * @return List<Integer> that contains the attempt.
+     * Method that generates the secret code for the user to guess.
      */
-    private ArrayList<Integer> generateAttempt() {
-        ArrayList<Integer> attempt = new ArrayList<>();
-        int x;
-        do {
-            attempt.clear();
-            Random rand = new Random();
-            attempt.add(rand.nextInt(_maxCodeValue));
-            x = attempt.get(0);
-            for (int i=1; i<_codeLength; i++) {
-                attempt.add(rand.nextInt(_maxCodeValue));
-                x = (x * 10) + attempt.get(i);
-            }
-        } while (basicLogicIA.contains(x));
-        basicLogicIA.add(x);
-        return attempt;
+    private void generateCode() {
+        _code = space.randomCode(random);
     }
 
     /**
-     *
-     * @param attemptCode
-     * @return
+     * Method that returns the codes still possible for the secret code of an opponent, creating them the first time.
+     * No code is left when the results received were inconsistent: a Human Player with a code of the wrong length gets
+     * all the codes again, the codes of a bot are left empty because its results follow the rules, so only a bug can
+     * get there.
+     * @param opponent - index of the Player.
+     * @return the candidates of the opponent, empty if its results are inconsistent.
      */
-    private ArrayList<String> checkCode(ArrayList<Integer> attemptCode){
-        ArrayList<String> resultOfAttempt = new ArrayList<>();
-        attemptCode.forEach(value -> {
-            if(_code.contains(value)){
-                resultOfAttempt.add("-");
-            }else{
-                resultOfAttempt.add(" ");
-            }
-        });
-        for(int i = 0; i < attemptCode.size(); i++){
-            if(_code.get(i).equals(attemptCode.get(i))){
-                resultOfAttempt.remove(resultOfAttempt.get(i));
-                resultOfAttempt.add(i, "+");
-            }
+    private CandidateSet candidatesOf(int opponent) {
+        CandidateSet set = candidates[opponent];
+        if (set == null) {
+            set = new CandidateSet(space);
+            candidates[opponent] = set;
+        } else if (set.size() == 0 && opponent == human) {
+            log.warning("The results of the Human Player{} are inconsistent, all the codes are possible again", opponent);
+            set = new CandidateSet(space);
+            candidates[opponent] = set;
+        } else if (set.size() == 0 && !inconsistent.get(opponent)) {
+            log.warning("The results of Player{} are inconsistent, its code is attempted at random", opponent);
+            inconsistent.set(opponent);
         }
-        return resultOfAttempt;
+        return set;
     }
 
     /**
-     *
-     * @param result
-     * @param sender
-     * @return
+     * Method that chooses an attempt at random, among the candidates or among all the codes if there's none.
+     * @param candidates - the candidates of the opponent.
+     * @return index in the code space of the attempt.
      */
-    private Boolean checkResults(ArrayList<Integer> result, ActorRef sender){
-        if(result.stream().filter(r -> r.equals("+")).count() == result.size() && !results.contains(sender)){
-            results.add(new Pair(sender, currentAttempt));
-            System.out.println("FOUND A RESULT---> SENDER: " + sender + "CODE: " + currentAttempt + "Winning list: " + results + "-----");
-            if(results.size() == numberOfPlayers - 1){
-                System.out.println("WINNER" + this.getSelf() + "Winning list: " + results);
-                return true;
-            }
+    private int randomAttempt(CandidateSet candidates) {
+        if (candidates.size() == 0) {
+            return random.nextInt(space.size());
         }
-        return false;
+        return candidates.nth(random.nextInt(candidates.size()));
     }
 
     /**
      * Method that check the Attempt that a Player sent to it.
-     * @param attemptCode of the other Player to check.
-     * @return result of the Attempt (0 wrong or 1 ok).
+     * @param attemptCode of the other Player to check, packed.
+     * @return result of the Attempt, packed.
      */
-    private ArrayList<Integer> checkAttempt(ArrayList<Integer> attemptCode){
-        ArrayList<Integer> resultOfAttempt = new ArrayList<>();
-        int positive = 0;
-        int negative = 0;
-        for(int i = 0; i < attemptCode.size(); i++){
-            if(_code.get(i).equals(attemptCode.get(i))){
-                positive++;
-            } else {
-                if(_code.contains(attemptCode.get(i))){
-                    negative++;
-                }
-            }
-        }
-        resultOfAttempt.add(positive);
-        resultOfAttempt.add(negative);
-        return resultOfAttempt;
+    private int checkAttempt(int attemptCode){
+        return Rules.answer(space, _code, attemptCode);
     }
 
     /**
-     * Method that Checks if the Actor has Win the Game or not.
-     * @param result - All secret Code to Check.
-     * @param sender of the operation.
+     * Method that Checks if the Actor has Win the Game or not, the opponents are counted once even if their code is
+     * guessed again.
+     * @param result - result of the current attempt, packed.
      * @return true if it has win or false.
      */
-    private Boolean checkWin(ArrayList<Integer> result, ActorRef sender){
-        if(result.get(0) == _codeLength && !results.contains(sender)){
-            results.add(new Pair(sender, currentAttempt));
-            System.out.println("FOUND A RESULT---> SENDER: " + sender + "CODE: " + currentAttempt + "Winning list: " + results + "-----");
-            if(results.size() == numberOfPlayers - 1){
-                System.out.println("WINNER" + this.getSelf() + "Winning list: " + results);
+    private boolean checkWin(int result){
+        if(Rules.isSolved(space, result) && !solved.get(sendedToIndex)){
+            solved.set(sendedToIndex);
+            results.add(new Pair<>(sendedTo, currentAttempt));
+            log.info("FOUND A RESULT---> SENDER: {} CODE: {} Winning list: {}", sendedTo, currentAttempt, results);
+            if(results.size() == roster.length - 1){
+                log.info("WINNER {} Winning list: {}", this.getSelf(), results);
                 return true;
             }
         }
@@ -1,18 +1,94 @@
 package es1.actors;
 
-import akka.actor.AbstractActor;
+import akka.actor.AbstractActorWithTimers;
 import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.dispatch.RequiresMessageQueue;
+import es1.metrics.LiveCounters;
+import es1.dispatch.GameMailbox;
+import es1.util.GameClock;
+import es1.util.StartTimerMsg;
+import es1.util.TimeoutMsg;
+import es1.util.VirtualClock;
+import java.time.Duration;
 
 /**
  * Class that is the Actor that manage the TimeOut in the Game.
+ * The timeout of a turn is a single timer of the Akka scheduler, so the Actor doesn't use any thread while it waits,
+ * and starting or resetting the timer of a new turn cancels the one of the previous turn.
+ * Every timer is started for the id of its turn and expires with a {@link TimeoutMsg} of the same id, so the Arbiter
+ * drops a timeout that reaches it after the turn ended.
+ * In a game on a virtual clock the deadline of a turn is on that clock instead of the scheduler: the bots never run out
+ * of their budget, so how long the computation took in real time doesn't change the game. The clock moves only when
+ * the game is idle, nothing can end the turn before its deadline, then it jumps to the deadline and the turn times out
+ * at once, at the same point of every run of a seeded game. The game is idle when the Arbiter tells so, because a
+ * Player failed or stopped, or when the turn lasts es1.virtual-time.idle-timeout in real time, so a message that is
+ * lost doesn't keep the game waiting forever.
  */
-public class TimeoutActor extends AbstractActor{
+public class TimeoutActor extends AbstractActorWithTimers implements RequiresMessageQueue<GameMailbox.GameSemantics> {
 
     /**
-     * Fields to count the time and stop clock.
+     * Key of the timer of the current turn.
      */
-    private int count = 0;
+    private static final Object TURN_TIMER = "TurnTimer";
+
+    /**
+     * Id of the dispatcher of the TimeoutActors in the configuration.
+     */
+    public static final String DISPATCHER = "es1.dispatchers.timer";
+
+    /**
+     * Fields with the duration of a turn, the Arbiter to notify and, on a virtual clock, the clock, the real time after
+     * which a turn is idle and the deadline of the current turn with its timeout, null when no turn is waiting.
+     */
+    private final Duration timeout;
+    private final VirtualClock virtualClock;
+    private final Duration idleTimeout;
+    private ActorRef arbiter = ActorRef.noSender();
     private boolean stop = false;
+    private long deadline;
+    private TimeoutMsg expiring;
+
+    /**
+     * Constructor of the Class.
+     * @param timeout - maximum duration of a turn.
+     * @param clock - the clock of the game.
+     */
+    public TimeoutActor(Duration timeout, GameClock clock) {
+        this.timeout = timeout;
+        this.virtualClock = clock instanceof VirtualClock ? (VirtualClock) clock : null;
+        this.idleTimeout = getContext().getSystem().settings().config().getDuration("es1.virtual-time.idle-timeout");
+    }
+
+    /**
+     * Method that creates the Props of the Actor, with the dispatcher of the timers.
+     * @param timeout - maximum duration of a turn.
+     * @return the Props.
+     */
+    public static Props props(Duration timeout) {
+        return props(timeout, GameClock.SYSTEM);
+    }
+
+    /**
+     * Method that creates the Props of the Actor of a game, with the dispatcher of the timers. The clock isn't
+     * serializable, the Actor is always created on the node of its Arbiter.
+     * @param timeout - maximum duration of a turn.
+     * @param clock - the clock of the game.
+     * @return the Props.
+     */
+    public static Props props(Duration timeout, GameClock clock) {
+        return Props.create(TimeoutActor.class, timeout, clock).withDispatcher(DISPATCHER);
+    }
+
+    @Override
+    public void preStart() {
+        LiveCounters.actorStarted();
+    }
+
+    @Override
+    public void postStop() {
+        LiveCounters.actorStopped();
+    }
 
     /**
      * Method that manage all operations of the Actor TimeOut.
@@ -21,21 +97,40 @@ public class TimeoutActor extends AbstractActor{
     @Override
     public Receive createReceive() {
         return receiveBuilder()
-                .matchEquals("StartTimer", timer->{
-                    if(!stop){
-                        Thread.sleep(1);
-                        this.count++;
-                        if(count >= 5000){
-                            this.count = 0;
-                            getSender().tell("Timeout", ActorRef.noSender());
-                        }
-                        getSelf().tell("StartTimer", getSender());
+                .match(StartTimerMsg.class, timer->{
+                    if(stop){
+                        return;
+                    }
+                    this.arbiter = getSender();
+                    if(virtualClock != null){
+                        this.deadline = virtualClock.nanoTime() + timeout.toNanos();
+                        this.expiring = new TimeoutMsg(timer.getTurn());
+                        getTimers().startSingleTimer(TURN_TIMER, "Idle", idleTimeout);
+                    }else{
+                        getTimers().startSingleTimer(TURN_TIMER, new TimeoutMsg(timer.getTurn()), timeout);
+                    }
+                }).match(TimeoutMsg.class, expired -> {
+                    arbiter.tell(expired, ActorRef.noSender());
+                }).matchEquals("Idle", idle -> {
+                    //nothing happens before the deadline, the virtual time jumps to it
+                    if(!stop && expiring != null){
+                        getTimers().cancel(TURN_TIMER);
+                        virtualClock.advance(Math.max(0, deadline - virtualClock.nanoTime()));
+                        arbiter.tell(expiring, ActorRef.noSender());
+                        this.expiring = null;
                     }
                 }).matchEquals("ResetTimer", reset-> {
-                    this.count = 0;
+                    this.expiring = null;
+                    getTimers().cancel(TURN_TIMER);
                 }).matchEquals("StopTimer", stop -> {
                     this.stop = true;
+                    this.expiring = null;
+                    getTimers().cancelAll();
+                }).matchEquals("Stop", stop -> {
+                    this.stop = true;
+                    this.expiring = null;
+                    getTimers().cancelAll();
                 })
                 .build();
     }
-}
\ No newline at end of file
+}
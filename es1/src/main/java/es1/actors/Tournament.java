@@ -0,0 +1,196 @@
+package es1.actors;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.actor.Terminated;
+import akka.event.Logging;
+import akka.event.LoggingAdapter;
+import es1.cluster.GameEnvelope;
+import es1.metrics.TournamentStatistics;
+import es1.util.GameResultMsg;
+import es1.util.StartMsg;
+import es1.util.StartTournamentMsg;
+import es1.util.StopMsg;
+import es1.util.TournamentResultMsg;
+import es1.view.GameObserver;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * This Class manage a tournament: many games between bots played at the same time on the same ActorSystem.
+ * Every game has its own Arbiter, child of the Tournament, that is stopped when the game ends and replaced by the
+ * Arbiter of the next game. The results of the games are collected and sent to the sender of the start message when
+ * all the games ended. Every tournament has its own id, so the events of its games are never mistaken for the ones of
+ * the games with the same number of another tournament.
+ * A game whose Arbiter stops without a result, or that doesn't end within es1.tournament.game-timeout, is counted as
+ * failed and the tournament goes on, so it always ends with the results of the games that were played.
+ * In a cluster the games are sent to the shard region of the games instead, their Arbiters are created by the
+ * sharding on any node and they release themselves at the end of the game.
+ */
+public class Tournament extends AbstractActorWithTimers {
+
+    /**
+     * Fields that represents all data of the Class.
+     */
+    private final ActorRef gameRegion;
+    private StartTournamentMsg tournament;
+    private String run;
+    private ActorRef requester;
+    private TournamentStatistics statistics;
+    private int nextGame;
+    private int endedGames;
+    private long start;
+    private final Set<String> running = new HashSet<>();
+    private final Duration gameTimeout;
+    private final LoggingAdapter log = Logging.getLogger(getContext().getSystem(), this);
+
+    /**
+     * Constructor of the Class, for a Tournament whose Arbiters are its children.
+     */
+    public Tournament() {
+        this(null);
+    }
+
+    /**
+     * Constructor of the Class, for a Tournament whose games are sharded in a cluster.
+     * @param gameRegion - shard region of the games, null to play the games on children Arbiters.
+     */
+    public Tournament(ActorRef gameRegion) {
+        this.gameRegion = gameRegion;
+        this.gameTimeout = getContext().getSystem().settings().config().getDuration("es1.tournament.game-timeout");
+    }
+
+    /**
+     * Method that creates the Props of a Tournament whose games are sharded in a cluster.
+     * @param gameRegion - shard region of the games.
+     * @return the Props.
+     */
+    public static Props props(ActorRef gameRegion) {
+        return Props.create(Tournament.class, gameRegion);
+    }
+
+    /**
+     * Method that manage all operations of the Tournament.
+     * @return Messages to the Arbiters of the games and the result of the tournament to its requester.
+     */
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(
+                        StartTournamentMsg.class,
+                        msg -> {
+                            if(tournament != null){
+                                getSender().tell(new Status.Failure(new IllegalStateException("A tournament is already running")), getSelf());
+                                return;
+                            }
+                            this.tournament = msg;
+                            this.run = UUID.randomUUID().toString();
+                            this.requester = getSender();
+                            this.statistics = new TournamentStatistics();
+                            this.nextGame = 0;
+                            this.endedGames = 0;
+                            this.start = System.nanoTime();
+                            for(int i = 0; i < Math.min(msg.getConcurrency(), msg.getGames()); i++){
+                                startNextGame();
+                            }
+                })
+                .match(
+                        GameResultMsg.class,
+                        result -> {
+                            //a result of a game already counted as failed is dropped
+                            if(!running.remove(getSender().path().name())){
+                                return;
+                            }
+                            getTimers().cancel(getSender().path().name());
+                            statistics.recordGame(result);
+                            if(gameRegion == null){
+                                getContext().unwatch(getSender());
+                                getContext().stop(getSender());
+                            }
+                            gameEnded();
+                })
+                .match(
+                        Terminated.class,
+                        terminated -> gameFailed(terminated.getActor().path().name(), "stopped without a result"))
+                .match(
+                        GameStalled.class,
+                        stalled -> {
+                            if(gameRegion == null){
+                                getContext().findChild(stalled.name).ifPresent(arbiter -> {
+                                    getContext().unwatch(arbiter);
+                                    getContext().stop(arbiter);
+                                });
+                            }else{
+                                gameRegion.tell(new GameEnvelope(stalled.name, new StopMsg()), getSelf());
+                            }
+                            gameFailed(stalled.name, "didn't end in " + gameTimeout);
+                })
+                .build();
+    }
+
+    /**
+     * Message of the timer of a game that didn't end in time.
+     */
+    private static final class GameStalled {
+
+        private final String name;
+
+        private GameStalled(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Method that counts a game that ended without a result as failed.
+     * @param name - name of the Arbiter of the game.
+     * @param reason - what happened to the game.
+     */
+    private void gameFailed(String name, String reason) {
+        if(!running.remove(name)){
+            return;
+        }
+        getTimers().cancel(name);
+        log.warning("The game {} {}, it's counted as failed", name, reason);
+        statistics.recordFailedGame();
+        gameEnded();
+    }
+
+    /**
+     * Method called when a game ended, it starts the next one or sends the result when all of them ended.
+     */
+    private void gameEnded() {
+        endedGames++;
+        if(nextGame < tournament.getGames()){
+            startNextGame();
+        }else if(endedGames == tournament.getGames()){
+            requester.tell(new TournamentResultMsg(statistics, System.nanoTime() - start), getSelf());
+            this.tournament = null;
+        }
+    }
+
+    /**
+     * Method that starts the next game of the tournament on a new Arbiter.
+     */
+    private void startNextGame() {
+        int game = nextGame++;
+        StartMsg start = new StartMsg(tournament.getNumber(), tournament.getPlayers(), GameObserver.NONE, tournament.settingsOf(game));
+        String gameId = run + "-Game-" + game;
+        //the Arbiter of the game is recognized by its name, the name of the entity of a sharded game is its id
+        String name;
+        if(gameRegion == null){
+            name = "Game-" + game;
+            ActorRef arbiter = getContext().actorOf(Arbiter.props(gameId), name);
+            getContext().watch(arbiter);
+            arbiter.tell(start, getSelf());
+        }else{
+            name = gameId;
+            gameRegion.tell(new GameEnvelope(gameId, start), getSelf());
+        }
+        running.add(name);
+        getTimers().startSingleTimer(name, new GameStalled(name), gameTimeout);
+    }
+}
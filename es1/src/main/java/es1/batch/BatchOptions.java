@@ -0,0 +1,202 @@
+package es1.batch;
+
+import com.typesafe.config.Config;
+import es1.journal.GameJournal;
+import es1.strategy.StrategyType;
+import es1.strategy.TargetType;
+import es1.util.GameSettings;
+import es1.util.StartTournamentMsg;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Class that represents the options of a headless run, read from the command line.
+ */
+public class BatchOptions {
+
+    /**
+     * Fields that represents the options, with their default values.
+     */
+    private int players = 3;
+    private int codeLength = 4;
+    private StrategyType[] strategies = {StrategyType.MINIMAX};
+    private Long seed;
+    private int games = 100;
+    private int concurrency = 1;
+    private long turnTimeout = GameSettings.DEFAULT_TURN_TIMEOUT;
+    private boolean simultaneous;
+    private boolean simulation;
+    private boolean virtualTime;
+    private TargetType target = TargetType.CONSTRAINED;
+    private boolean publicBoard;
+    private int nodes = 0;
+    private List<String> playerNodes = Collections.emptyList();
+    private String journal;
+
+    /**
+     * Method that reads the options from the arguments of the main, in the form --name value.
+     * Accepted options are --players, --length, --strategy, --seed, --games, --concurrency, --turn-timeout (ms),
+     * --rounds, sequential (the default) or simultaneous to let all the Players of a round make their attempts at once,
+     * --nodes, the number of nodes of a local cluster that shards the games (0 to play them without cluster), and
+     * --player-nodes, a list of host:port separated by commas of the player nodes where the bots are deployed, and
+     * --journal, the directory where the events of the games are journaled, and --engine, actors (the default) or
+     * simulation to play the games without actors on all the cores, ignoring the options of the actors, and --clock,
+     * system (the default) or virtual to run the games on a virtual clock where computing takes no time.
+     * A run without --seed draws its seed, so every run is reported with the seed that replays it.
+     * The --target option chooses how the bots choose their opponents, constrained (the default) for the one with the
+     * fewest codes still possible or random, and --board, private (the default) or public to let all the bots learn
+     * from every attempt.
+     * The strategy can be a list separated by commas, assigned to the Players of every game in round robin.
+     * @param args of the main, after --headless.
+     * @return the options.
+     */
+    public static BatchOptions parse(String[] args) {
+        BatchOptions options = new BatchOptions();
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i];
+            if (!name.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + name);
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + name);
+            }
+            String value = args[++i];
+            switch (name) {
+                case "--players":
+                    options.players = Integer.parseInt(value);
+                    break;
+                case "--length":
+                    options.codeLength = Integer.parseInt(value);
+                    break;
+                case "--strategy":
+                    options.strategies = Arrays.stream(value.split(","))
+                            .map(s -> StrategyType.valueOf(s.trim().toUpperCase()))
+                            .toArray(StrategyType[]::new);
+                    break;
+                case "--target":
+                    options.target = TargetType.valueOf(value.trim().toUpperCase());
+                    break;
+                case "--board":
+                    if (!value.equals("private") && !value.equals("public")) {
+                        throw new IllegalArgumentException("Unknown board: " + value);
+                    }
+                    options.publicBoard = value.equals("public");
+                    break;
+                case "--seed":
+                    options.seed = Long.parseLong(value);
+                    break;
+                case "--games":
+                    options.games = Integer.parseInt(value);
+                    break;
+                case "--concurrency":
+                    options.concurrency = Integer.parseInt(value);
+                    break;
+                case "--turn-timeout":
+                    options.turnTimeout = Long.parseLong(value);
+                    break;
+                case "--rounds":
+                    if (!value.equals("sequential") && !value.equals("simultaneous")) {
+                        throw new IllegalArgumentException("Unknown rounds: " + value);
+                    }
+                    options.simultaneous = value.equals("simultaneous");
+                    break;
+                case "--engine":
+                    if (!value.equals("actors") && !value.equals("simulation")) {
+                        throw new IllegalArgumentException("Unknown engine: " + value);
+                    }
+                    options.simulation = value.equals("simulation");
+                    break;
+                case "--clock":
+                    if (!value.equals("system") && !value.equals("virtual")) {
+                        throw new IllegalArgumentException("Unknown clock: " + value);
+                    }
+                    options.virtualTime = value.equals("virtual");
+                    break;
+                case "--nodes":
+                    options.nodes = Integer.parseInt(value);
+                    break;
+                case "--player-nodes":
+                    options.playerNodes = Arrays.asList(value.split(","));
+                    break;
+                case "--journal":
+                    options.journal = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + name);
+            }
+        }
+        if (options.players < 2 || options.games < 1 || options.concurrency < 1 || options.nodes < 0) {
+            throw new IllegalArgumentException("At least 2 players, 1 game and 1 concurrent game are required");
+        }
+        if (options.seed == null) {
+            options.seed = new Random().nextLong();
+        }
+        return options;
+    }
+
+    /**
+     * Method that return the number of nodes of the cluster that plays the games.
+     * @return number of nodes, 0 if the games are played without cluster.
+     */
+    public int getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Method that return if the games are played without actors by the {@link SimulationRunner}.
+     * @return true for a simulation.
+     */
+    public boolean isSimulation() {
+        return simulation;
+    }
+
+    /**
+     * Method that return the player nodes where the bots are deployed.
+     * @return host:port of the nodes, empty if the bots are local.
+     */
+    public List<String> getPlayerNodes() {
+        return playerNodes;
+    }
+
+    /**
+     * Method that adds the options of the run to the configuration of an ActorSystem.
+     * @param config - the configuration of the ActorSystem.
+     * @return the configuration, that enables the journal if it was requested.
+     */
+    public Config configure(Config config) {
+        return journal == null ? config : GameJournal.config(journal).withFallback(config);
+    }
+
+    /**
+     * Method that return the message that starts the tournament of the run.
+     * @return the start message.
+     */
+    public StartTournamentMsg toTournament() {
+        GameSettings settings = new GameSettings()
+                .withStrategies(strategies)
+                .withTurnTimeout(turnTimeout)
+                .withSimultaneous(simultaneous)
+                .withVirtualTime(virtualTime)
+                .withTarget(target)
+                .withPublicBoard(publicBoard)
+                .withSeed(seed);
+        return new StartTournamentMsg(games, concurrency, codeLength, players, settings);
+    }
+
+    /**
+     * Method that describes the options in JSON.
+     * @return the JSON object.
+     */
+    public String toJson() {
+        return "{\"players\":" + players + ",\"codeLength\":" + codeLength + ",\"strategies\":" + Arrays.stream(strategies).map(s -> "\"" + s + "\"").collect(Collectors.joining(",", "[", "]"))
+                + ",\"target\":\"" + target + "\",\"board\":\"" + (publicBoard ? "public" : "private") + "\""
+                + ",\"seed\":" + seed + ",\"games\":" + games + ",\"concurrency\":" + concurrency + ",\"turnTimeoutMillis\":" + turnTimeout
+                + ",\"rounds\":\"" + (simultaneous ? "simultaneous" : "sequential") + "\""
+                + ",\"nodes\":" + nodes + ",\"playerNodes\":" + playerNodes.size() + ",\"journal\":" + (journal == null ? null : "\"" + journal + "\"")
+                + ",\"engine\":\"" + (simulation ? "simulation" : "actors") + "\""
+                + ",\"clock\":\"" + (virtualTime ? "virtual" : "system") + "\"}";
+    }
+}
@@ -0,0 +1,57 @@
+package es1.batch;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.pattern.Patterns;
+import com.typesafe.config.ConfigFactory;
+import es1.actors.Tournament;
+import es1.remote.RemoteNodes;
+import es1.util.TournamentResultMsg;
+import java.time.Duration;
+
+/**
+ * Class that plays many games without GUI and prints their statistics in JSON.
+ * The games are played by a Tournament, that runs the concurrent games on the same ActorSystem; their bots can be
+ * deployed on player nodes in other JVMs.
+ */
+public class BatchRunner {
+
+    /**
+     * Maximum duration of a run.
+     */
+    private static final Duration RUN_TIMEOUT = Duration.ofDays(1);
+
+    /**
+     * Fields that represents the run.
+     */
+    private final BatchOptions options;
+
+    /**
+     * Constructor of the Class.
+     * @param options of the run.
+     */
+    public BatchRunner(BatchOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Method that plays all the games and returns their statistics.
+     * @return the statistics in JSON.
+     */
+    public String run() {
+        ActorSystem system = ActorSystem.create("MastermindBatch", options.configure(options.getPlayerNodes().isEmpty()
+                ? ConfigFactory.load()
+                : RemoteNodes.arbiterConfig(options.getPlayerNodes())));
+        try {
+            ActorRef tournament = system.actorOf(Props.create(Tournament.class), "Tournament");
+            TournamentResultMsg result = (TournamentResultMsg) Patterns.ask(tournament, options.toTournament(), RUN_TIMEOUT)
+                    .toCompletableFuture()
+                    .join();
+            return result.getStatistics().toJson(options.toJson(), result.getElapsedNanos());
+        } finally {
+            system.terminate();
+            system.getWhenTerminated().toCompletableFuture().join();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package es1.batch;
+
+import es1.engine.CandidateSet;
+import es1.engine.CodeSpace;
+import es1.engine.GameState;
+import es1.engine.Move;
+import es1.engine.Rules;
+import es1.engine.TurnOrder;
+import es1.metrics.TournamentStatistics;
+import es1.strategy.GuessStrategy;
+import es1.strategy.TargetStrategy;
+import es1.util.GameClock;
+import es1.util.GameResultMsg;
+import es1.util.GameSettings;
+import es1.util.StartTournamentMsg;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Class that plays many games without actors and prints their statistics in JSON, to tune the Strategies on far more
+ * games than the actors can play.
+ * Every game is a {@link GameState} played turn after turn on one thread, and the games run in parallel on the
+ * common pool. They are played with the sequential rounds of the Arbiter and the random generators are drawn in the
+ * same order as the actors draw them, so a seeded game has the same codes and the same rounds of its actor version.
+ * On the system clock a bot that computes its attempt for longer than the timeout of the turn loses the turn, on a
+ * virtual clock it never does, so a seeded game is the same at every run and the games go as fast as the cores allow.
+ * On a public board every bot learns from the attempts of the others like the bot Players do.
+ */
+public class SimulationRunner {
+
+    /**
+     * Fields that represents the run.
+     */
+    private final BatchOptions options;
+
+    /**
+     * Constructor of the Class.
+     * @param options of the run.
+     */
+    public SimulationRunner(BatchOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Method that plays all the games and returns their statistics.
+     * @return the statistics in JSON.
+     */
+    public String run() {
+        StartTournamentMsg tournament = options.toTournament();
+        TournamentStatistics statistics = new TournamentStatistics();
+        long start = System.nanoTime();
+        IntStream.range(0, tournament.getGames())
+                .parallel()
+                .mapToObj(game -> play(tournament.getNumber(), tournament.getPlayers(), tournament.settingsOf(game)))
+                .forEach(result -> {
+                    synchronized (statistics) {
+                        statistics.recordGame(result);
+                    }
+                });
+        return statistics.toJson(options.toJson(), System.nanoTime() - start);
+    }
+
+    /**
+     * Method that plays a game of bots until one of them wins.
+     * @param length - number of chars of the secret codes.
+     * @param players - number of bots.
+     * @param settings - options of the game.
+     * @return the result of the game, without messages and latencies.
+     */
+    public static GameResultMsg play(int length, int players, GameSettings settings) {
+        Random random = settings.getSeed() == null ? new Random() : new Random(settings.getSeed());
+        CodeSpace space = CodeSpace.of(length);
+        GameClock clock = GameClock.of(settings);
+        Bot[] bots = new Bot[players];
+        int[] codes = new int[players];
+        for (int i = 0; i < players; i++) {
+            bots[i] = new Bot(i, players, space, settings, settings.getSeed() == null ? new Random() : new Random(random.nextLong()), clock);
+            codes[i] = bots[i].code;
+        }
+        GameState state = GameState.start(space, codes);
+        TurnOrder order = TurnOrder.of(players);
+        long timeout = TimeUnit.MILLISECONDS.toNanos(settings.getTurnTimeout());
+        while (!state.isOver()) {
+            order.reset(order.shuffled(random));
+            for (int i = 0; i < order.size() && !state.isOver(); i++) {
+                Bot bot = bots[order.get(i)];
+                long start = clock.nanoTime();
+                Move move = bot.move();
+                if (clock.nanoTime() - start > timeout) {
+                    state = state.timeout(bot.index);
+                    continue;
+                }
+                state = state.play(move);
+                bot.learn(move, state.feedback());
+                if (settings.isPublicBoard()) {
+                    for (Bot other : bots) {
+                        if (other != bot && other.index != move.getTarget()) {
+                            other.observe(move, state.feedback());
+                        }
+                    }
+                }
+            }
+        }
+        int winner = state.winner();
+        return new GameResultMsg(winner, settings.getStrategy(winner), state.turns(), 0, new long[0]);
+    }
+
+    /**
+     * Class that is a bot of a simulated game, it chooses its attempts like a bot Player: an opponent of its target
+     * Strategy and an attempt of its Strategy among the codes still possible for it.
+     */
+    private static final class Bot {
+
+        private final int index;
+        private final int code;
+        private final Random random;
+        private final GuessStrategy strategy;
+        private final TargetStrategy target;
+        private final CandidateSet[] candidates;
+        private final BitSet solved = new BitSet();
+        private final CodeSpace space;
+
+        /**
+         * Constructor of the Class, the bot generates its secret code.
+         * @param index - index of the bot.
+         * @param players - number of bots of the game.
+         * @param space - the code space of the game.
+         * @param settings - options of the game.
+         * @param random - the generator of the bot.
+         * @param clock - the clock of the game.
+         */
+        private Bot(int index, int players, CodeSpace space, GameSettings settings, Random random, GameClock clock) {
+            this.index = index;
+            this.space = space;
+            this.random = random;
+            this.code = space.randomCode(random);
+            this.strategy = settings.getStrategy(index).create(settings.getGuessBudget(), random, clock);
+            this.target = settings.getTarget().create(random);
+            this.candidates = new CandidateSet[players];
+        }
+
+        /**
+         * Method that chooses the attempt of the turn of the bot.
+         * @return the attempt.
+         */
+        private Move move() {
+            int opponent = target.nextTarget(index, space, candidates, solved);
+            return new Move(index, opponent, space.codeAt(strategy.nextGuess(candidatesOf(opponent))));
+        }
+
+        /**
+         * Method that narrows the codes possible for the opponent of an attempt with its result.
+         * @param move - the attempt.
+         * @param feedback - the packed result.
+         */
+        private void learn(Move move, int feedback) {
+            candidates[move.getTarget()].retain(move.getAttempt(), feedback);
+            if (Rules.isSolved(space, feedback)) {
+                solved.set(move.getTarget());
+            }
+        }
+
+        /**
+         * Method that narrows the codes possible for the opponent of an attempt of another bot, published on the
+         * public board.
+         * @param move - the attempt.
+         * @param feedback - the packed result.
+         */
+        private void observe(Move move, int feedback) {
+            candidatesOf(move.getTarget()).retain(move.getAttempt(), feedback);
+        }
+
+        /**
+         * Method that returns the codes still possible for the secret code of an opponent, creating them the first
+         * time.
+         * @param opponent - index of the bot.
+         * @return the candidates of the opponent.
+         */
+        private CandidateSet candidatesOf(int opponent) {
+            CandidateSet set = candidates[opponent];
+            if (set == null) {
+                set = new CandidateSet(space);
+                candidates[opponent] = set;
+            }
+            return set;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package es1.cluster;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.cluster.Cluster;
+import akka.cluster.sharding.ClusterSharding;
+import akka.cluster.sharding.ClusterShardingSettings;
+import akka.cluster.sharding.ShardRegion;
+import akka.pattern.Patterns;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import es1.actors.Tournament;
+import es1.actors.Arbiter;
+import es1.batch.BatchOptions;
+import es1.dispatch.GameMailbox;
+import es1.util.TournamentResultMsg;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Class that plays the games of a headless run on a cluster of ActorSystems in the same JVM, connected over
+ * loopback. The games are sharded by id on all the nodes, the Tournament runs on the first one. The report of the run
+ * tells how many shards of the games every node hosted.
+ */
+public class ClusterRunner {
+
+    /**
+     * Name of the ActorSystem of every node, the nodes of a cluster must have the same name.
+     */
+    public static final String SYSTEM_NAME = "MastermindCluster";
+
+    /**
+     * Name of the sharded entities of the games.
+     */
+    public static final String GAME_TYPE = "Game";
+
+    /**
+     * Port of the first node, the seed of the cluster; the other nodes use the next ports.
+     */
+    private static final int SEED_PORT = 25520;
+
+    /**
+     * Maximum durations of the start of the cluster and of a run.
+     */
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(1);
+    private static final Duration RUN_TIMEOUT = Duration.ofDays(1);
+
+    /**
+     * Fields that represents the run.
+     */
+    private final BatchOptions options;
+
+    /**
+     * Constructor of the Class.
+     * @param options of the run.
+     */
+    public ClusterRunner(BatchOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Method that starts the cluster, plays all the games and returns their statistics.
+     * @return the statistics in JSON.
+     * @throws Exception if the cluster doesn't start.
+     */
+    public String run() throws Exception {
+        List<ActorSystem> nodes = new ArrayList<>();
+        try {
+            for (int i = 0; i < options.getNodes(); i++) {
+                nodes.add(startNode(SEED_PORT + i, options.getNodes(), options));
+            }
+            ActorSystem driver = nodes.get(0);
+            CompletableFuture<Void> up = new CompletableFuture<>();
+            Cluster.get(driver).registerOnMemberUp(() -> up.complete(null));
+            up.get(START_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+            ActorRef region = ClusterSharding.get(driver).shardRegion(GAME_TYPE);
+            ActorRef tournament = driver.actorOf(Tournament.props(region), "Tournament");
+            TournamentResultMsg result = (TournamentResultMsg) Patterns.ask(tournament, options.toTournament(), RUN_TIMEOUT)
+                    .toCompletableFuture()
+                    .join();
+            String report = result.getStatistics().toJson(options.toJson(), result.getElapsedNanos());
+            return report.substring(0, report.length() - 1) + ",\"shardsPerNode\":" + shardsPerNode(region) + "}";
+        } finally {
+            //the nodes leave one at a time and the seed last, so every exit is seen by the nodes still running
+            for (int i = nodes.size() - 1; i >= 0; i--) {
+                nodes.get(i).terminate();
+                nodes.get(i).getWhenTerminated().toCompletableFuture().join();
+            }
+        }
+    }
+
+    /**
+     * Method that starts a node of the cluster and the shard region of the games on it.
+     * @param port - port of the node.
+     * @param members - number of nodes of the cluster, the games start when they are all up.
+     * @param options - options of the run.
+     * @return the ActorSystem of the node.
+     */
+    public static ActorSystem startNode(int port, int members, BatchOptions options) {
+        Config config = ConfigFactory.parseString("akka.remote.artery.canonical.port = " + port + "\n"
+                + "akka.cluster.min-nr-of-members = " + members)
+                .withFallback(options.configure(ConfigFactory.load("cluster")));
+        ActorSystem system = ActorSystem.create(SYSTEM_NAME, config);
+        int shards = config.getInt("akka.cluster.sharding.number-of-shards");
+        ClusterSharding.get(system).start(GAME_TYPE, Props.create(ShardedArbiter.class).withMailbox(GameMailbox.ID).withDispatcher(Arbiter.DISPATCHER),
+                ClusterShardingSettings.create(system), new GameMessageExtractor(shards));
+        return system;
+    }
+
+    /**
+     * Method that describes how many shards of the games every node hosts in JSON.
+     * @param region - shard region of the games.
+     * @return the JSON object with the number of shards of every node, by address.
+     */
+    private static String shardsPerNode(ActorRef region) {
+        ShardRegion.ClusterShardingStats stats = (ShardRegion.ClusterShardingStats) Patterns
+                .ask(region, new ShardRegion.GetClusterShardingStats(scala.concurrent.duration.Duration.create(5, "s")), Duration.ofSeconds(10))
+                .toCompletableFuture()
+                .join();
+        Map<String, Integer> shards = new TreeMap<>();
+        stats.getRegions().forEach((address, regionStats) -> shards.put(address.hostPort(), regionStats.getStats().size()));
+        return shards.entrySet().stream()
+                .map(node -> "\"" + node.getKey() + "\":" + node.getValue())
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+}
@@ -0,0 +1,43 @@
+package es1.cluster;
+
+import java.io.Serializable;
+
+/**
+ * Class that manage the messages sent to a game through its shard region, with the id of the game.
+ */
+public class GameEnvelope implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Fields that represents the id of the game and the message for its Arbiter.
+     */
+    private final String gameId;
+    private final Object message;
+
+    /**
+     * Constructor of the Class.
+     * @param gameId - id of the game, it's the id of the entity in the cluster.
+     * @param message - message for the Arbiter of the game.
+     */
+    public GameEnvelope(String gameId, Object message) {
+        this.gameId = gameId;
+        this.message = message;
+    }
+
+    /**
+     * Method that return the id of the game.
+     * @return id of the game.
+     */
+    public String getGameId() {
+        return gameId;
+    }
+
+    /**
+     * Method that return the message for the Arbiter of the game.
+     * @return the message.
+     */
+    public Object getMessage() {
+        return message;
+    }
+}
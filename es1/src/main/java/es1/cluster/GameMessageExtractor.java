@@ -0,0 +1,27 @@
+package es1.cluster;
+
+import akka.cluster.sharding.ShardRegion;
+
+/**
+ * Class that tells the sharding which game a message is for, the shard of a game is the hash of its id.
+ */
+public class GameMessageExtractor extends ShardRegion.HashCodeMessageExtractor {
+
+    /**
+     * Constructor of the Class.
+     * @param numberOfShards - number of shards of the games, the same on every node.
+     */
+    public GameMessageExtractor(int numberOfShards) {
+        super(numberOfShards);
+    }
+
+    @Override
+    public String entityId(Object message) {
+        return message instanceof GameEnvelope ? ((GameEnvelope) message).getGameId() : null;
+    }
+
+    @Override
+    public Object entityMessage(Object message) {
+        return message instanceof GameEnvelope ? ((GameEnvelope) message).getMessage() : message;
+    }
+}
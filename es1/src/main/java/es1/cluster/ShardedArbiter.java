@@ -0,0 +1,30 @@
+package es1.cluster;
+
+import akka.actor.PoisonPill;
+import akka.cluster.sharding.ShardRegion;
+import es1.actors.Arbiter;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+
+/**
+ * Class that is the Arbiter of a game sharded in a cluster. The Players and the TimeoutActor are its children, so
+ * they live on the same node of the game; when the game ends the Arbiter asks its shard to stop it.
+ * Its events are identified by the id of its entity, the id of the game, that doesn't depend on the shard it's in.
+ */
+public class ShardedArbiter extends Arbiter {
+
+    @Override
+    public String persistenceId() {
+        try {
+            //the name of the entity is its id encoded as in a URL
+            return URLDecoder.decode(getSelf().path().name(), "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    protected void gameFinished() {
+        getContext().getParent().tell(new ShardRegion.Passivate(PoisonPill.getInstance()), getSelf());
+    }
+}
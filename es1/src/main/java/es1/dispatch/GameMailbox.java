@@ -0,0 +1,228 @@
+package es1.dispatch;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.DeadLetter;
+import akka.dispatch.ControlMessage;
+import akka.persistence.JournalProtocol;
+import akka.persistence.SnapshotProtocol;
+import akka.dispatch.DequeBasedMessageQueueSemantics;
+import akka.dispatch.Envelope;
+import akka.dispatch.MailboxType;
+import akka.dispatch.MessageQueue;
+import akka.dispatch.ProducesMessageQueue;
+import com.typesafe.config.Config;
+import es1.metrics.GameMetrics;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import scala.Option;
+
+/**
+ * Class that is the mailbox of the actors of the games.
+ * The control messages, the classes that implement {@link ControlMessage} and the strings listed in control-messages,
+ * have their own queue that is always emptied first, so a stop or a timeout overtakes the attempts already waiting.
+ * The messages that are safe to lose, the classes listed in droppable-messages like the attempts of the public board,
+ * are bounded by mailbox-capacity: when there are too many of them the overflow-policy sends the newest or the oldest
+ * one to the dead letters, without blocking the sender. The other messages are never dropped: the games can't go on
+ * without their codes, attempts, responses and win messages, and a large roster or a simultaneous round sends many of
+ * them at once. The replies of the journal and of the snapshot store of Akka Persistence are control messages too: the
+ * Arbiter stashes its messages until the journal confirms its events, so losing a confirmation would stop it forever.
+ * Every message that arrives records the size of the mailbox in {@link GameMetrics}.
+ * The Players and the TimeoutActors require its {@link GameSemantics}, so they get it also when they are deployed on
+ * other nodes; the Arbiter already requires a deque to stash its messages while its events are journaled, so it gets
+ * the mailbox from its Props.
+ */
+public class GameMailbox implements MailboxType, ProducesMessageQueue<GameMailbox.GameQueue> {
+
+    /**
+     * Id of the mailbox in the configuration.
+     */
+    public static final String ID = "es1.game-mailbox";
+
+    /**
+     * Fields that represents the configuration of the mailbox.
+     */
+    private final int capacity;
+    private final boolean dropOldest;
+    private final Set<String> controlMessages;
+    private final Set<String> droppableMessages;
+
+    /**
+     * Constructor of the Class, called by Akka with the configuration of the mailbox.
+     * @param settings - settings of the ActorSystem.
+     * @param config - configuration of the mailbox.
+     */
+    public GameMailbox(ActorSystem.Settings settings, Config config) {
+        this.capacity = config.getInt("mailbox-capacity");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("mailbox-capacity of " + ID + " must be positive");
+        }
+        String policy = config.getString("overflow-policy");
+        switch (policy) {
+            case "drop-newest":
+                this.dropOldest = false;
+                break;
+            case "drop-oldest":
+                this.dropOldest = true;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown overflow-policy of " + ID + ": " + policy);
+        }
+        this.controlMessages = new HashSet<>(config.getStringList("control-messages"));
+        this.droppableMessages = new HashSet<>(config.getStringList("droppable-messages"));
+    }
+
+    @Override
+    public MessageQueue create(Option<ActorRef> owner, Option<ActorSystem> system) {
+        return new GameQueue(system.isDefined() ? system.get().deadLetters() : ActorRef.noSender());
+    }
+
+    /**
+     * Interface of the queues of the mailbox, mapped to it in akka.actor.mailbox.requirements.
+     */
+    public interface GameSemantics {
+    }
+
+    /**
+     * Class that is the queue of a mailbox. The sizes are counted apart because the size of the queues isn't
+     * constant time, queued counts only the droppable messages.
+     */
+    public class GameQueue implements MessageQueue, DequeBasedMessageQueueSemantics, GameSemantics {
+
+        private final ConcurrentLinkedQueue<Envelope> control = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedDeque<Envelope> queue = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger size = new AtomicInteger();
+        private final ActorRef deadLetters;
+
+        /**
+         * Constructor of the Class.
+         * @param deadLetters - where the messages dropped go.
+         */
+        private GameQueue(ActorRef deadLetters) {
+            this.deadLetters = deadLetters;
+        }
+
+        @Override
+        public void enqueue(ActorRef receiver, Envelope handle) {
+            Object message = handle.message();
+            if (isControl(message)) {
+                control.offer(handle);
+            } else if (!isDroppable(message) || queued.incrementAndGet() <= capacity) {
+                queue.offer(handle);
+            } else if (dropOldest) {
+                queue.offer(handle);
+                Envelope oldest = oldestDroppable();
+                if (oldest != null && queue.removeFirstOccurrence(oldest)) {
+                    //the new message takes the place of the oldest one, the size doesn't change
+                    queued.decrementAndGet();
+                    drop(receiver, oldest);
+                    GameMetrics.messageEnqueued(size.get());
+                    return;
+                }
+                //the actor emptied the queue in the meantime, taking also the new message
+            } else {
+                queued.decrementAndGet();
+                drop(receiver, handle);
+                return;
+            }
+            GameMetrics.messageEnqueued(size.incrementAndGet());
+        }
+
+        /**
+         * Method that checks if a message goes in the queue of the control messages.
+         * @param message - the message.
+         * @return true if it's handled first and never dropped.
+         */
+        private boolean isControl(Object message) {
+            return message instanceof ControlMessage
+                    || message instanceof JournalProtocol.Response
+                    || message instanceof SnapshotProtocol.Response
+                    || (message instanceof String && controlMessages.contains(message));
+        }
+
+        /**
+         * Method that checks if a message is bounded by the capacity of the queue.
+         * @param message - the message.
+         * @return true if it can be dropped.
+         */
+        private boolean isDroppable(Object message) {
+            return droppableMessages.contains(message.getClass().getName());
+        }
+
+        /**
+         * Method that finds the droppable message that is waiting since the longest time.
+         * @return the message, or null if the actor took all of them in the meantime.
+         */
+        private Envelope oldestDroppable() {
+            for (Envelope handle : queue) {
+                if (isDroppable(handle.message())) {
+                    return handle;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Method that puts back the messages unstashed by the actor, they were already counted when they arrived and
+         * they are never dropped.
+         * @param receiver - the actor.
+         * @param handle - the message.
+         */
+        @Override
+        public void enqueueFirst(ActorRef receiver, Envelope handle) {
+            queue.offerFirst(handle);
+            if (isDroppable(handle.message())) {
+                queued.incrementAndGet();
+            }
+            size.incrementAndGet();
+        }
+
+        @Override
+        public Envelope dequeue() {
+            Envelope handle = control.poll();
+            if (handle == null) {
+                handle = queue.poll();
+                if (handle == null) {
+                    return null;
+                }
+                if (isDroppable(handle.message())) {
+                    queued.decrementAndGet();
+                }
+            }
+            size.decrementAndGet();
+            return handle;
+        }
+
+        @Override
+        public int numberOfMessages() {
+            return size.get();
+        }
+
+        @Override
+        public boolean hasMessages() {
+            return !control.isEmpty() || !queue.isEmpty();
+        }
+
+        @Override
+        public void cleanUp(ActorRef owner, MessageQueue deadLetters) {
+            Envelope handle;
+            while ((handle = dequeue()) != null) {
+                deadLetters.enqueue(owner, handle);
+            }
+        }
+
+        /**
+         * Method that sends a message that doesn't fit in the queue to the dead letters.
+         * @param receiver - the actor.
+         * @param handle - the message.
+         */
+        private void drop(ActorRef receiver, Envelope handle) {
+            GameMetrics.messageDropped();
+            deadLetters.tell(new DeadLetter(handle.message(), handle.sender(), receiver), handle.sender());
+        }
+    }
+}
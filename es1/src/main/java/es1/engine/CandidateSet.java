@@ -0,0 +1,121 @@
+package es1.engine;
+
+import java.util.Arrays;
+
+/**
+ * Class that represents the codes of a {@link CodeSpace} that are still possible for a secret code.
+ * It's a bitset over the indexes of the space, so it takes one bit per possible code and it's narrowed in place
+ * when the result of a new attempt is known.
+ */
+public final class CandidateSet {
+
+    /**
+     * Fields that represents the space of the codes and the bits of the codes still possible.
+     */
+    private final CodeSpace space;
+    private final long[] bits;
+    private int size;
+
+    /**
+     * Constructor of the Class, all the codes of the space are possible.
+     * @param space - the valid codes of the game.
+     */
+    public CandidateSet(CodeSpace space) {
+        this.space = space;
+        this.size = space.size();
+        this.bits = new long[(size + 63) >>> 6];
+        Arrays.fill(bits, -1L);
+        if ((size & 63) != 0) {
+            bits[bits.length - 1] = (1L << (size & 63)) - 1;
+        }
+    }
+
+    /**
+     * Method that returns the space of the codes.
+     * @return the space.
+     */
+    public CodeSpace space() {
+        return space;
+    }
+
+    /**
+     * Method that returns the number of the codes still possible.
+     * @return number of candidates.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Method that checks if a code is still possible.
+     * @param index of the code in the space.
+     * @return true or false.
+     */
+    public boolean contains(int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Method that keeps only the codes that would have given the same result to the attempt.
+     * @param attempt - the packed attempt.
+     * @param feedback - the packed result of the attempt.
+     */
+    public void retain(int attempt, int feedback) {
+        int attemptIndex = space.hasTable() ? space.indexOf(attempt) : -1;
+        int kept = 0;
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            long remaining = word;
+            while (remaining != 0) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                int result = attemptIndex >= 0
+                        ? space.feedbackAt(index, attemptIndex)
+                        : space.feedback(space.codeAt(index), attempt);
+                if (result != feedback) {
+                    word &= ~(1L << index);
+                }
+            }
+            bits[w] = word;
+            kept += Long.bitCount(word);
+        }
+        this.size = kept;
+    }
+
+    /**
+     * Method that returns the index of the n-th code still possible, in the order of the space.
+     * @param n - position of the code among the candidates, from 0 to size() - 1.
+     * @return the index of the code in the space.
+     */
+    public int nth(int n) {
+        for (int w = 0; w < bits.length; w++) {
+            int count = Long.bitCount(bits[w]);
+            if (n < count) {
+                long word = bits[w];
+                for (int i = 0; i < n; i++) {
+                    word &= word - 1;
+                }
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+            n -= count;
+        }
+        throw new IndexOutOfBoundsException("Candidate " + n + " out of " + size);
+    }
+
+    /**
+     * Method that returns the indexes of all the codes still possible.
+     * @return the indexes in the order of the space.
+     */
+    public int[] indexes() {
+        int[] indexes = new int[size];
+        int next = 0;
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                indexes[next++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,308 @@
+package es1.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class that represents all the valid secret codes of a game.
+ * A code is packed into a single int, one base-radix digit for each char with the first char as most significant
+ * digit, so the codes are compared and hashed without boxing and the sorted enumeration gives a dense index.
+ * For small spaces a table with the result of every (secret, attempt) pair is built once and shared by all the
+ * Players, so scoring an attempt by index costs a single array read.
+ */
+public final class CodeSpace {
+
+    /**
+     * Biggest space that gets the table of the results, 5040 codes means 25MB.
+     */
+    public static final int TABLE_LIMIT = 5040;
+
+    /**
+     * Values of the chars used by the games, 1 to 9 without duplicates.
+     */
+    public static final int DEFAULT_MIN_VALUE = 1;
+    public static final int DEFAULT_MAX_VALUE = 10;
+    public static final boolean DEFAULT_DUPLICATES_ALLOWED = false;
+
+    private static final Map<String, CodeSpace> SPACES = new ConcurrentHashMap<>();
+
+    /**
+     * Fields that represents the rules of the codes.
+     */
+    private final int length;
+    private final int minValue;
+    private final int maxValue;
+    private final boolean duplicatesAllowed;
+    private final int radix;
+    private volatile int[] codes;
+    private volatile byte[] table;
+
+    private CodeSpace(int length, int minValue, int maxValue, boolean duplicatesAllowed) {
+        if (length < 1 || length > 15 || minValue < 0 || maxValue <= minValue || maxValue > 32) {
+            throw new IllegalArgumentException("Invalid code space: length " + length + " values [" + minValue + ", " + maxValue + ")");
+        }
+        if (Math.pow(maxValue, length) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Code of length " + length + " with values up to " + maxValue + " doesn't fit in an int");
+        }
+        if (!duplicatesAllowed && maxValue - minValue < length) {
+            throw new IllegalArgumentException("Code value range must be larger than code length! Duplicate values are not permitted.");
+        }
+        this.length = length;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.duplicatesAllowed = duplicatesAllowed;
+        this.radix = maxValue;
+    }
+
+    /**
+     * Method that returns the space of the codes with the given rules, shared between all the users.
+     * @param length - number of chars of the code.
+     * @param minValue - minimum value of a char (inclusive).
+     * @param maxValue - maximum value of a char (exclusive).
+     * @param duplicatesAllowed - true if a code can contain the same value more than once.
+     * @return the space of the codes.
+     */
+    public static CodeSpace of(int length, int minValue, int maxValue, boolean duplicatesAllowed) {
+        String key = length + ":" + minValue + ":" + maxValue + ":" + duplicatesAllowed;
+        return SPACES.computeIfAbsent(key, k -> new CodeSpace(length, minValue, maxValue, duplicatesAllowed));
+    }
+
+    /**
+     * Method that returns the space of the codes with the default values of the game.
+     * @param length - number of chars of the code.
+     * @return the space of the codes.
+     */
+    public static CodeSpace of(int length) {
+        return of(length, DEFAULT_MIN_VALUE, DEFAULT_MAX_VALUE, DEFAULT_DUPLICATES_ALLOWED);
+    }
+
+    /**
+     * Method that returns the number of chars of the codes.
+     * @return length of the codes.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Method that returns the minimum value of a char (inclusive).
+     * @return minimum value.
+     */
+    public int minValue() {
+        return minValue;
+    }
+
+    /**
+     * Method that returns the maximum value of a char (exclusive), also the radix of the packed codes.
+     * @return maximum value.
+     */
+    public int maxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Method that checks if a code can contain the same value more than once.
+     * @return true or false.
+     */
+    public boolean duplicatesAllowed() {
+        return duplicatesAllowed;
+    }
+
+    /**
+     * Method that returns the number of valid codes.
+     * @return size of the space.
+     */
+    public int size() {
+        return codes().length;
+    }
+
+    /**
+     * Method that returns the code with the given index in the sorted enumeration.
+     * @param index of the code.
+     * @return the packed code.
+     */
+    public int codeAt(int index) {
+        return codes()[index];
+    }
+
+    /**
+     * Method that returns the index of a code in the sorted enumeration.
+     * @param code - the packed code.
+     * @return the index or a negative number if the code isn't valid.
+     */
+    public int indexOf(int code) {
+        return Arrays.binarySearch(codes(), code);
+    }
+
+    /**
+     * Method that generates a random valid code, choosing the chars one at a time.
+     * @param random - the random generator.
+     * @return the packed code.
+     */
+    public int randomCode(Random random) {
+        int code = 0;
+        int used = 0;
+        for (int i = 0; i < length; i++) {
+            int number = minValue + random.nextInt(maxValue - minValue);
+            if (!duplicatesAllowed) {
+                // Recalculate number for current position if it already exists to prevent duplicates
+                while ((used & (1 << number)) != 0) {
+                    number = minValue + random.nextInt(maxValue - minValue);
+                }
+            }
+            used |= 1 << number;
+            code = code * radix + number;
+        }
+        return code;
+    }
+
+    /**
+     * Method that packs a code.
+     * @param digits - chars of the code.
+     * @return the packed code.
+     */
+    public int pack(List<Integer> digits) {
+        int code = 0;
+        for (Integer digit : digits) {
+            code = code * radix + digit;
+        }
+        return code;
+    }
+
+    /**
+     * Method that unpacks a code in the list used by the messages and the GUI.
+     * @param code - the packed code.
+     * @return chars of the code.
+     */
+    public ArrayList<Integer> toList(int code) {
+        Integer[] digits = new Integer[length];
+        for (int i = length - 1; i >= 0; i--) {
+            digits[i] = code % radix;
+            code /= radix;
+        }
+        return new ArrayList<>(Arrays.asList(digits));
+    }
+
+    /**
+     * Method that computes the result of an attempt with the rules of the game: a char is positive if it's in the right
+     * position, negative if the secret code contains it in another position.
+     * The presence of the chars of the secret is kept in a bit mask, one bit for each value, instead of list scans.
+     * @param secret - the packed secret code.
+     * @param attempt - the packed attempt.
+     * @return the packed result.
+     */
+    public int feedback(int secret, int attempt) {
+        int present = 0;
+        for (int s = secret, i = 0; i < length; i++, s /= radix) {
+            present |= 1 << (s % radix);
+        }
+        int positive = 0;
+        int negative = 0;
+        for (int i = 0; i < length; i++) {
+            int s = secret % radix;
+            int a = attempt % radix;
+            if (s == a) {
+                positive++;
+            } else if ((present & (1 << a)) != 0) {
+                negative++;
+            }
+            secret /= radix;
+            attempt /= radix;
+        }
+        return Feedback.of(positive, negative);
+    }
+
+    /**
+     * Method that computes the result of an attempt given the indexes of the codes, reading the table when the space
+     * is small enough to have it.
+     * @param secretIndex - index of the secret code.
+     * @param attemptIndex - index of the attempt.
+     * @return the packed result.
+     */
+    public int feedbackAt(int secretIndex, int attemptIndex) {
+        byte[] t = table();
+        if (t != null) {
+            return t[secretIndex * codes.length + attemptIndex] & 0xFF;
+        }
+        return feedback(codes[secretIndex], codes[attemptIndex]);
+    }
+
+    /**
+     * Method that checks if the space has the table of the results.
+     * @return true if the table is used.
+     */
+    public boolean hasTable() {
+        return size() <= TABLE_LIMIT;
+    }
+
+    /**
+     * Method that returns the table of the results, building it the first time.
+     * @return the table or null if the space is too big.
+     */
+    private byte[] table() {
+        byte[] t = table;
+        if (t == null && hasTable()) {
+            synchronized (this) {
+                t = table;
+                if (t == null) {
+                    int[] all = codes();
+                    t = new byte[all.length * all.length];
+                    for (int s = 0; s < all.length; s++) {
+                        for (int a = 0; a < all.length; a++) {
+                            t[s * all.length + a] = (byte) feedback(all[s], all[a]);
+                        }
+                    }
+                    table = t;
+                }
+            }
+        }
+        return t;
+    }
+
+    /**
+     * Method that returns the sorted enumeration of the valid codes, building it the first time.
+     * @return the packed codes.
+     */
+    private int[] codes() {
+        int[] c = codes;
+        if (c == null) {
+            synchronized (this) {
+                c = codes;
+                if (c == null) {
+                    int count = 1;
+                    for (int i = 0; i < length; i++) {
+                        count *= duplicatesAllowed ? maxValue - minValue : maxValue - minValue - i;
+                    }
+                    c = new int[count];
+                    enumerate(0, 0, 0, c, new int[]{0});
+                    codes = c;
+                }
+            }
+        }
+        return c;
+    }
+
+    /**
+     * Method that generates recursively the valid codes in ascending order.
+     * @param position - number of chars already chosen.
+     * @param prefix - the packed chars already chosen.
+     * @param used - bit mask of the values already chosen.
+     * @param out - array where the codes are written.
+     * @param next - index of the next free cell of the array.
+     */
+    private void enumerate(int position, int prefix, int used, int[] out, int[] next) {
+        if (position == length) {
+            out[next[0]++] = prefix;
+            return;
+        }
+        for (int value = minValue; value < maxValue; value++) {
+            if (duplicatesAllowed || (used & (1 << value)) == 0) {
+                enumerate(position + 1, prefix * radix + value, used | 1 << value, out, next);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package es1.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class that packs the result of an attempt (positive and negative chars) into a single int.
+ * The positive chars are in the high nibble and the negative chars in the low nibble, so a result always fits in a byte.
+ */
+public final class Feedback {
+
+    /**
+     * Number of different packed results, useful to size the partition arrays.
+     */
+    public static final int SIZE = 256;
+
+    private Feedback() {
+    }
+
+    /**
+     * Method that packs a result.
+     * @param positive - chars in the right position.
+     * @param negative - chars in the code but in the wrong position.
+     * @return the packed result.
+     */
+    public static int of(int positive, int negative) {
+        return positive << 4 | negative;
+    }
+
+    /**
+     * Method that returns the positive chars of a packed result.
+     * @param feedback - the packed result.
+     * @return positive chars.
+     */
+    public static int positive(int feedback) {
+        return feedback >>> 4;
+    }
+
+    /**
+     * Method that returns the negative chars of a packed result.
+     * @param feedback - the packed result.
+     * @return negative chars.
+     */
+    public static int negative(int feedback) {
+        return feedback & 0xF;
+    }
+
+    /**
+     * Method that converts a packed result in the list used by the messages.
+     * @param feedback - the packed result.
+     * @return list with positive and negative chars.
+     */
+    public static ArrayList<Integer> toList(int feedback) {
+        ArrayList<Integer> result = new ArrayList<>(2);
+        result.add(positive(feedback));
+        result.add(negative(feedback));
+        return result;
+    }
+
+    /**
+     * Method that packs the list used by the messages.
+     * @param result - list with positive and negative chars.
+     * @return the packed result.
+     */
+    public static int fromList(List<Integer> result) {
+        return of(result.get(0), result.get(1));
+    }
+}
@@ -0,0 +1,180 @@
+package es1.engine;
+
+/**
+ * Class that represents a game as the rules see it: the secret codes, the opponents that every Player solved, the turns
+ * played and the winner. It's immutable, {@link #play(Move)} returns the state after a turn, so a game can be played
+ * without actors and many games can be played at once on different threads.
+ * The Player that solves the codes of all its opponents wins the game.
+ */
+public final class GameState {
+
+    /**
+     * Fields that represents the game: the opponents solved by each Player are a bitset of its own, copied only by
+     * the turn that solves a new one.
+     */
+    private final CodeSpace space;
+    private final int[] codes;
+    private final long[][] solved;
+    private final int turns;
+    private final int winner;
+    private final int feedback;
+
+    /**
+     * Constructor of the Class.
+     * @param space - the code space of the game.
+     * @param codes - the packed secret code of each Player.
+     * @param solved - the opponents solved by each Player.
+     * @param turns - turns played.
+     * @param winner - index of the winner, -1 if the game isn't over.
+     * @param feedback - result of the last turn, -1 before the first.
+     */
+    private GameState(CodeSpace space, int[] codes, long[][] solved, int turns, int winner, int feedback) {
+        this.space = space;
+        this.codes = codes;
+        this.solved = solved;
+        this.turns = turns;
+        this.winner = winner;
+        this.feedback = feedback;
+    }
+
+    /**
+     * Method that creates the state of a new game.
+     * @param space - the code space of the game.
+     * @param codes - the packed secret code of each Player, at least 2.
+     * @return the state before the first turn.
+     */
+    public static GameState start(CodeSpace space, int... codes) {
+        if (codes.length < 2) {
+            throw new IllegalArgumentException("At least 2 players are required");
+        }
+        long[][] solved = new long[codes.length][];
+        long[] none = new long[(codes.length + 63) >>> 6];
+        for (int i = 0; i < codes.length; i++) {
+            solved[i] = none;
+        }
+        return new GameState(space, codes.clone(), solved, 0, -1, -1);
+    }
+
+    /**
+     * Method that plays a turn.
+     * @param move - the attempt of the turn.
+     * @return the state after the turn, with its result.
+     */
+    public GameState play(Move move) {
+        if (isOver()) {
+            throw new IllegalStateException("The game is over");
+        }
+        int player = move.getPlayer();
+        int target = move.getTarget();
+        if (player == target || target < 0 || target >= codes.length) {
+            throw new IllegalArgumentException("Invalid opponent of " + move);
+        }
+        int result = Rules.answer(space, codes[target], move.getAttempt());
+        if (!Rules.isSolved(space, result) || hasSolved(player, target)) {
+            return new GameState(space, codes, solved, turns + 1, -1, result);
+        }
+        long[][] next = solved.clone();
+        next[player] = solved[player].clone();
+        next[player][target >>> 6] |= 1L << target;
+        int opponents = 0;
+        for (long word : next[player]) {
+            opponents += Long.bitCount(word);
+        }
+        return new GameState(space, codes, next, turns + 1, opponents == codes.length - 1 ? player : -1, result);
+    }
+
+    /**
+     * Method that plays a turn that timed out, the Player didn't make its attempt.
+     * @param player - index of the Player.
+     * @return the state after the turn, without result.
+     */
+    public GameState timeout(int player) {
+        if (isOver()) {
+            throw new IllegalStateException("The game is over");
+        }
+        if (player < 0 || player >= codes.length) {
+            throw new IllegalArgumentException("Invalid player " + player);
+        }
+        return new GameState(space, codes, solved, turns + 1, -1, -1);
+    }
+
+    /**
+     * Method that returns the code space of the game.
+     * @return the space.
+     */
+    public CodeSpace space() {
+        return space;
+    }
+
+    /**
+     * Method that returns the number of Players.
+     * @return number of Players.
+     */
+    public int players() {
+        return codes.length;
+    }
+
+    /**
+     * Method that returns the secret code of a Player.
+     * @param player - index of the Player.
+     * @return the packed code.
+     */
+    public int code(int player) {
+        return codes[player];
+    }
+
+    /**
+     * Method that checks if a Player solved the code of an opponent.
+     * @param player - index of the Player.
+     * @param opponent - index of the opponent.
+     * @return true or false.
+     */
+    public boolean hasSolved(int player, int opponent) {
+        return (solved[player][opponent >>> 6] & (1L << opponent)) != 0;
+    }
+
+    /**
+     * Method that returns the number of opponents whose code a Player solved.
+     * @param player - index of the Player.
+     * @return number of opponents.
+     */
+    public int solvedBy(int player) {
+        int count = 0;
+        for (long word : solved[player]) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Method that returns the turns played.
+     * @return number of turns.
+     */
+    public int turns() {
+        return turns;
+    }
+
+    /**
+     * Method that returns the result of the last turn.
+     * @return the packed result, -1 before the first turn.
+     */
+    public int feedback() {
+        return feedback;
+    }
+
+    /**
+     * Method that returns the winner.
+     * @return index of the Player, -1 if the game isn't over.
+     */
+    public int winner() {
+        return winner;
+    }
+
+    /**
+     * Method that checks if the game is over.
+     * @return true if a Player won.
+     */
+    public boolean isOver() {
+        return winner >= 0;
+    }
+}
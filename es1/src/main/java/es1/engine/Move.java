@@ -0,0 +1,55 @@
+package es1.engine;
+
+/**
+ * Class that represents the action of a turn: the attempt that a Player makes against the secret code of another one.
+ */
+public final class Move {
+
+    /**
+     * Fields that represents the Player that makes the attempt, its opponent and the packed attempt.
+     */
+    private final int player;
+    private final int target;
+    private final int attempt;
+
+    /**
+     * Constructor of the Class.
+     * @param player - index of the Player that makes the attempt.
+     * @param target - index of the opponent.
+     * @param attempt - the packed attempt, negative if there isn't one.
+     */
+    public Move(int player, int target, int attempt) {
+        this.player = player;
+        this.target = target;
+        this.attempt = attempt;
+    }
+
+    /**
+     * Method that return the Player that makes the attempt.
+     * @return index of the Player.
+     */
+    public int getPlayer() {
+        return player;
+    }
+
+    /**
+     * Method that return the opponent of the attempt.
+     * @return index of the Player.
+     */
+    public int getTarget() {
+        return target;
+    }
+
+    /**
+     * Method that return the attempt.
+     * @return the packed attempt.
+     */
+    public int getAttempt() {
+        return attempt;
+    }
+
+    @Override
+    public String toString() {
+        return "Move[" + player + " -> " + target + ": " + attempt + "]";
+    }
+}
@@ -0,0 +1,91 @@
+package es1.engine;
+
+import es1.util.Pair;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Class that collects the rules of the game that don't depend on the actors. They are pure functions, called by the
+ * actors and by the {@link GameState} of the games played without them.
+ */
+public final class Rules {
+
+    private Rules() {
+    }
+
+    /**
+     * Method that computes the result of an attempt against a secret code, an attempt that isn't a code of the space
+     * (a Human Player that chose no code) gets no right chars.
+     * @param space - the code space of the game.
+     * @param code - the packed secret code.
+     * @param attempt - the packed attempt, negative if there isn't one.
+     * @return the packed result.
+     */
+    public static int answer(CodeSpace space, int code, int attempt) {
+        if (attempt < 0) {
+            return Feedback.of(0, 0);
+        }
+        return space.feedback(code, attempt);
+    }
+
+    /**
+     * Method that checks if the result of an attempt reveals the secret code.
+     * @param space - the code space of the game.
+     * @param feedback - the packed result.
+     * @return true if all the chars are in the right position.
+     */
+    public static boolean isSolved(CodeSpace space, int feedback) {
+        return Feedback.positive(feedback) == space.length();
+    }
+
+    /**
+     * Method that chooses at random the opponent of an attempt, any Player but the one that makes it.
+     * @param player - index of the Player that makes the attempt.
+     * @param players - number of Players of the game.
+     * @param random - the generator of the Player.
+     * @return index of the opponent.
+     */
+    public static int opponent(int player, int players, Random random) {
+        int opponent = random.nextInt(players - 1);
+        return opponent >= player ? opponent + 1 : opponent;
+    }
+
+    /**
+     * Method that checks if a win message is correct: every secret code claimed must be the code of its Player.
+     * @param codes - the packed secret code of each Player.
+     * @param claims - the codes claimed by the winner, one for each other Player.
+     * @param space - the code space of the game.
+     * @param <K> - type of the identifiers of the Players.
+     * @return true if all the codes are correct or false if not.
+     */
+    public static <K> boolean checkWinner(Map<K, Integer> codes, List<Pair<K, ArrayList<Integer>>> claims, CodeSpace space) {
+        for (Pair<K, ArrayList<Integer>> claim : claims) {
+            Integer code = codes.get(claim.getKey());
+            if (code == null || !isCode(space, claim.getValue()) || code != space.pack(claim.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Method that checks if a list of chars is a code of the space, so that it can be packed: chars out of the values
+     * of the space would pack to the code of other chars.
+     * @param space - the code space of the game.
+     * @param digits - chars of the code.
+     * @return true if the code has the length of the space and all its chars are values of the space.
+     */
+    public static boolean isCode(CodeSpace space, List<Integer> digits) {
+        if (digits.size() != space.length()) {
+            return false;
+        }
+        for (Integer digit : digits) {
+            if (digit == null || digit < space.minValue() || digit >= space.maxValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,130 @@
+package es1.engine;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Class that represents the order of the turns of the Players still in a game.
+ * The active Players are a dense array of indexes, and every Player knows its position in it, so a Player is looked up
+ * and removed in constant time: the last Player of the order takes the place of the removed one. When the removed
+ * Player is the one in turn, the Player that takes its place still has to play the round, so the cursor of the turns
+ * doesn't move.
+ */
+public final class TurnOrder {
+
+    /**
+     * Fields that represents the active Players in the order of their turns and the position of every Player in it,
+     * -1 for the removed ones.
+     */
+    private final int[] order;
+    private final int[] positions;
+    private int size;
+
+    /**
+     * Constructor of the Class.
+     * @param players - number of Players of the game.
+     * @param order - indexes of the active Players in the order of their turns.
+     */
+    public TurnOrder(int players, int[] order) {
+        this.order = new int[players];
+        this.positions = new int[players];
+        reset(order);
+    }
+
+    /**
+     * Method that creates the order of a new game, where all the Players are active in the order of their indexes.
+     * @param players - number of Players of the game.
+     * @return the order.
+     */
+    public static TurnOrder of(int players) {
+        int[] order = new int[players];
+        for (int i = 0; i < players; i++) {
+            order[i] = i;
+        }
+        return new TurnOrder(players, order);
+    }
+
+    /**
+     * Method that replaces the order of the active Players, for a new round.
+     * @param order - indexes of the active Players in the order of their turns.
+     */
+    public void reset(int[] order) {
+        Arrays.fill(positions, -1);
+        System.arraycopy(order, 0, this.order, 0, order.length);
+        this.size = order.length;
+        for (int i = 0; i < size; i++) {
+            positions[order[i]] = i;
+        }
+    }
+
+    /**
+     * Method that returns the number of the active Players.
+     * @return number of Players.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Method that returns the Player of a turn of the round.
+     * @param position - position of the turn in the round.
+     * @return index of the Player.
+     */
+    public int get(int position) {
+        return order[position];
+    }
+
+    /**
+     * Method that checks if a Player is still active.
+     * @param player - index of the Player.
+     * @return true or false.
+     */
+    public boolean contains(int player) {
+        return player >= 0 && player < positions.length && positions[player] >= 0;
+    }
+
+    /**
+     * Method that removes a Player from the game, the last Player of the order takes its place.
+     * @param player - index of the Player.
+     */
+    public void remove(int player) {
+        int position = positions[player];
+        if (position < 0) {
+            return;
+        }
+        int last = order[--size];
+        order[position] = last;
+        positions[last] = position;
+        positions[player] = -1;
+    }
+
+    /**
+     * Method that returns the active Players in a random order, with the shuffle of {@link java.util.Collections}, so a
+     * seeded game gets the same rounds from the same generator.
+     * @param random - the generator of the game.
+     * @return indexes of the Players in the new order.
+     */
+    public int[] shuffled(Random random) {
+        int[] shuffled = toArray();
+        for (int i = shuffled.length; i > 1; i--) {
+            int j = random.nextInt(i);
+            int tmp = shuffled[i - 1];
+            shuffled[i - 1] = shuffled[j];
+            shuffled[j] = tmp;
+        }
+        return shuffled;
+    }
+
+    /**
+     * Method that returns the active Players, for the events and the snapshots.
+     * @return indexes of the Players in the order of their turns.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(order, size);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
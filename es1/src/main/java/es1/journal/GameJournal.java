@@ -0,0 +1,360 @@
+package es1.journal;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+import akka.actor.ExtensionIdProvider;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+import es1.strategy.StrategyType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class that writes the events of the games of an ActorSystem in an append-only binary journal, a sequence of
+ * memory-mapped segment files. It's an Akka Extension shared by all the Arbiters of the ActorSystem, enabled by
+ * es1.journal.enabled, and it can be read back with {@link JournalReader}.
+ * Every record is reserved with an atomic add on the position of the segment and written with absolute puts, so the
+ * Arbiters of concurrent games don't lock each other; only the switch to a new segment is synchronized.
+ * The size of a record is written last, a reader stops at the first record whose size is still 0.
+ */
+public class GameJournal implements Extension {
+
+    /**
+     * Identifier of the Extension.
+     */
+    public static final Id ID = new Id();
+
+    /**
+     * Values that identify the segment files and the type of the records.
+     */
+    static final int MAGIC = 0x45534A31;
+    static final byte VERSION = 2;
+    static final int SEGMENT_HEADER = 5;
+    static final int RECORD_HEADER = 17;
+    static final byte SETUP = 1;
+    static final byte ATTEMPT = 2;
+    static final byte TIMEOUT = 3;
+    static final byte WIN = 4;
+    static final String SUFFIX = ".journal";
+
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    /**
+     * Fields that represents all data of the Class.
+     */
+    private final boolean enabled;
+    private final Path directory;
+    private final String name;
+    private final int segmentSize;
+    private final long origin = System.nanoTime();
+    private final AtomicInteger games = new AtomicInteger();
+    private volatile Segment segment;
+    private int segments;
+
+    /**
+     * Constructor of a journal that writes nothing.
+     */
+    private GameJournal() {
+        this.enabled = false;
+        this.directory = null;
+        this.name = null;
+        this.segmentSize = 0;
+    }
+
+    /**
+     * Constructor of the Class, the first segment is created when the first game starts.
+     * @param directory - directory of the segment files, created if it doesn't exist.
+     * @param name - prefix of the names of the segment files, it must be different for every journal.
+     * @param segmentSize - size of every segment file in bytes.
+     */
+    public GameJournal(Path directory, String name, int segmentSize) {
+        this.enabled = true;
+        this.directory = directory;
+        this.name = name;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Method that returns the journal of an ActorSystem.
+     * @param system - the ActorSystem.
+     * @return the journal, that writes nothing if es1.journal.enabled is off.
+     */
+    public static GameJournal get(ActorSystem system) {
+        return ID.get(system);
+    }
+
+    /**
+     * Method that returns the configuration that enables the journal.
+     * @param directory - directory of the segment files.
+     * @return the configuration, to use with the one of the ActorSystem as fallback.
+     */
+    public static Config config(String directory) {
+        return ConfigFactory.empty()
+                .withValue("es1.journal.enabled", ConfigValueFactory.fromAnyRef(true))
+                .withValue("es1.journal.directory", ConfigValueFactory.fromAnyRef(directory));
+    }
+
+    /**
+     * Method that return if the journal writes the records.
+     * @return true if it's enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Method that writes the start of a game.
+     * @param length - length of the codes.
+     * @param codes - packed secret code of each Player.
+     * @param strategies - Strategy of each Player, null for the Human Player.
+     * @param seed - seed of the game, null if it's random.
+     * @return the id of the game in the journal, -1 if the journal is disabled.
+     */
+    public int setup(int length, int[] codes, StrategyType[] strategies, Long seed) {
+        if (!enabled) {
+            return -1;
+        }
+        int game = games.getAndIncrement();
+        int size = checkSize(RECORD_HEADER + 14 + 5 * codes.length);
+        Segment s;
+        int start;
+        while ((start = (s = segment) == null ? -1 : s.reserve(size)) < 0) {
+            roll(s);
+        }
+        int at = s.header(start, SETUP, game, now());
+        s.buffer.put(at, (byte) length);
+        s.buffer.putInt(at + 1, codes.length);
+        s.buffer.put(at + 5, (byte) (seed == null ? 0 : 1));
+        s.buffer.putLong(at + 6, seed == null ? 0 : seed);
+        at += 14;
+        for (int i = 0; i < codes.length; i++, at += 5) {
+            s.buffer.putInt(at, codes[i]);
+            s.buffer.put(at + 4, (byte) (strategies[i] == null ? -1 : strategies[i].ordinal()));
+        }
+        s.commit(start, size);
+        return game;
+    }
+
+    /**
+     * Method that writes an attempt.
+     * @param game - id of the game in the journal.
+     * @param player - index of the Player that made the attempt.
+     * @param target - index of the Player that received the attempt.
+     * @param attempt - the packed attempt, negative if it was of the wrong length.
+     * @param feedback - the packed result of the attempt.
+     */
+    public void attempt(int game, int player, int target, int attempt, int feedback) {
+        if (!enabled) {
+            return;
+        }
+        int size = RECORD_HEADER + 13;
+        Segment s;
+        int start;
+        while ((start = (s = segment) == null ? -1 : s.reserve(size)) < 0) {
+            roll(s);
+        }
+        int at = s.header(start, ATTEMPT, game, now());
+        s.buffer.putInt(at, player);
+        s.buffer.putInt(at + 4, target);
+        s.buffer.putInt(at + 8, attempt);
+        s.buffer.put(at + 12, (byte) feedback);
+        s.commit(start, size);
+    }
+
+    /**
+     * Method that writes a turn that ended with a timeout.
+     * @param game - id of the game in the journal.
+     * @param player - index of the Player whose turn expired.
+     */
+    public void timeout(int game, int player) {
+        if (!enabled) {
+            return;
+        }
+        int size = RECORD_HEADER + 4;
+        Segment s;
+        int start;
+        while ((start = (s = segment) == null ? -1 : s.reserve(size)) < 0) {
+            roll(s);
+        }
+        int at = s.header(start, TIMEOUT, game, now());
+        s.buffer.putInt(at, player);
+        s.commit(start, size);
+    }
+
+    /**
+     * Method that writes a win message.
+     * @param game - id of the game in the journal.
+     * @param player - index of the Player that claimed the win, negative if it was sent by the GUI.
+     * @param valid - true if the Arbiter accepted the claim.
+     * @param targets - index of the Player of every claimed code.
+     * @param claims - the claimed packed codes, negative if a code was of the wrong length.
+     */
+    public void win(int game, int player, boolean valid, int[] targets, int[] claims) {
+        if (!enabled) {
+            return;
+        }
+        int size = checkSize(RECORD_HEADER + 9 + 8 * claims.length);
+        Segment s;
+        int start;
+        while ((start = (s = segment) == null ? -1 : s.reserve(size)) < 0) {
+            roll(s);
+        }
+        int at = s.header(start, WIN, game, now());
+        s.buffer.putInt(at, player);
+        s.buffer.put(at + 4, (byte) (valid ? 1 : 0));
+        s.buffer.putInt(at + 5, claims.length);
+        at += 9;
+        for (int i = 0; i < claims.length; i++, at += 8) {
+            s.buffer.putInt(at, targets[i]);
+            s.buffer.putInt(at + 4, claims[i]);
+        }
+        s.commit(start, size);
+    }
+
+    /**
+     * Method that checks that a record fits in an empty segment, a bigger one would never be written.
+     * @param size - size of the record.
+     * @return the size.
+     */
+    private int checkSize(int size) {
+        if (size > segmentSize - SEGMENT_HEADER - 4) {
+            throw new IllegalArgumentException("A record of " + size + " bytes doesn't fit in a segment of " + segmentSize + " bytes");
+        }
+        return size;
+    }
+
+    /**
+     * Method that writes the records still in memory to the segment file.
+     */
+    public void flush() {
+        Segment s = segment;
+        if (s != null) {
+            s.buffer.force();
+        }
+    }
+
+    /**
+     * Method that returns the time of a record.
+     * @return nanoseconds from the opening of the journal.
+     */
+    private long now() {
+        return System.nanoTime() - origin;
+    }
+
+    /**
+     * Method that creates a new segment, unless another thread already replaced the full one.
+     * @param full - the segment that is full, null if there's none yet.
+     */
+    private synchronized void roll(Segment full) {
+        if (segment != full) {
+            return;
+        }
+        if (full != null) {
+            full.buffer.force();
+        }
+        Path file = directory.resolve(String.format(Locale.ROOT, "%s-%06d%s", name, segments++, SUFFIX));
+        try {
+            Files.createDirectories(directory);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+                buffer.putInt(0, MAGIC);
+                buffer.put(4, VERSION);
+                segment = new Segment(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Class that represents a mapped segment file and the position of its next record.
+     */
+    private static final class Segment {
+
+        private final MappedByteBuffer buffer;
+        private final AtomicInteger position = new AtomicInteger(SEGMENT_HEADER);
+
+        /**
+         * Constructor of the Class.
+         * @param buffer - the mapped file.
+         */
+        private Segment(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Method that reserves the space of a record.
+         * @param size - size of the record.
+         * @return position of the record, -1 if the segment is full.
+         */
+        private int reserve(int size) {
+            int at = position.getAndAdd(size);
+            //the last 4 bytes stay 0 to mark the end of the segment
+            if (at < 0 || at + size > buffer.capacity() - 4) {
+                position.set(buffer.capacity());
+                return -1;
+            }
+            return at;
+        }
+
+        /**
+         * Method that writes the header of a reserved record, except its size.
+         * @param at - position of the record.
+         * @param type - type of the record.
+         * @param game - id of the game.
+         * @param nanos - time of the record.
+         * @return position of the body of the record.
+         */
+        private int header(int at, byte type, int game, long nanos) {
+            buffer.put(at + 4, type);
+            buffer.putInt(at + 5, game);
+            buffer.putLong(at + 9, nanos);
+            return at + RECORD_HEADER;
+        }
+
+        /**
+         * Method that completes a reserved record, writing its size.
+         * @param at - position of the record.
+         * @param size - size of the record.
+         */
+        private void commit(int at, int size) {
+            buffer.putInt(at, size);
+        }
+    }
+
+    /**
+     * Class that creates the journal of an ActorSystem from its configuration.
+     */
+    public static final class Id extends AbstractExtensionId<GameJournal> implements ExtensionIdProvider {
+
+        @Override
+        public Id lookup() {
+            return ID;
+        }
+
+        @Override
+        public GameJournal createExtension(ExtendedActorSystem system) {
+            Config config = system.settings().config().getConfig("es1.journal");
+            if (!config.getBoolean("enabled")) {
+                return new GameJournal();
+            }
+            GameJournal journal = new GameJournal(
+                    Paths.get(config.getString("directory")),
+                    system.name() + "-" + System.currentTimeMillis() + "-" + INSTANCES.getAndIncrement(),
+                    (int) Math.min(Integer.MAX_VALUE, config.getBytes("segment-size")));
+            system.registerOnTermination(journal::flush);
+            return journal;
+        }
+    }
+}
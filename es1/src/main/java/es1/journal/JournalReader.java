@@ -0,0 +1,134 @@
+package es1.journal;
+
+import es1.strategy.StrategyType;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Class that reads the journals written by {@link GameJournal}, mapping their segment files read-only.
+ */
+public final class JournalReader {
+
+    private JournalReader() {
+    }
+
+    /**
+     * Method that finds the journals in a directory.
+     * @param directory - directory of the segment files.
+     * @return the segment files of every journal in the order they were written, by name of the journal.
+     * @throws IOException if the directory can't be read.
+     */
+    public static Map<String, List<Path>> journals(Path directory) throws IOException {
+        Map<String, List<Path>> journals = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(GameJournal.SUFFIX))
+                    .sorted()
+                    .forEach(file -> {
+                        String name = file.getFileName().toString();
+                        //the name of the journal is followed by the number of the segment
+                        journals.computeIfAbsent(name.substring(0, name.lastIndexOf('-')), n -> new ArrayList<>()).add(file);
+                    });
+        }
+        return journals;
+    }
+
+    /**
+     * Method that reads the records of the segments of a journal.
+     * @param segments - the segment files in the order they were written.
+     * @param visitor - the visitor called for every record.
+     * @return number of records read.
+     * @throws IOException if a segment can't be read or it's not a segment of a journal.
+     */
+    public static long read(List<Path> segments, JournalVisitor visitor) throws IOException {
+        long records = 0;
+        for (Path segment : segments) {
+            records += readSegment(segment, visitor);
+        }
+        return records;
+    }
+
+    /**
+     * Method that reads the records of a segment, up to the first record not completed.
+     * @param segment - the segment file.
+     * @param visitor - the visitor called for every record.
+     * @return number of records read.
+     * @throws IOException if the segment can't be read or it's not a segment of a journal.
+     */
+    private static long readSegment(Path segment, JournalVisitor visitor) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.capacity() < GameJournal.SEGMENT_HEADER || buffer.getInt(0) != GameJournal.MAGIC) {
+            throw new IOException("Not a journal segment: " + segment);
+        }
+        if (buffer.get(4) != GameJournal.VERSION) {
+            throw new IOException("Journal segment of version " + buffer.get(4) + " instead of " + GameJournal.VERSION + ": " + segment);
+        }
+        StrategyType[] types = StrategyType.values();
+        long records = 0;
+        int at = GameJournal.SEGMENT_HEADER;
+        int size;
+        while (at + 4 <= buffer.capacity() && (size = buffer.getInt(at)) > 0) {
+            if (size < GameJournal.RECORD_HEADER || at + size > buffer.capacity()) {
+                throw new IOException("Corrupted record at " + at + " of " + segment);
+            }
+            byte type = buffer.get(at + 4);
+            int game = buffer.getInt(at + 5);
+            long nanos = buffer.getLong(at + 9);
+            int body = at + GameJournal.RECORD_HEADER;
+            switch (type) {
+                case GameJournal.SETUP: {
+                    int players = buffer.getInt(body + 1);
+                    if (players < 0 || body + 14 + 5L * players > at + size) {
+                        throw new IOException("Corrupted record at " + at + " of " + segment);
+                    }
+                    int[] codes = new int[players];
+                    StrategyType[] strategies = new StrategyType[players];
+                    for (int i = 0, p = body + 14; i < players; i++, p += 5) {
+                        codes[i] = buffer.getInt(p);
+                        byte strategy = buffer.get(p + 4);
+                        strategies[i] = strategy < 0 ? null : types[strategy];
+                    }
+                    Long seed = buffer.get(body + 5) == 0 ? null : buffer.getLong(body + 6);
+                    visitor.setup(game, nanos, buffer.get(body), codes, strategies, seed);
+                    break;
+                }
+                case GameJournal.ATTEMPT:
+                    visitor.attempt(game, nanos, buffer.getInt(body), buffer.getInt(body + 4), buffer.getInt(body + 8), buffer.get(body + 12) & 0xFF);
+                    break;
+                case GameJournal.TIMEOUT:
+                    visitor.timeout(game, nanos, buffer.getInt(body));
+                    break;
+                case GameJournal.WIN: {
+                    int count = buffer.getInt(body + 5);
+                    if (count < 0 || body + 9 + 8L * count > at + size) {
+                        throw new IOException("Corrupted record at " + at + " of " + segment);
+                    }
+                    int[] targets = new int[count];
+                    int[] claims = new int[count];
+                    for (int i = 0, p = body + 9; i < count; i++, p += 8) {
+                        targets[i] = buffer.getInt(p);
+                        claims[i] = buffer.getInt(p + 4);
+                    }
+                    visitor.win(game, nanos, buffer.getInt(body), buffer.get(body + 4) != 0, targets, claims);
+                    break;
+                }
+                default:
+                    throw new IOException("Unknown record type " + type + " at " + at + " of " + segment);
+            }
+            records++;
+            at += size;
+        }
+        return records;
+    }
+}
@@ -0,0 +1,303 @@
+package es1.journal;
+
+import es1.engine.CandidateSet;
+import es1.engine.CodeSpace;
+import es1.engine.Feedback;
+import es1.engine.GameState;
+import es1.engine.Move;
+import es1.engine.Rules;
+import es1.strategy.StrategyType;
+import es1.util.Pair;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Class that replays the games of the journals without actors, at full speed.
+ * Every turn is played again on the {@link GameState} of the game, so its attempt is checked with the code of its target
+ * by the same rules of the Players, and it narrows the candidates of the Player that made it, that must still contain
+ * the real code; every win message is checked again with the rules of the Arbiter. The differences from the journal are reported as mismatches, with the slowest games of the journals.
+ */
+public class JournalReplay implements JournalVisitor {
+
+    /**
+     * Number of slowest games and of mismatches reported.
+     */
+    private static final int REPORTED = 5;
+
+    /**
+     * Fields that represents the replayed games and the results of the replay.
+     */
+    private final Map<Integer, ReplayedGame> games = new HashMap<>();
+    private final List<ReplayedGame> replayed = new ArrayList<>();
+    private final List<String> mismatches = new ArrayList<>();
+    private String journal;
+    private long records;
+    private long turns;
+    private long timeouts;
+    private int finished;
+
+    /**
+     * Method that replays all the journals of a directory.
+     * @param directory - directory of the segment files.
+     * @return the results of the replay in JSON.
+     * @throws IOException if a journal can't be read.
+     */
+    public static String run(Path directory) throws IOException {
+        JournalReplay replay = new JournalReplay();
+        long start = System.nanoTime();
+        Map<String, List<Path>> journals = JournalReader.journals(directory);
+        for (Map.Entry<String, List<Path>> journal : journals.entrySet()) {
+            replay.replay(journal.getKey(), journal.getValue());
+        }
+        return replay.toJson(journals.size(), System.nanoTime() - start);
+    }
+
+    /**
+     * Method that replays a journal.
+     * @param name - name of the journal.
+     * @param segments - its segment files in the order they were written.
+     * @throws IOException if the journal can't be read.
+     */
+    public void replay(String name, List<Path> segments) throws IOException {
+        this.journal = name;
+        games.clear();
+        records += JournalReader.read(segments, this);
+    }
+
+    /**
+     * Method that return the number of games replayed.
+     * @return number of games.
+     */
+    public int getGames() {
+        return replayed.size();
+    }
+
+    /**
+     * Method that return the number of games that ended with a winner.
+     * @return number of games.
+     */
+    public int getFinished() {
+        return finished;
+    }
+
+    /**
+     * Method that return the differences between the journals and the replay.
+     * @return the description of every difference.
+     */
+    public List<String> getMismatches() {
+        return mismatches;
+    }
+
+    @Override
+    public void setup(int game, long nanos, int length, int[] codes, StrategyType[] strategies, Long seed) {
+        ReplayedGame replayedGame;
+        try {
+            replayedGame = new ReplayedGame(journal, game, nanos, GameState.start(CodeSpace.of(length), codes), strategies);
+        } catch (IllegalArgumentException e) {
+            mismatch(null, "game " + game + " can't start: " + e.getMessage());
+            return;
+        }
+        games.put(game, replayedGame);
+        replayed.add(replayedGame);
+    }
+
+    @Override
+    public void attempt(int game, long nanos, int player, int target, int attempt, int feedback) {
+        ReplayedGame replayedGame = replayed(game, nanos);
+        if (replayedGame == null) {
+            return;
+        }
+        turns++;
+        GameState state = replayedGame.state;
+        if (!isPlayer(state, player) || !isPlayer(state, target) || player == target) {
+            mismatch(replayedGame, "attempt of Player" + player + " to the invalid opponent Player" + target);
+            return;
+        }
+        int expected;
+        if (state.isOver()) {
+            //the Player that solved all the codes didn't send the win message yet, the game of the actors goes on
+            expected = Rules.answer(state.space(), state.code(target), attempt);
+        } else {
+            replayedGame.state = state.play(new Move(player, target, attempt));
+            expected = replayedGame.state.feedback();
+        }
+        if (expected != feedback) {
+            mismatch(replayedGame, "attempt " + attempt + " of Player" + player + " to Player" + target + " got "
+                    + Feedback.toList(feedback) + " instead of " + Feedback.toList(expected));
+            return;
+        }
+        if (attempt >= 0 && replayedGame.strategies[player] != null) {
+            CandidateSet candidates = replayedGame.candidatesOf(player, target);
+            candidates.retain(attempt, feedback);
+            if (!candidates.contains(state.space().indexOf(state.code(target)))) {
+                mismatch(replayedGame, "the candidates of Player" + player + " lost the code of Player" + target + " after " + attempt);
+            }
+        }
+    }
+
+    @Override
+    public void timeout(int game, long nanos, int player) {
+        ReplayedGame replayedGame = replayed(game, nanos);
+        if (replayedGame == null) {
+            return;
+        }
+        turns++;
+        timeouts++;
+        if (!isPlayer(replayedGame.state, player)) {
+            mismatch(replayedGame, "timeout of the invalid Player" + player);
+        } else if (!replayedGame.state.isOver()) {
+            replayedGame.state = replayedGame.state.timeout(player);
+        }
+    }
+
+    @Override
+    public void win(int game, long nanos, int player, boolean valid, int[] targets, int[] claims) {
+        ReplayedGame replayedGame = replayed(game, nanos);
+        if (replayedGame == null) {
+            return;
+        }
+        turns++;
+        GameState state = replayedGame.state;
+        Map<Integer, Integer> codes = new HashMap<>();
+        for (int i = 0; i < state.players(); i++) {
+            codes.put(i, state.code(i));
+        }
+        List<Pair<Integer, ArrayList<Integer>>> claimed = new ArrayList<>();
+        int unsolved = 0;
+        for (int i = 0; i < claims.length; i++) {
+            claimed.add(new Pair<>(targets[i], claims[i] < 0 ? new ArrayList<>() : state.space().toList(claims[i])));
+            if (isPlayer(state, player) && isPlayer(state, targets[i]) && !state.hasSolved(player, targets[i])) {
+                unsolved++;
+            }
+        }
+        //a bot claims only the codes that got all the chars in the right position, the last one with the attempt that
+        //is sent as the win message instead of being journaled
+        if (isPlayer(state, player) && replayedGame.strategies[player] != null && unsolved > 1) {
+            mismatch(replayedGame, "Player" + player + " claimed " + unsolved + " codes before guessing them");
+        }
+        if (Rules.checkWinner(codes, claimed, state.space()) != valid) {
+            mismatch(replayedGame, "the win message of Player" + player + " was " + (valid ? "accepted" : "rejected") + " by the Arbiter");
+        }
+        if (valid) {
+            replayedGame.winner = player;
+            finished++;
+        }
+    }
+
+    /**
+     * Method that checks if an index of a record is a Player of the game.
+     * @param state - the game.
+     * @param player - the index.
+     * @return true or false.
+     */
+    private static boolean isPlayer(GameState state, int player) {
+        return player >= 0 && player < state.players();
+    }
+
+    /**
+     * Method that returns a game being replayed and records the duration of its turn.
+     * @param game - id of the game.
+     * @param nanos - time of the record that ended the turn.
+     * @return the game, null if the journal doesn't contain its start.
+     */
+    private ReplayedGame replayed(int game, long nanos) {
+        ReplayedGame replayedGame = games.get(game);
+        if (replayedGame == null) {
+            mismatch(null, "record of game " + game + " without its start");
+            return null;
+        }
+        replayedGame.turns++;
+        replayedGame.maxTurn = Math.max(replayedGame.maxTurn, nanos - replayedGame.last);
+        replayedGame.last = nanos;
+        return replayedGame;
+    }
+
+    /**
+     * Method that records a difference between the journal and the replay.
+     * @param replayedGame - the game, null if it's unknown.
+     * @param description - description of the difference.
+     */
+    private void mismatch(ReplayedGame replayedGame, String description) {
+        mismatches.add((replayedGame == null ? journal : replayedGame.journal + " game " + replayedGame.game) + ": " + description);
+    }
+
+    /**
+     * Method that describes the results of the replay in JSON.
+     * @param journals - number of journals replayed.
+     * @param elapsedNanos - duration of the replay.
+     * @return the JSON object.
+     */
+    public String toJson(int journals, long elapsedNanos) {
+        String slowest = replayed.stream()
+                .sorted(Comparator.comparingLong((ReplayedGame game) -> game.maxTurn).reversed())
+                .limit(REPORTED)
+                .map(game -> String.format(Locale.ROOT, "{\"journal\":\"%s\",\"game\":%d,\"turns\":%d,\"winner\":%d,"
+                                + "\"maxTurnMicros\":%.1f,\"durationMillis\":%.3f}",
+                        game.journal, game.game, game.turns, game.winner, game.maxTurn / 1e3, (game.last - game.start) / 1e6))
+                .collect(Collectors.joining(",", "[", "]"));
+        String reported = mismatches.stream()
+                .limit(REPORTED)
+                .map(mismatch -> "\"" + mismatch + "\"")
+                .collect(Collectors.joining(",", "[", "]"));
+        return String.format(Locale.ROOT,
+                "{\"journals\":%d,\"records\":%d,\"games\":%d,\"finished\":%d,\"turns\":%d,\"timeouts\":%d,"
+                        + "\"replaySeconds\":%.3f,\"recordsPerSecond\":%.0f,\"mismatches\":%d,\"firstMismatches\":%s,"
+                        + "\"slowestGames\":%s}",
+                journals, records, replayed.size(), finished, turns, timeouts, elapsedNanos / 1e9,
+                records / (elapsedNanos / 1e9), mismatches.size(), reported, slowest);
+    }
+
+    /**
+     * Class that represents a game being replayed: its {@link GameState}, replaced by the one after every turn, and what
+     * the journal tells about it besides the rules, the candidates of the bots and the duration of the turns.
+     */
+    private static final class ReplayedGame {
+
+        private final String journal;
+        private final int game;
+        private final long start;
+        private final StrategyType[] strategies;
+        private final Map<Long, CandidateSet> candidates = new HashMap<>();
+        private GameState state;
+        private int turns;
+        private int winner = -1;
+        private long last;
+        private long maxTurn;
+
+        /**
+         * Constructor of the Class.
+         * @param journal - name of the journal.
+         * @param game - id of the game.
+         * @param start - time of the start of the game.
+         * @param state - the state before the first turn.
+         * @param strategies - Strategy of each Player, null for the Human Player.
+         */
+        private ReplayedGame(String journal, int game, long start, GameState state, StrategyType[] strategies) {
+            this.journal = journal;
+            this.game = game;
+            this.start = start;
+            this.last = start;
+            this.state = state;
+            this.strategies = strategies;
+        }
+
+        /**
+         * Method that returns the candidates of a Player for the code of an opponent, like {@code Player} keeps them. They
+         * are created at the first attempt of the Player to the opponent, so a large roster keeps only the pairs that
+         * played.
+         * @param player - index of the Player.
+         * @param opponent - index of the opponent.
+         * @return the candidates.
+         */
+        private CandidateSet candidatesOf(int player, int opponent) {
+            return candidates.computeIfAbsent((long) player * state.players() + opponent, key -> new CandidateSet(state.space()));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package es1.journal;
+
+import es1.strategy.StrategyType;
+
+/**
+ * Interface of the readers of a journal, {@link JournalReader} calls a method for every record in the order they were
+ * written. The records of the games played at the same time are interleaved, they are told apart by the game id.
+ */
+public interface JournalVisitor {
+
+    /**
+     * Method called for the start of a game, when all the Players generated their secret code.
+     * @param game - id of the game in the journal.
+     * @param nanos - time of the record, in nanoseconds from the opening of the journal.
+     * @param length - length of the codes.
+     * @param codes - packed secret code of each Player.
+     * @param strategies - Strategy of each Player, null for the Human Player.
+     * @param seed - seed of the game, null if it's random.
+     */
+    void setup(int game, long nanos, int length, int[] codes, StrategyType[] strategies, Long seed);
+
+    /**
+     * Method called for an attempt.
+     * @param game - id of the game in the journal.
+     * @param nanos - time of the record, in nanoseconds from the opening of the journal.
+     * @param player - index of the Player that made the attempt.
+     * @param target - index of the Player that received the attempt.
+     * @param attempt - the packed attempt, negative if it was of the wrong length.
+     * @param feedback - the packed result of the attempt.
+     */
+    void attempt(int game, long nanos, int player, int target, int attempt, int feedback);
+
+    /**
+     * Method called for a turn that ended with a timeout.
+     * @param game - id of the game in the journal.
+     * @param nanos - time of the record, in nanoseconds from the opening of the journal.
+     * @param player - index of the Player whose turn expired.
+     */
+    void timeout(int game, long nanos, int player);
+
+    /**
+     * Method called for a win message.
+     * @param game - id of the game in the journal.
+     * @param nanos - time of the record, in nanoseconds from the opening of the journal.
+     * @param player - index of the Player that claimed the win, negative if it was sent by the GUI.
+     * @param valid - true if the Arbiter accepted the claim.
+     * @param targets - index of the Player of every claimed code.
+     * @param claims - the claimed packed codes, negative if a code was of the wrong length.
+     */
+    void win(int game, long nanos, int player, boolean valid, int[] targets, int[] claims);
+}
@@ -0,0 +1,52 @@
+package es1.metrics;
+
+import akka.actor.AbstractActor;
+import akka.actor.AbstractExtensionId;
+import akka.actor.DeadLetter;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+import akka.actor.Props;
+
+/**
+ * Class that counts the dead letters of an ActorSystem in {@link GameMetrics}, with an actor subscribed to them on the
+ * event stream. It's an Akka Extension loaded when the ActorSystem starts, listed in akka.extensions.
+ */
+public class DeadLetterCounter implements Extension {
+
+    /**
+     * Constructor of the Class, it starts the listener.
+     * @param system - the ActorSystem.
+     */
+    private DeadLetterCounter(ExtendedActorSystem system) {
+        system.systemActorOf(Props.create(Listener.class), "deadLetterCounter");
+    }
+
+    /**
+     * Class that is the identifier of the Extension, created by Akka from its name in akka.extensions.
+     */
+    public static final class Id extends AbstractExtensionId<DeadLetterCounter> {
+
+        @Override
+        public DeadLetterCounter createExtension(ExtendedActorSystem system) {
+            return new DeadLetterCounter(system);
+        }
+    }
+
+    /**
+     * Class that is the Actor that receives the dead letters.
+     */
+    public static class Listener extends AbstractActor {
+
+        @Override
+        public void preStart() {
+            getContext().getSystem().getEventStream().subscribe(getSelf(), DeadLetter.class);
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(DeadLetter.class, deadLetter -> GameMetrics.deadLetter())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package es1.metrics;
+
+import java.util.Locale;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Class that summarizes the values recorded in a histogram, it's read through JMX as a composite value.
+ */
+public class Distribution {
+
+    /**
+     * Fields that represents the summary, in the unit of the metric.
+     */
+    private final long count;
+    private final double mean;
+    private final double p50;
+    private final double p90;
+    private final double p99;
+    private final double max;
+
+    /**
+     * Constructor of the Class.
+     * @param histogram - the recorded values.
+     * @param scale - divisor from the recorded values to the unit of the metric.
+     */
+    Distribution(Histogram histogram, double scale) {
+        this.count = histogram.getTotalCount();
+        this.mean = count == 0 ? 0 : histogram.getMean() / scale;
+        this.p50 = histogram.getValueAtPercentile(50) / scale;
+        this.p90 = histogram.getValueAtPercentile(90) / scale;
+        this.p99 = histogram.getValueAtPercentile(99) / scale;
+        this.max = histogram.getMaxValue() / scale;
+    }
+
+    /**
+     * Method that return the number of values recorded.
+     * @return number of values.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Method that return the mean of the values.
+     * @return the mean.
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Method that return the median of the values.
+     * @return the 50th percentile.
+     */
+    public double getP50() {
+        return p50;
+    }
+
+    /**
+     * Method that return the 90th percentile of the values.
+     * @return the percentile.
+     */
+    public double getP90() {
+        return p90;
+    }
+
+    /**
+     * Method that return the 99th percentile of the values.
+     * @return the percentile.
+     */
+    public double getP99() {
+        return p99;
+    }
+
+    /**
+     * Method that return the maximum of the values.
+     * @return the maximum.
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Method that describes the summary in JSON.
+     * @return the JSON object.
+     */
+    public String toJson() {
+        return String.format(Locale.ROOT, "{\"count\":%d,\"mean\":%.1f,\"p50\":%.1f,\"p90\":%.1f,\"p99\":%.1f,\"max\":%.1f}",
+                count, mean, p50, p90, p99, max);
+    }
+}
@@ -0,0 +1,235 @@
+package es1.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Class that measures the games of this JVM: the latency of the turns, the time the bots spend computing their guesses
+ * and waiting for the responses of the opponents, the timeouts, the size of the mailboxes of the actors of the games, the
+ * messages they dropped and the dead letters.
+ * The times are recorded in HdrHistogram Recorders, that the actors of concurrent games write without locks; they are
+ * read through JMX, as the MXBean {@value #OBJECT_NAME}, and at the end of a headless run.
+ */
+public final class GameMetrics implements GameMetricsMXBean {
+
+    /**
+     * Name of the MXBean.
+     */
+    public static final String OBJECT_NAME = "es1:type=GameMetrics";
+
+    private static final double MICROS = 1e3;
+
+    private static final Metric TURNS = new Metric();
+    private static final Metric GUESSES = new Metric();
+    private static final Metric RESPONSES = new Metric();
+    private static final Metric MAILBOXES = new Metric();
+    private static final LongAdder TIMEOUTS = new LongAdder();
+    private static final LongAdder MESSAGES = new LongAdder();
+    private static final LongAdder DROPPED = new LongAdder();
+    private static final LongAdder DEAD_LETTERS = new LongAdder();
+    private static volatile long since = System.nanoTime();
+
+    private static final GameMetrics INSTANCE = new GameMetrics();
+
+    static {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(INSTANCE, name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Can't register " + OBJECT_NAME, e);
+        }
+    }
+
+    private GameMetrics() {
+    }
+
+    /**
+     * Method that returns the metrics, registering them in JMX the first time.
+     * @return the metrics.
+     */
+    public static GameMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Method called by the Arbiter when a turn ends with an attempt.
+     * @param latencyNanos - time from the start of the turn to the attempt.
+     */
+    public static void turnEnded(long latencyNanos) {
+        TURNS.record(latencyNanos);
+    }
+
+    /**
+     * Method called by the Arbiter when a turn ends with a timeout.
+     */
+    public static void turnTimedOut() {
+        TIMEOUTS.increment();
+    }
+
+    /**
+     * Method called by a bot when it has its guess.
+     * @param nanos - time spent computing it.
+     */
+    public static void guessComputed(long nanos) {
+        GUESSES.record(nanos);
+    }
+
+    /**
+     * Method called by a Player when it receives the response to its attempt.
+     * @param nanos - time from the attempt sent to the response.
+     */
+    public static void responseReceived(long nanos) {
+        RESPONSES.record(nanos);
+    }
+
+    /**
+     * Method called by a mailbox of the games when it receives a message.
+     * @param size - messages in the mailbox, with the new one.
+     */
+    public static void messageEnqueued(int size) {
+        MESSAGES.increment();
+        MAILBOXES.record(size);
+    }
+
+    /**
+     * Method called by a mailbox when it drops a message because it's full.
+     */
+    public static void messageDropped() {
+        DROPPED.increment();
+    }
+
+    /**
+     * Method called for every dead letter of an ActorSystem.
+     */
+    public static void deadLetter() {
+        DEAD_LETTERS.increment();
+    }
+
+    @Override
+    public Distribution getTurnLatencyMicros() {
+        return new Distribution(TURNS.total(), MICROS);
+    }
+
+    @Override
+    public Distribution getGuessMicros() {
+        return new Distribution(GUESSES.total(), MICROS);
+    }
+
+    @Override
+    public Distribution getResponseMicros() {
+        return new Distribution(RESPONSES.total(), MICROS);
+    }
+
+    @Override
+    public Distribution getMailboxSize() {
+        return new Distribution(MAILBOXES.total(), 1);
+    }
+
+    @Override
+    public long getTimeouts() {
+        return TIMEOUTS.sum();
+    }
+
+    @Override
+    public double getTimeoutRate() {
+        long timeouts = TIMEOUTS.sum();
+        long turns = timeouts + TURNS.total().getTotalCount();
+        return turns == 0 ? 0 : (double) timeouts / turns;
+    }
+
+    @Override
+    public long getMessages() {
+        return MESSAGES.sum();
+    }
+
+    @Override
+    public double getMessagesPerSecond() {
+        return MESSAGES.sum() / ((System.nanoTime() - since) / 1e9);
+    }
+
+    @Override
+    public long getDroppedMessages() {
+        return DROPPED.sum();
+    }
+
+    @Override
+    public long getDeadLetters() {
+        return DEAD_LETTERS.sum();
+    }
+
+    @Override
+    public String dump() {
+        return String.format(Locale.ROOT,
+                "{\"turnLatencyMicros\":%s,\"guessMicros\":%s,\"responseMicros\":%s,\"timeouts\":%d,\"timeoutRate\":%.4f,"
+                        + "\"mailboxSize\":%s,\"messages\":%d,\"messagesPerSecond\":%.0f,\"droppedMessages\":%d,\"deadLetters\":%d}",
+                getTurnLatencyMicros().toJson(),
+                getGuessMicros().toJson(),
+                getResponseMicros().toJson(),
+                getTimeouts(),
+                getTimeoutRate(),
+                getMailboxSize().toJson(),
+                getMessages(),
+                getMessagesPerSecond(),
+                getDroppedMessages(),
+                getDeadLetters());
+    }
+
+    @Override
+    public void reset() {
+        TURNS.reset();
+        GUESSES.reset();
+        RESPONSES.reset();
+        MAILBOXES.reset();
+        TIMEOUTS.reset();
+        MESSAGES.reset();
+        DROPPED.reset();
+        DEAD_LETTERS.reset();
+        since = System.nanoTime();
+    }
+
+    /**
+     * Class that records the values of a metric, the values recorded since the last read are added to the total when
+     * it's read.
+     */
+    private static final class Metric {
+
+        private final Recorder recorder = new Recorder(3);
+        private final Histogram total = new Histogram(3);
+
+        /**
+         * Method that records a value.
+         * @param value - the value, negative values are ignored.
+         */
+        private void record(long value) {
+            if (value >= 0) {
+                recorder.recordValue(value);
+            }
+        }
+
+        /**
+         * Method that returns all the values recorded.
+         * @return a copy of the histogram of the values.
+         */
+        private synchronized Histogram total() {
+            total.add(recorder.getIntervalHistogram());
+            return total.copy();
+        }
+
+        /**
+         * Method that clears the values recorded.
+         */
+        private synchronized void reset() {
+            recorder.reset();
+            total.reset();
+        }
+    }
+}
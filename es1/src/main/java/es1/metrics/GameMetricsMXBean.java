@@ -0,0 +1,80 @@
+package es1.metrics;
+
+/**
+ * Interface of the metrics of the games of a JVM, as they are exposed through JMX with the name
+ * {@value GameMetrics#OBJECT_NAME}.
+ */
+public interface GameMetricsMXBean {
+
+    /**
+     * Method that return the latency of the turns that ended with an attempt, from the start of the turn to the
+     * attempt received by the Arbiter.
+     * @return the distribution in microseconds.
+     */
+    Distribution getTurnLatencyMicros();
+
+    /**
+     * Method that return the time the bots spent computing their guesses.
+     * @return the distribution in microseconds.
+     */
+    Distribution getGuessMicros();
+
+    /**
+     * Method that return the time from the attempt sent by a Player to the response of the opponent.
+     * @return the distribution in microseconds.
+     */
+    Distribution getResponseMicros();
+
+    /**
+     * Method that return the size of the mailboxes of the games, recorded at every message they received.
+     * @return the distribution in messages.
+     */
+    Distribution getMailboxSize();
+
+    /**
+     * Method that return the turns that ended with a timeout.
+     * @return number of timeouts.
+     */
+    long getTimeouts();
+
+    /**
+     * Method that return the fraction of the turns that ended with a timeout instead of an attempt.
+     * @return the rate between 0 and 1.
+     */
+    double getTimeoutRate();
+
+    /**
+     * Method that return the messages received by the mailboxes of the games.
+     * @return number of messages.
+     */
+    long getMessages();
+
+    /**
+     * Method that return the messages received by the mailboxes of the games per second since the last reset.
+     * @return the rate.
+     */
+    double getMessagesPerSecond();
+
+    /**
+     * Method that return the messages dropped by the mailboxes of the games because they were full.
+     * @return number of messages.
+     */
+    long getDroppedMessages();
+
+    /**
+     * Method that return the dead letters of the ActorSystems of the JVM.
+     * @return number of dead letters.
+     */
+    long getDeadLetters();
+
+    /**
+     * Method that describes all the metrics in JSON.
+     * @return the JSON object.
+     */
+    String dump();
+
+    /**
+     * Method that clears all the metrics.
+     */
+    void reset();
+}
@@ -0,0 +1,60 @@
+package es1.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class that counts the games in progress and the actors of the games alive in this JVM, to check that the actors of
+ * the finished games are reclaimed and the memory stays flat during long sessions.
+ */
+public final class LiveCounters {
+
+    private static final AtomicInteger GAMES = new AtomicInteger();
+    private static final AtomicInteger ACTORS = new AtomicInteger();
+
+    private LiveCounters() {
+    }
+
+    /**
+     * Method called when a game starts.
+     */
+    public static void gameStarted() {
+        GAMES.incrementAndGet();
+    }
+
+    /**
+     * Method called when a game ends or is stopped.
+     */
+    public static void gameEnded() {
+        GAMES.decrementAndGet();
+    }
+
+    /**
+     * Method called in the preStart of the actors of the game.
+     */
+    public static void actorStarted() {
+        ACTORS.incrementAndGet();
+    }
+
+    /**
+     * Method called in the postStop of the actors of the game.
+     */
+    public static void actorStopped() {
+        ACTORS.decrementAndGet();
+    }
+
+    /**
+     * Method that return the games in progress.
+     * @return number of games.
+     */
+    public static int liveGames() {
+        return GAMES.get();
+    }
+
+    /**
+     * Method that return the actors of the games alive: Arbiters, Players and TimeoutActors.
+     * @return number of actors.
+     */
+    public static int liveActors() {
+        return ACTORS.get();
+    }
+}
@@ -0,0 +1,145 @@
+package es1.metrics;
+
+import es1.strategy.StrategyType;
+import es1.util.GameResultMsg;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Class that collects the statistics of all the games of a tournament.
+ * It's filled only by the Tournament actor and read after the Tournament sent it with its result.
+ */
+public class TournamentStatistics {
+
+    /**
+     * Fields that represents the collected data.
+     */
+    private long[] latencies = new long[1024];
+    private int latencyCount;
+    private int games;
+    private int failedGames;
+    private long turns;
+    private long messages;
+    private final Map<StrategyType, Integer> wins = new EnumMap<>(StrategyType.class);
+    private final Map<StrategyType, Long> winningTurns = new EnumMap<>(StrategyType.class);
+
+    /**
+     * Method that records the result of a game.
+     * @param result - the result sent by the Arbiter of the game.
+     */
+    public void recordGame(GameResultMsg result) {
+        this.games++;
+        this.turns += result.getTurns();
+        this.messages += result.getMessages();
+        for (long latency : result.getTurnLatencies()) {
+            recordTurn(latency);
+        }
+        if (result.getWinnerStrategy() != null) {
+            wins.merge(result.getWinnerStrategy(), 1, Integer::sum);
+            winningTurns.merge(result.getWinnerStrategy(), (long) result.getTurns(), Long::sum);
+        }
+    }
+
+    /**
+     * Method that records a game that ended without a result.
+     */
+    public void recordFailedGame() {
+        this.failedGames++;
+    }
+
+    /**
+     * Method that records the latency of a turn.
+     * @param latencyNanos - latency in nanoseconds.
+     */
+    private void recordTurn(long latencyNanos) {
+        if (latencyCount == latencies.length) {
+            latencies = Arrays.copyOf(latencies, latencies.length * 2);
+        }
+        latencies[latencyCount++] = latencyNanos;
+    }
+
+    /**
+     * Method that return the number of games recorded.
+     * @return number of games.
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Method that return the number of games that ended without a result.
+     * @return number of failed games.
+     */
+    public int getFailedGames() {
+        return failedGames;
+    }
+
+    /**
+     * Method that return the number of games won by the bots with a Strategy.
+     * @param strategy - the Strategy.
+     * @return number of wins.
+     */
+    public int getWins(StrategyType strategy) {
+        return wins.getOrDefault(strategy, 0);
+    }
+
+    /**
+     * Method that describes the statistics in JSON, with the metrics of the games of this JVM.
+     * @param options - options of the run, as a JSON object.
+     * @param elapsedNanos - duration of the run.
+     * @return the JSON object.
+     */
+    public String toJson(String options, long elapsedNanos) {
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        return String.format(Locale.ROOT,
+                "{\"options\":%s,\"games\":%d,\"failedGames\":%d,\"elapsedSeconds\":%.3f,\"gamesPerSecond\":%.2f,\"turnsPerGame\":%.2f,"
+                        + "\"messagesPerGame\":%.2f,\"turnLatencyMicros\":{\"p50\":%.1f,\"p99\":%.1f,\"max\":%.1f},"
+                        + "\"strategies\":%s,\"liveGames\":%d,\"liveActors\":%d,\"metrics\":%s}",
+                options,
+                games,
+                failedGames,
+                elapsedNanos / 1e9,
+                games / (elapsedNanos / 1e9),
+                games == 0 ? 0.0 : (double) turns / games,
+                games == 0 ? 0.0 : (double) messages / games,
+                percentile(sorted, 0.50) / 1e3,
+                percentile(sorted, 0.99) / 1e3,
+                sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1e3,
+                strategiesJson(),
+                LiveCounters.liveGames(),
+                LiveCounters.liveActors(),
+                GameMetrics.get().dump());
+    }
+
+    /**
+     * Method that describes the wins of every Strategy in JSON, with the average turns of the games they won.
+     * @return the JSON object.
+     */
+    private String strategiesJson() {
+        StringBuilder json = new StringBuilder("{");
+        wins.forEach((strategy, won) -> {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append(String.format(Locale.ROOT, "\"%s\":{\"wins\":%d,\"turnsPerWin\":%.2f}",
+                    strategy, won, (double) winningTurns.get(strategy) / won));
+        });
+        return json.append('}').toString();
+    }
+
+    /**
+     * Method that returns a percentile of sorted values.
+     * @param sorted - the values.
+     * @param fraction - the percentile between 0 and 1.
+     * @return the value of the percentile.
+     */
+    private static double percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(fraction * sorted.length) - 1)];
+    }
+}
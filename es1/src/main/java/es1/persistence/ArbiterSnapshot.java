@@ -0,0 +1,89 @@
+package es1.persistence;
+
+import es1.util.StartMsg;
+import java.io.Serializable;
+
+/**
+ * Class that is the snapshot of the state of an Arbiter, the state after all its events up to the snapshot.
+ */
+public class ArbiterSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Fields that represents the game in progress: the message that started it, the secret codes, the order of the
+     * turns of the round, the next turn of the round, the turns played and the attempts made.
+     */
+    private final StartMsg start;
+    private final int[] codes;
+    private final int[] order;
+    private final int count;
+    private final int turns;
+    private final int[] history;
+
+    /**
+     * Constructor of the class.
+     * @param start - the message that started the game, null if there's no game in progress.
+     * @param codes - packed secret code of each Player, null if they aren't all generated.
+     * @param order - indexes of the Players in the order of the turns of the round.
+     * @param count - position in the order of the next turn.
+     * @param turns - number of turns played.
+     * @param history - the attempts made, 4 values each: Player, target, packed attempt and packed result.
+     */
+    public ArbiterSnapshot(StartMsg start, int[] codes, int[] order, int count, int turns, int[] history) {
+        this.start = start;
+        this.codes = codes;
+        this.order = order;
+        this.count = count;
+        this.turns = turns;
+        this.history = history;
+    }
+
+    /**
+     * Method that return the message that started the game.
+     * @return the start message, null if there's no game in progress.
+     */
+    public StartMsg getStart() {
+        return start;
+    }
+
+    /**
+     * Method that return the secret codes.
+     * @return packed secret code of each Player, null if they aren't all generated.
+     */
+    public int[] getCodes() {
+        return codes;
+    }
+
+    /**
+     * Method that return the order of the turns of the round.
+     * @return indexes of the Players.
+     */
+    public int[] getOrder() {
+        return order;
+    }
+
+    /**
+     * Method that return the position in the order of the next turn.
+     * @return the position.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Method that return the number of turns played.
+     * @return number of turns.
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Method that return the attempts made.
+     * @return 4 values for each attempt: Player, target, packed attempt and packed result.
+     */
+    public int[] getHistory() {
+        return history;
+    }
+}
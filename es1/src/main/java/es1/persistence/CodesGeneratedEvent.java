@@ -0,0 +1,44 @@
+package es1.persistence;
+
+import java.io.Serializable;
+
+/**
+ * Class that is the event of the Arbiter for the secret codes of the Players, when they are all generated and the
+ * first round is shuffled.
+ */
+public class CodesGeneratedEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Fields that represents the packed secret code of each Player and the order of the first round.
+     */
+    private final int[] codes;
+    private final int[] order;
+
+    /**
+     * Constructor of the class.
+     * @param codes - packed secret code of each Player.
+     * @param order - indexes of the Players in the order of their turns.
+     */
+    public CodesGeneratedEvent(int[] codes, int[] order) {
+        this.codes = codes;
+        this.order = order;
+    }
+
+    /**
+     * Method that return the secret codes.
+     * @return packed secret code of each Player.
+     */
+    public int[] getCodes() {
+        return codes;
+    }
+
+    /**
+     * Method that return the order of the first round.
+     * @return indexes of the Players.
+     */
+    public int[] getOrder() {
+        return order;
+    }
+}
@@ -0,0 +1,32 @@
+package es1.persistence;
+
+import java.io.Serializable;
+
+/**
+ * Class that is the event of the Arbiter for the end of a game, with a winner or stopped.
+ */
+public class GameEndedEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Field that represents the winner.
+     */
+    private final int winner;
+
+    /**
+     * Constructor of the class.
+     * @param winner - index of the winner, negative if the game was stopped or won from the GUI.
+     */
+    public GameEndedEvent(int winner) {
+        this.winner = winner;
+    }
+
+    /**
+     * Method that return the winner.
+     * @return index of the winner.
+     */
+    public int getWinner() {
+        return winner;
+    }
+}
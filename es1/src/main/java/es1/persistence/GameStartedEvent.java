@@ -0,0 +1,33 @@
+package es1.persistence;
+
+import es1.util.StartMsg;
+import java.io.Serializable;
+
+/**
+ * Class that is the event of the Arbiter for the start of a game.
+ */
+public class GameStartedEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Field that represents the message that started the game, without its observer.
+     */
+    private final StartMsg start;
+
+    /**
+     * Constructor of the class.
+     * @param start - the message that started the game.
+     */
+    public GameStartedEvent(StartMsg start) {
+        this.start = start;
+    }
+
+    /**
+     * Method that return the message that started the game.
+     * @return the start message.
+     */
+    public StartMsg getStart() {
+        return start;
+    }
+}
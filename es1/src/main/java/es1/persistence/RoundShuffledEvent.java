@@ -0,0 +1,32 @@
+package es1.persistence;
+
+import java.io.Serializable;
+
+/**
+ * Class that is the event of the Arbiter for the start of a new round, with the turns in a new order.
+ */
+public class RoundShuffledEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Field that represents the order of the turns of the round.
+     */
+    private final int[] order;
+
+    /**
+     * Constructor of the class.
+     * @param order - indexes of the Players in the order of their turns.
+     */
+    public RoundShuffledEvent(int[] order) {
+        this.order = order;
+    }
+
+    /**
+     * Method that return the order of the round.
+     * @return indexes of the Players.
+     */
+    public int[] getOrder() {
+        return order;
+    }
+}
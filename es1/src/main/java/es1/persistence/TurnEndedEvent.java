@@ -0,0 +1,92 @@
+package es1.persistence;
+
+import java.io.Serializable;
+
+/**
+ * Class that is the event of the Arbiter for the end of a turn that didn't end the game.
+ */
+public class TurnEndedEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Ways a turn can end.
+     */
+    public static final int ATTEMPT = 0;
+    public static final int TIMEOUT = 1;
+    public static final int WRONG_WIN = 2;
+
+    /**
+     * Fields that represents how the turn ended, the Player of the turn and its attempt.
+     */
+    private final int kind;
+    private final int player;
+    private final int target;
+    private final int attempt;
+    private final int result;
+
+    /**
+     * Constructor of the class, for a turn that ended without attempt.
+     * @param kind - {@link #TIMEOUT} or {@link #WRONG_WIN}, the Player is removed from the turns.
+     * @param player - index of the Player of the turn.
+     */
+    public TurnEndedEvent(int kind, int player) {
+        this(kind, player, -1, -1, 0);
+    }
+
+    /**
+     * Constructor of the class.
+     * @param kind - how the turn ended.
+     * @param player - index of the Player of the turn.
+     * @param target - index of the Player that received the attempt.
+     * @param attempt - the packed attempt, negative if it isn't a valid code.
+     * @param result - the packed result of the attempt.
+     */
+    public TurnEndedEvent(int kind, int player, int target, int attempt, int result) {
+        this.kind = kind;
+        this.player = player;
+        this.target = target;
+        this.attempt = attempt;
+        this.result = result;
+    }
+
+    /**
+     * Method that return how the turn ended.
+     * @return {@link #ATTEMPT}, {@link #TIMEOUT} or {@link #WRONG_WIN}.
+     */
+    public int getKind() {
+        return kind;
+    }
+
+    /**
+     * Method that return the Player of the turn.
+     * @return index of the Player.
+     */
+    public int getPlayer() {
+        return player;
+    }
+
+    /**
+     * Method that return the Player that received the attempt.
+     * @return index of the Player, -1 if there was no attempt.
+     */
+    public int getTarget() {
+        return target;
+    }
+
+    /**
+     * Method that return the attempt.
+     * @return the packed attempt.
+     */
+    public int getAttempt() {
+        return attempt;
+    }
+
+    /**
+     * Method that return the result of the attempt.
+     * @return the packed result.
+     */
+    public int getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,48 @@
+package es1.remote;
+
+import akka.actor.ActorSystem;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Class that creates the ActorSystems of the games whose bots run in other JVMs: the player nodes, that only host the
+ * bots deployed on them, and the ActorSystem of the Arbiters, that deploys the bots on the player nodes.
+ */
+public final class RemoteNodes {
+
+    /**
+     * Name of the ActorSystem of every player node.
+     */
+    public static final String PLAYER_SYSTEM_NAME = "MastermindPlayers";
+
+    private RemoteNodes() {
+    }
+
+    /**
+     * Method that starts a player node.
+     * @param port - port of the node.
+     * @return the ActorSystem of the node.
+     */
+    public static ActorSystem startPlayerNode(int port) {
+        Config config = ConfigFactory.parseString("akka.remote.artery.canonical.port = " + port)
+                .withFallback(ConfigFactory.load("remote"));
+        return ActorSystem.create(PLAYER_SYSTEM_NAME, config);
+    }
+
+    /**
+     * Method that returns the configuration of an ActorSystem whose Arbiters deploy the bots on player nodes.
+     * @param playerNodes - host:port of the player nodes.
+     * @return the configuration.
+     */
+    public static Config arbiterConfig(List<String> playerNodes) {
+        List<String> addresses = playerNodes.stream()
+                .map(node -> "akka://" + PLAYER_SYSTEM_NAME + "@" + node)
+                .collect(Collectors.toList());
+        return ConfigFactory.empty()
+                .withValue("es1.remote.player-nodes", ConfigValueFactory.fromIterable(addresses))
+                .withFallback(ConfigFactory.load("remote"));
+    }
+}
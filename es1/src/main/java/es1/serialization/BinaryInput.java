@@ -0,0 +1,120 @@
+package es1.serialization;
+
+import java.io.NotSerializableException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Class that reads the binary frames written by {@link BinaryOutput}.
+ */
+class BinaryInput {
+
+    /**
+     * Fields that represents the bytes to read and the position of the next one.
+     */
+    private final byte[] bytes;
+    private int position;
+
+    /**
+     * Constructor of the Class.
+     * @param bytes - the frame.
+     */
+    BinaryInput(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Method that reads a byte.
+     * @return the byte, between 0 and 255.
+     * @throws NotSerializableException if the frame is truncated.
+     */
+    int readByte() throws NotSerializableException {
+        check(1);
+        return bytes[position++] & 0xFF;
+    }
+
+    /**
+     * Method that reads a value written with {@link BinaryOutput#writeVarLong(long)}.
+     * @return the value.
+     * @throws NotSerializableException if the frame is truncated or malformed.
+     */
+    long readVarLong() throws NotSerializableException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new NotSerializableException("Malformed varint");
+    }
+
+    /**
+     * Method that reads a value written with {@link BinaryOutput#writeVarLong(long)} that must fit an int.
+     * @return the value.
+     * @throws NotSerializableException if the frame is truncated or malformed.
+     */
+    int readVarInt() throws NotSerializableException {
+        long value = readVarLong();
+        if (value > Integer.MAX_VALUE) {
+            throw new NotSerializableException("Varint out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Method that reads a value written with {@link BinaryOutput#writeSignedVarLong(long)}.
+     * @return the value.
+     * @throws NotSerializableException if the frame is truncated or malformed.
+     */
+    long readSignedVarLong() throws NotSerializableException {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Method that reads a string.
+     * @return the string.
+     * @throws NotSerializableException if the frame is truncated or malformed.
+     */
+    String readString() throws NotSerializableException {
+        int length = readVarInt();
+        check(length);
+        String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    /**
+     * Method that reads an array of bytes preceded by its length.
+     * @return the bytes.
+     * @throws NotSerializableException if the frame is truncated or malformed.
+     */
+    byte[] readBytes() throws NotSerializableException {
+        int length = readVarInt();
+        check(length);
+        byte[] value = Arrays.copyOfRange(bytes, position, position + length);
+        position += length;
+        return value;
+    }
+
+    /**
+     * Method that checks if the frame has bytes left, a frame written before new fields were added at its end doesn't.
+     * @return true or false.
+     */
+    boolean hasMore() {
+        return position < bytes.length;
+    }
+
+    /**
+     * Method that checks that the frame has enough bytes left.
+     * @param needed - bytes that are going to be read.
+     * @throws NotSerializableException if the frame is truncated.
+     */
+    private void check(int needed) throws NotSerializableException {
+        if (needed < 0 || position + needed > bytes.length) {
+            throw new NotSerializableException("Truncated frame");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package es1.serialization;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Class that writes the binary frames of the messages: unsigned varints, zig-zag varints for the values that can be
+ * negative, single bytes and strings in UTF-8 preceded by their length.
+ */
+class BinaryOutput {
+
+    /**
+     * Fields that represents the bytes written.
+     */
+    private byte[] bytes = new byte[32];
+    private int size;
+
+    /**
+     * Method that writes a byte.
+     * @param value - the byte, only the lowest 8 bits are written.
+     */
+    void writeByte(int value) {
+        ensure(1);
+        bytes[size++] = (byte) value;
+    }
+
+    /**
+     * Method that writes a value that is never negative, 7 bits per byte.
+     * @param value - the value.
+     */
+    void writeVarLong(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    /**
+     * Method that writes a value that can be negative, small negative values take few bytes.
+     * @param value - the value.
+     */
+    void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Method that writes a string.
+     * @param value - the string.
+     */
+    void writeString(String value) {
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Method that writes an array of bytes preceded by its length.
+     * @param value - the bytes.
+     */
+    void writeBytes(byte[] value) {
+        writeVarLong(value.length);
+        ensure(value.length);
+        System.arraycopy(value, 0, bytes, size, value.length);
+        size += value.length;
+    }
+
+    /**
+     * Method that returns the bytes written.
+     * @return a copy of the bytes.
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    /**
+     * Method that grows the buffer if it hasn't enough space.
+     * @param needed - bytes that are going to be written.
+     */
+    private void ensure(int needed) {
+        if (size + needed > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + needed));
+        }
+    }
+}
@@ -0,0 +1,561 @@
+package es1.serialization;
+
+import akka.actor.ActorRef;
+import akka.actor.ExtendedActorSystem;
+import akka.serialization.Serialization;
+import akka.serialization.SerializationExtension;
+import akka.serialization.Serializer;
+import akka.serialization.SerializerWithStringManifest;
+import akka.serialization.Serializers;
+import es1.cluster.GameEnvelope;
+import es1.persistence.*;
+import es1.strategy.StrategyType;
+import es1.strategy.TargetType;
+import es1.util.*;
+import java.io.NotSerializableException;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class that serializes the messages exchanged by the actors of a game when they are on different nodes.
+ * Every message is a compact binary frame: packed codes and numbers are varints, results are a single byte with the
+ * packed {@link es1.engine.Feedback} and the paths of the ActorRefs are interned, so they are built and resolved once.
+ * The manifests are short constants that must never change, the frames of a manifest can only get new fields at the
+ * end: the options of a game added after the first layout are written after all the other fields of the frames that
+ * carry the settings, so the events and snapshots journaled before them can still be read.
+ */
+public class MessageSerializer extends SerializerWithStringManifest {
+
+    /**
+     * Identifier of the serializer, it must be the same on every node.
+     */
+    public static final int IDENTIFIER = 7401;
+
+    /**
+     * Manifests of the messages.
+     */
+    static final String TRY_ATTEMPT = "TA";
+    static final String SEND_ATTEMPT = "SA";
+    static final String SEND_RESPONSE = "SR";
+    static final String PLAYER_ATTEMPT = "PA";
+    static final String PUBLIC_ATTEMPT = "PB";
+    static final String WIN = "WM";
+    static final String CODE_GENERATED = "CG";
+    static final String SETUP_PLAYER = "SP";
+    static final String SETUP_HUMAN_PLAYER = "SH";
+    static final String ROSTER = "RM";
+    static final String STOP = "ST";
+    static final String START = "SM";
+    static final String GAME_RESULT = "GR";
+    static final String GAME_ENVELOPE = "GE";
+    static final String GET_GAME_STATUS = "GQ";
+    static final String GAME_STATUS = "GT";
+
+    /**
+     * Manifests of the events and of the snapshots of the Arbiter, written by Akka Persistence.
+     */
+    static final String GAME_STARTED = "EG";
+    static final String CODES_GENERATED = "EC";
+    static final String TURN_ENDED = "ET";
+    static final String ROUND_SHUFFLED = "ER";
+    static final String GAME_ENDED = "EE";
+    static final String ARBITER_SNAPSHOT = "AS";
+
+    /**
+     * Maximum number of interned paths, when it's reached the caches are emptied.
+     */
+    private static final int PATH_CACHE_LIMIT = 4096;
+
+    /**
+     * Fields that represents the ActorSystem and the interned paths.
+     */
+    private final ExtendedActorSystem system;
+    private final Map<ActorRef, String> paths = new ConcurrentHashMap<>();
+    private final Map<String, ActorRef> refs = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor of the Class, called by Akka.
+     * @param system - the ActorSystem that uses the serializer.
+     */
+    public MessageSerializer(ExtendedActorSystem system) {
+        this.system = system;
+    }
+
+    @Override
+    public int identifier() {
+        return IDENTIFIER;
+    }
+
+    @Override
+    public String manifest(Object o) {
+        if (o instanceof TryAttempt) return TRY_ATTEMPT;
+        if (o instanceof SendAttemptToPlayer) return SEND_ATTEMPT;
+        if (o instanceof SendResponseToPlayer) return SEND_RESPONSE;
+        if (o instanceof PlayerAttemptMsg) return PLAYER_ATTEMPT;
+        if (o instanceof PublicAttemptMsg) return PUBLIC_ATTEMPT;
+        if (o instanceof WinMsg) return WIN;
+        if (o instanceof CodeGeneratedMsg) return CODE_GENERATED;
+        if (o instanceof SetupPlayer) return SETUP_PLAYER;
+        if (o instanceof SetupHumanPlayer) return SETUP_HUMAN_PLAYER;
+        if (o instanceof RosterMsg) return ROSTER;
+        if (o instanceof StopMsg) return STOP;
+        if (o instanceof StartMsg) return START;
+        if (o instanceof GameResultMsg) return GAME_RESULT;
+        if (o instanceof GameEnvelope) return GAME_ENVELOPE;
+        if (o instanceof GetGameStatusMsg) return GET_GAME_STATUS;
+        if (o instanceof GameStatusMsg) return GAME_STATUS;
+        if (o instanceof GameStartedEvent) return GAME_STARTED;
+        if (o instanceof CodesGeneratedEvent) return CODES_GENERATED;
+        if (o instanceof TurnEndedEvent) return TURN_ENDED;
+        if (o instanceof RoundShuffledEvent) return ROUND_SHUFFLED;
+        if (o instanceof GameEndedEvent) return GAME_ENDED;
+        if (o instanceof ArbiterSnapshot) return ARBITER_SNAPSHOT;
+        throw new IllegalArgumentException("Can't serialize object of type " + o.getClass());
+    }
+
+    @Override
+    public byte[] toBinary(Object o) {
+        BinaryOutput out = new BinaryOutput();
+        if (o instanceof TryAttempt) {
+            TryAttempt msg = (TryAttempt) o;
+            out.writeByte(msg.isHuman() ? 1 : 0);
+            out.writeSignedVarLong(msg.getAttempt());
+            out.writeSignedVarLong(msg.getPlayerToSend());
+        } else if (o instanceof SendAttemptToPlayer) {
+            out.writeSignedVarLong(((SendAttemptToPlayer) o).getAttempt());
+        } else if (o instanceof SendResponseToPlayer) {
+            out.writeByte(((SendResponseToPlayer) o).getResult());
+        } else if (o instanceof PlayerAttemptMsg) {
+            PlayerAttemptMsg msg = (PlayerAttemptMsg) o;
+            out.writeSignedVarLong(msg.getAttempt());
+            out.writeVarLong(msg.getTarget());
+            out.writeByte(msg.getResult());
+        } else if (o instanceof PublicAttemptMsg) {
+            PublicAttemptMsg msg = (PublicAttemptMsg) o;
+            out.writeVarLong(msg.getPlayer());
+            out.writeSignedVarLong(msg.getAttempt());
+            out.writeVarLong(msg.getTarget());
+            out.writeByte(msg.getResult());
+        } else if (o instanceof WinMsg) {
+            ArrayList<Pair<ActorRef, ArrayList<Integer>>> result = ((WinMsg) o).getResult();
+            out.writeVarLong(result.size());
+            for (Pair<ActorRef, ArrayList<Integer>> pair : result) {
+                writeRef(out, pair.getKey());
+                writeDigits(out, pair.getValue());
+            }
+        } else if (o instanceof CodeGeneratedMsg) {
+            out.writeVarLong(((CodeGeneratedMsg) o).getCode());
+        } else if (o instanceof SetupPlayer) {
+            SetupPlayer msg = (SetupPlayer) o;
+            out.writeVarLong(msg.getNumber());
+            writeSettings(out, msg.getSettings());
+            out.writeSignedVarLong(msg.getCode());
+            writeOptions(out, msg.getSettings());
+        } else if (o instanceof SetupHumanPlayer) {
+            SetupHumanPlayer msg = (SetupHumanPlayer) o;
+            out.writeVarLong(msg.getNumber());
+            writeDigits(out, msg.getCode());
+        } else if (o instanceof RosterMsg) {
+            RosterMsg msg = (RosterMsg) o;
+            writeRoster(out, msg.getRoster());
+            out.writeVarLong(msg.getIndex());
+            out.writeSignedVarLong(msg.getHuman());
+        } else if (o instanceof StopMsg) {
+            //no fields
+        } else if (o instanceof StartMsg) {
+            writeStart(out, (StartMsg) o);
+            writeOptions(out, ((StartMsg) o).getSettings());
+        } else if (o instanceof GameResultMsg) {
+            GameResultMsg msg = (GameResultMsg) o;
+            out.writeSignedVarLong(msg.getWinner());
+            out.writeVarLong(msg.getWinnerStrategy() == null ? 0 : msg.getWinnerStrategy().ordinal() + 1);
+            out.writeVarLong(msg.getTurns());
+            out.writeVarLong(msg.getMessages());
+            out.writeVarLong(msg.getTurnLatencies().length);
+            for (long latency : msg.getTurnLatencies()) {
+                out.writeVarLong(latency);
+            }
+        } else if (o instanceof GameEnvelope) {
+            GameEnvelope msg = (GameEnvelope) o;
+            out.writeString(msg.getGameId());
+            Object message = msg.getMessage();
+            Serializer serializer = SerializationExtension.get(system).findSerializerFor(message);
+            out.writeVarLong(serializer.identifier());
+            out.writeString(Serializers.manifestFor(serializer, message));
+            out.writeBytes(serializer.toBinary(message));
+        } else if (o instanceof GetGameStatusMsg) {
+            //no fields
+        } else if (o instanceof GameStatusMsg) {
+            GameStatusMsg msg = (GameStatusMsg) o;
+            out.writeByte(msg.isInProgress() ? 1 : 0);
+            out.writeVarLong(msg.getTurns());
+            out.writeVarLong(msg.getRecoveryNanos());
+        } else if (o instanceof GameStartedEvent) {
+            writeStart(out, ((GameStartedEvent) o).getStart());
+            writeOptions(out, ((GameStartedEvent) o).getStart().getSettings());
+        } else if (o instanceof CodesGeneratedEvent) {
+            CodesGeneratedEvent event = (CodesGeneratedEvent) o;
+            writeInts(out, event.getCodes());
+            writeInts(out, event.getOrder());
+        } else if (o instanceof TurnEndedEvent) {
+            TurnEndedEvent event = (TurnEndedEvent) o;
+            out.writeVarLong(event.getKind());
+            out.writeVarLong(event.getPlayer());
+            out.writeSignedVarLong(event.getTarget());
+            out.writeSignedVarLong(event.getAttempt());
+            out.writeByte(event.getResult());
+        } else if (o instanceof RoundShuffledEvent) {
+            writeInts(out, ((RoundShuffledEvent) o).getOrder());
+        } else if (o instanceof GameEndedEvent) {
+            out.writeSignedVarLong(((GameEndedEvent) o).getWinner());
+        } else if (o instanceof ArbiterSnapshot) {
+            ArbiterSnapshot snapshot = (ArbiterSnapshot) o;
+            out.writeByte(snapshot.getStart() == null ? 0 : 1);
+            if (snapshot.getStart() != null) {
+                writeStart(out, snapshot.getStart());
+            }
+            out.writeByte(snapshot.getCodes() == null ? 0 : 1);
+            if (snapshot.getCodes() != null) {
+                writeInts(out, snapshot.getCodes());
+            }
+            writeInts(out, snapshot.getOrder());
+            out.writeVarLong(snapshot.getCount());
+            out.writeVarLong(snapshot.getTurns());
+            writeInts(out, snapshot.getHistory());
+            if (snapshot.getStart() != null) {
+                writeOptions(out, snapshot.getStart().getSettings());
+            }
+        } else {
+            throw new IllegalArgumentException("Can't serialize object of type " + o.getClass());
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object fromBinary(byte[] bytes, String manifest) throws NotSerializableException {
+        BinaryInput in = new BinaryInput(bytes);
+        switch (manifest) {
+            case TRY_ATTEMPT:
+                return new TryAttempt(in.readByte() == 1, (int) in.readSignedVarLong(), (int) in.readSignedVarLong());
+            case SEND_ATTEMPT:
+                return new SendAttemptToPlayer((int) in.readSignedVarLong());
+            case SEND_RESPONSE:
+                return new SendResponseToPlayer(in.readByte());
+            case PLAYER_ATTEMPT:
+                return new PlayerAttemptMsg((int) in.readSignedVarLong(), in.readVarInt(), in.readByte());
+            case PUBLIC_ATTEMPT:
+                return new PublicAttemptMsg(in.readVarInt(), (int) in.readSignedVarLong(), in.readVarInt(), in.readByte());
+            case WIN: {
+                int size = in.readVarInt();
+                ArrayList<Pair<ActorRef, ArrayList<Integer>>> result = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    result.add(new Pair<>(readRef(in), readDigits(in)));
+                }
+                return new WinMsg(result);
+            }
+            case CODE_GENERATED:
+                return new CodeGeneratedMsg(in.readVarInt());
+            case SETUP_PLAYER: {
+                int number = in.readVarInt();
+                GameSettings settings = readSettings(in);
+                int code = (int) in.readSignedVarLong();
+                return new SetupPlayer(number, readOptions(in, settings), code);
+            }
+            case SETUP_HUMAN_PLAYER:
+                return new SetupHumanPlayer(in.readVarInt(), readDigits(in));
+            case ROSTER: {
+                ActorRef[] roster = readRoster(in);
+                int index = in.readVarInt();
+                return new RosterMsg(roster, index, in.hasMore() ? (int) in.readSignedVarLong() : -1);
+            }
+            case STOP:
+                return new StopMsg();
+            case START:
+                return withOptions(readStart(in), in);
+            case GAME_RESULT: {
+                int winner = (int) in.readSignedVarLong();
+                int strategy = in.readVarInt();
+                int turns = in.readVarInt();
+                long messages = in.readVarLong();
+                long[] latencies = new long[in.readVarInt()];
+                for (int i = 0; i < latencies.length; i++) {
+                    latencies[i] = in.readVarLong();
+                }
+                return new GameResultMsg(winner, strategy == 0 ? null : StrategyType.values()[strategy - 1], turns, messages, latencies);
+            }
+            case GAME_ENVELOPE: {
+                String gameId = in.readString();
+                int serializerId = in.readVarInt();
+                String messageManifest = in.readString();
+                byte[] message = in.readBytes();
+                return new GameEnvelope(gameId, SerializationExtension.get(system).deserialize(message, serializerId, messageManifest).get());
+            }
+            case GET_GAME_STATUS:
+                return new GetGameStatusMsg();
+            case GAME_STATUS:
+                return new GameStatusMsg(in.readByte() == 1, in.readVarInt(), in.readVarLong());
+            case GAME_STARTED:
+                return new GameStartedEvent(withOptions(readStart(in), in));
+            case CODES_GENERATED:
+                return new CodesGeneratedEvent(readInts(in), readInts(in));
+            case TURN_ENDED:
+                return new TurnEndedEvent(in.readVarInt(), in.readVarInt(), (int) in.readSignedVarLong(), (int) in.readSignedVarLong(), in.readByte());
+            case ROUND_SHUFFLED:
+                return new RoundShuffledEvent(readInts(in));
+            case GAME_ENDED:
+                return new GameEndedEvent((int) in.readSignedVarLong());
+            case ARBITER_SNAPSHOT: {
+                StartMsg start = in.readByte() == 0 ? null : readStart(in);
+                int[] codes = in.readByte() == 0 ? null : readInts(in);
+                int[] order = readInts(in);
+                int count = in.readVarInt();
+                int turns = in.readVarInt();
+                int[] history = readInts(in);
+                return new ArbiterSnapshot(start == null ? null : withOptions(start, in), codes, order, count, turns, history);
+            }
+            default:
+                throw new NotSerializableException("Unknown manifest: " + manifest);
+        }
+    }
+
+    /**
+     * Method that writes the message that starts a game, without its observer and the options of {@link #writeOptions},
+     * that go at the end of the frame.
+     * @param out - the frame.
+     * @param msg - the start message.
+     */
+    private static void writeStart(BinaryOutput out, StartMsg msg) {
+        out.writeVarLong(msg.getNumber());
+        out.writeVarLong(msg.getPlayers());
+        writeSettings(out, msg.getSettings());
+        out.writeByte(msg.isHumanPlayer() ? 1 : 0);
+        if (msg.isHumanPlayer()) {
+            out.writeString(msg.getPlayerName());
+            writeDigits(out, msg.getPlayerCode());
+        }
+    }
+
+    /**
+     * Method that reads the message that starts a game, without the options at the end of the frame.
+     * @param in - the frame.
+     * @return the start message, without observer.
+     * @throws NotSerializableException if the frame is malformed.
+     */
+    private static StartMsg readStart(BinaryInput in) throws NotSerializableException {
+        int number = in.readVarInt();
+        int players = in.readVarInt();
+        GameSettings settings = readSettings(in);
+        if (in.readByte() == 1) {
+            return new StartMsg(number, players, null, settings, in.readString(), readDigits(in));
+        }
+        return new StartMsg(number, players, null, settings);
+    }
+
+    /**
+     * Method that completes a start message with the options at the end of the frame.
+     * @param start - the start message read by {@link #readStart}.
+     * @param in - the frame.
+     * @return the start message with all the options.
+     * @throws NotSerializableException if the frame is malformed.
+     */
+    private static StartMsg withOptions(StartMsg start, BinaryInput in) throws NotSerializableException {
+        GameSettings settings = readOptions(in, start.getSettings());
+        if (start.isHumanPlayer()) {
+            return new StartMsg(start.getNumber(), start.getPlayers(), null, settings, start.getPlayerName(), start.getPlayerCode());
+        }
+        return new StartMsg(start.getNumber(), start.getPlayers(), null, settings);
+    }
+
+    /**
+     * Method that writes an array of ints that can be negative, like codes and indexes, one varint each.
+     * @param out - the frame.
+     * @param values - the ints.
+     */
+    private static void writeInts(BinaryOutput out, int[] values) {
+        out.writeVarLong(values.length);
+        for (int value : values) {
+            out.writeSignedVarLong(value);
+        }
+    }
+
+    /**
+     * Method that reads an array of ints.
+     * @param in - the frame.
+     * @return the ints.
+     * @throws NotSerializableException if the frame is malformed.
+     */
+    private static int[] readInts(BinaryInput in) throws NotSerializableException {
+        int[] values = new int[in.readVarInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (int) in.readSignedVarLong();
+        }
+        return values;
+    }
+
+    /**
+     * Method that writes the chars of a code, one varint each.
+     * @param out - the frame.
+     * @param digits - chars of the code.
+     */
+    private static void writeDigits(BinaryOutput out, ArrayList<Integer> digits) {
+        out.writeVarLong(digits.size());
+        for (Integer digit : digits) {
+            out.writeSignedVarLong(digit);
+        }
+    }
+
+    /**
+     * Method that reads the chars of a code.
+     * @param in - the frame.
+     * @return chars of the code.
+     * @throws NotSerializableException if the frame is malformed.
+     */
+    private static ArrayList<Integer> readDigits(BinaryInput in) throws NotSerializableException {
+        int size = in.readVarInt();
+        ArrayList<Integer> digits = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            digits.add((int) in.readSignedVarLong());
+        }
+        return digits;
+    }
+
+    /**
+     * Method that writes the options of a game of the first layout of the frames.
+     * @param out - the frame.
+     * @param settings - options of the game.
+     */
+    private static void writeSettings(BinaryOutput out, GameSettings settings) {
+        StrategyType[] strategies = settings.getStrategies();
+        out.writeVarLong(strategies.length);
+        for (StrategyType strategy : strategies) {
+            out.writeVarLong(strategy.ordinal());
+        }
+        out.writeVarLong(settings.getGuessBudget());
+        out.writeByte(settings.getSeed() == null ? 0 : 1);
+        if (settings.getSeed() != null) {
+            out.writeSignedVarLong(settings.getSeed());
+        }
+        out.writeVarLong(settings.getTurnTimeout());
+    }
+
+    /**
+     * Method that writes the options of a game added after the first layout of the frames, at the end of a frame.
+     * New options go after these ones.
+     * @param out - the frame.
+     * @param settings - options of the game.
+     */
+    private static void writeOptions(BinaryOutput out, GameSettings settings) {
+        out.writeByte(settings.isSimultaneous() ? 1 : 0);
+        out.writeByte(settings.isVirtualTime() ? 1 : 0);
+        out.writeVarLong(settings.getTarget().ordinal());
+        out.writeByte(settings.isPublicBoard() ? 1 : 0);
+    }
+
+    /**
+     * Method that reads the options of a game of the first layout of the frames.
+     * @param in - the frame.
+     * @return options of the game.
+     * @throws NotSerializableException if the frame is malformed.
+     */
+    private static GameSettings readSettings(BinaryInput in) throws NotSerializableException {
+        StrategyType[] strategies = new StrategyType[in.readVarInt()];
+        for (int i = 0; i < strategies.length; i++) {
+            strategies[i] = StrategyType.values()[in.readVarInt()];
+        }
+        long guessBudget = in.readVarLong();
+        Long seed = in.readByte() == 0 ? null : in.readSignedVarLong();
+        long turnTimeout = in.readVarLong();
+        return new GameSettings()
+                .withStrategies(strategies)
+                .withGuessBudget(guessBudget)
+                .withSeed(seed)
+                .withTurnTimeout(turnTimeout);
+    }
+
+    /**
+     * Method that reads the options at the end of a frame. A frame of the first layout doesn't have them and its game
+     * keeps playing as it did: one turn at a time, on the system clock, with opponents chosen at random and without
+     * public board.
+     * @param in - the frame.
+     * @param settings - the options of the first layout.
+     * @return all the options of the game.
+     * @throws NotSerializableException if the frame is malformed.
+     */
+    private static GameSettings readOptions(BinaryInput in, GameSettings settings) throws NotSerializableException {
+        if (!in.hasMore()) {
+            return settings.withTarget(TargetType.RANDOM);
+        }
+        boolean simultaneous = in.readByte() != 0;
+        boolean virtualTime = in.readByte() != 0;
+        TargetType target = TargetType.values()[in.readVarInt()];
+        boolean publicBoard = in.readByte() != 0;
+        return settings
+                .withSimultaneous(simultaneous)
+                .withVirtualTime(virtualTime)
+                .withTarget(target)
+                .withPublicBoard(publicBoard);
+    }
+
+    /**
+     * Method that writes the Players of a game.
+     * @param out - the frame.
+     * @param roster - the Players.
+     */
+    private void writeRoster(BinaryOutput out, ActorRef[] roster) {
+        out.writeVarLong(roster.length);
+        for (ActorRef ref : roster) {
+            writeRef(out, ref);
+        }
+    }
+
+    /**
+     * Method that reads the Players of a game.
+     * @param in - the frame.
+     * @return the Players.
+     * @throws NotSerializableException if the frame is malformed.
+     */
+    private ActorRef[] readRoster(BinaryInput in) throws NotSerializableException {
+        ActorRef[] roster = new ActorRef[in.readVarInt()];
+        for (int i = 0; i < roster.length; i++) {
+            roster[i] = readRef(in);
+        }
+        return roster;
+    }
+
+    /**
+     * Method that writes an ActorRef as its path, the path of every ActorRef is built only once.
+     * @param out - the frame.
+     * @param ref - the ActorRef.
+     */
+    private void writeRef(BinaryOutput out, ActorRef ref) {
+        String path = paths.get(ref);
+        if (path == null) {
+            if (paths.size() >= PATH_CACHE_LIMIT) {
+                paths.clear();
+            }
+            path = Serialization.serializedActorPath(ref);
+            paths.put(ref, path);
+        }
+        out.writeString(path);
+    }
+
+    /**
+     * Method that reads an ActorRef, the path of every ActorRef is resolved only once.
+     * @param in - the frame.
+     * @return the ActorRef.
+     * @throws NotSerializableException if the frame is malformed.
+     */
+    private ActorRef readRef(BinaryInput in) throws NotSerializableException {
+        String path = in.readString();
+        ActorRef ref = refs.get(path);
+        if (ref == null) {
+            if (refs.size() >= PATH_CACHE_LIMIT) {
+                refs.clear();
+            }
+            ref = system.provider().resolveActorRef(path);
+            refs.put(path, ref);
+        }
+        return ref;
+    }
+}
@@ -0,0 +1,33 @@
+package es1.strategy;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Class that holds the ForkJoinPool where the expensive Strategies score their attempts, so the search uses all the
+ * cores without blocking the threads of the Akka dispatchers.
+ */
+public final class ComputePool {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(
+            Integer.getInteger("es1.compute.parallelism", Runtime.getRuntime().availableProcessors()),
+            pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("es1-compute-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                return thread;
+            },
+            null,
+            false);
+
+    private ComputePool() {
+    }
+
+    /**
+     * Method that return the pool.
+     * @return the compute pool.
+     */
+    public static ForkJoinPool get() {
+        return POOL;
+    }
+}
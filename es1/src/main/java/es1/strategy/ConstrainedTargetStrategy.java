@@ -0,0 +1,52 @@
+package es1.strategy;
+
+import es1.engine.CandidateSet;
+import es1.engine.CodeSpace;
+import es1.engine.Rules;
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * Strategy that attacks the opponent with the fewest codes still possible, the one closest to be solved, and never an
+ * opponent already solved. The Player keeps attacking the same opponent until it solves it instead of spreading its
+ * attempts, and it doesn't waste turns on the codes it knows. Equal opponents, like all of them at the start of the
+ * game, are chosen at random.
+ */
+public class ConstrainedTargetStrategy implements TargetStrategy {
+
+    /**
+     * Field that represents the generator that breaks the ties.
+     */
+    private final Random random;
+
+    /**
+     * Constructor of the Class.
+     * @param random - the generator that breaks the ties, seeded for the same opponents in the same game.
+     */
+    public ConstrainedTargetStrategy(Random random) {
+        this.random = random;
+    }
+
+    @Override
+    public int nextTarget(int player, CodeSpace space, CandidateSet[] candidates, BitSet solved) {
+        int best = -1;
+        int bestSize = Integer.MAX_VALUE;
+        int ties = 0;
+        for (int i = 0; i < candidates.length; i++) {
+            if (i == player || solved.get(i)) {
+                continue;
+            }
+            //an opponent not attacked yet, or with inconsistent results, has all the codes of the space
+            int size = candidates[i] == null || candidates[i].size() == 0 ? space.size() : candidates[i].size();
+            if (size < bestSize) {
+                best = i;
+                bestSize = size;
+                ties = 1;
+            } else if (size == bestSize && random.nextInt(++ties) == 0) {
+                best = i;
+            }
+        }
+        //all the opponents solved, the game is already won
+        return best < 0 ? Rules.opponent(player, candidates.length, random) : best;
+    }
+}
@@ -0,0 +1,31 @@
+package es1.strategy;
+
+import es1.engine.CandidateSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Interface of the Strategy that a bot Player uses to generate its attempts against the other Players.
+ * The Player keeps for each opponent the {@link CandidateSet} of the codes still possible, narrowed with every
+ * result received, and the Strategy always chooses the next attempt among them.
+ */
+public interface GuessStrategy {
+
+    /**
+     * Method that generates the next attempt against an opponent.
+     * @param candidates - the codes still possible for the secret code of the opponent, not empty.
+     * @return the index in the space of the attempt to send.
+     */
+    int nextGuess(CandidateSet candidates);
+
+    /**
+     * Method that generates the next attempt without blocking the caller. The candidates are read before returning,
+     * so the caller can narrow them while the attempt is computed.
+     * Cheap Strategies complete immediately, expensive ones run on the {@link ComputePool}.
+     * @param candidates - the codes still possible for the secret code of the opponent, not empty.
+     * @return the index in the space of the attempt to send.
+     */
+    default CompletionStage<Integer> nextGuessAsync(CandidateSet candidates) {
+        return CompletableFuture.completedFuture(nextGuess(candidates));
+    }
+}
@@ -0,0 +1,134 @@
+package es1.strategy;
+
+import es1.engine.CandidateSet;
+import es1.engine.CodeSpace;
+import es1.engine.Feedback;
+import es1.util.GameClock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Strategy in the style of the Knuth's algorithm for Mastermind.
+ * It chooses as next attempt the code still possible with the smallest worst-case partition of the candidates.
+ * Scoring is O(N^2) in the candidates, so big sets are scored in parallel on the {@link ComputePool} and the
+ * search stops at the time budget with the best attempt found so far. On a virtual clock the budget never runs out
+ * and the attempt depends only on the candidates.
+ * The attempts on all the codes and on the codes left by the first attempt are read from the {@link OpeningBook}
+ * when it has the code space, they are the ones of a complete search.
+ */
+public class MinimaxStrategy implements GuessStrategy {
+
+    /**
+     * Biggest set of candidates scored directly by the caller, 256 candidates cost less than a millisecond.
+     */
+    static final int SEQUENTIAL_LIMIT = 256;
+
+    /**
+     * Fields that represents the time budget of an attempt and the clock that measures it.
+     */
+    private final long budgetNanos;
+    private final GameClock clock;
+    private final OpeningBook book;
+
+    /**
+     * Constructor of the Class, the budget is measured by the system clock.
+     * @param budgetMillis - time that the Strategy can spend to compute an attempt, in milliseconds.
+     */
+    public MinimaxStrategy(long budgetMillis) {
+        this(budgetMillis, GameClock.SYSTEM);
+    }
+
+    /**
+     * Constructor of the Class.
+     * @param budgetMillis - time that the Strategy can spend to compute an attempt, in milliseconds.
+     * @param clock - the clock that measures the budget.
+     */
+    public MinimaxStrategy(long budgetMillis, GameClock clock) {
+        this(budgetMillis, clock, OpeningBook.get());
+    }
+
+    /**
+     * Constructor of the Class.
+     * @param budgetMillis - time that the Strategy can spend to compute an attempt, in milliseconds.
+     * @param clock - the clock that measures the budget.
+     * @param book - the opening book.
+     */
+    public MinimaxStrategy(long budgetMillis, GameClock clock, OpeningBook book) {
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.clock = clock;
+        this.book = book;
+    }
+
+    @Override
+    public int nextGuess(CandidateSet candidates) {
+        return nextGuessAsync(candidates).toCompletableFuture().join();
+    }
+
+    @Override
+    public CompletionStage<Integer> nextGuessAsync(CandidateSet candidates) {
+        int[] set = candidates.indexes();
+        CodeSpace space = candidates.space();
+        int known = book.guess(space, set);
+        if (known >= 0) {
+            return CompletableFuture.completedFuture(known);
+        }
+        if (set.length <= SEQUENTIAL_LIMIT) {
+            return CompletableFuture.completedFuture(score(space, set, false));
+        }
+        long deadline = clock.nanoTime() + budgetNanos;
+        return CompletableFuture.supplyAsync(() -> score(space, set, clock, deadline, true), ComputePool.get());
+    }
+
+    /**
+     * Method that finds the candidate with the smallest worst-case partition, scoring all of them.
+     * @param space - the code space.
+     * @param set - indexes of the candidates.
+     * @param parallel - true to score the candidates in parallel.
+     * @return the index in the space of the attempt.
+     */
+    static int score(CodeSpace space, int[] set, boolean parallel) {
+        return score(space, set, null, 0, parallel);
+    }
+
+    /**
+     * Method that finds the candidate with the smallest worst-case partition.
+     * The best attempt is kept in a single long, worst case in the high half and position in the low half, so the
+     * workers share it without locks and equal worst cases are resolved by position whatever the order of the work.
+     * @param space - the code space.
+     * @param set - indexes of the candidates.
+     * @param clock - the clock of the deadline, null for a search without deadline.
+     * @param deadline - time of the clock after which the candidates not scored yet are skipped.
+     * @param parallel - true to score the candidates in parallel.
+     * @return the index in the space of the attempt.
+     */
+    static int score(CodeSpace space, int[] set, GameClock clock, long deadline, boolean parallel) {
+        if (set.length == 1) {
+            return set[0];
+        }
+        AtomicLong best = new AtomicLong(Long.MAX_VALUE);
+        IntStream positions = IntStream.range(0, set.length);
+        (parallel ? positions.parallel() : positions).forEach(g -> {
+            if (clock != null && clock.nanoTime() - deadline > 0) {
+                return;
+            }
+            int bound = (int) (best.get() >>> 32);
+            int[] partition = new int[Feedback.SIZE];
+            int worstCase = 0;
+            for (int secret : set) {
+                int count = ++partition[space.feedbackAt(secret, set[g])];
+                if (count > worstCase) {
+                    worstCase = count;
+                    if (worstCase > bound) {
+                        return;
+                    }
+                }
+            }
+            best.accumulateAndGet((long) worstCase << 32 | g, Math::min);
+        });
+        long found = best.get();
+        return found == Long.MAX_VALUE ? set[0] : set[(int) found];
+    }
+}
@@ -0,0 +1,306 @@
+package es1.strategy;
+
+import es1.engine.CodeSpace;
+import es1.engine.Feedback;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Class that holds the opening book of the {@link MinimaxStrategy}: for every code space in it, the attempt against
+ * all the codes and the reply to each of its results, computed offline by {@link #build(Path, List)} with the search
+ * of the Strategy without time budget. The first two attempts, the ones that score the most candidates, become a look
+ * up and they are the ones of a complete search also when the budget would cut it.
+ * The file is mapped read-only the first time a Strategy asks for the book, by default opening-book.bin in the working
+ * directory or the one of the system property es1.opening-book; without the file the book is empty, and with a file that
+ * can't be read it's empty too, with a warning, so the Strategies fall back to the search. The same happens to a file
+ * whose spaces aren't valid code spaces or whose attempts aren't codes of their space, so a look up never returns an
+ * index outside the space.
+ * A file starts with MAGIC (int), VERSION (byte) and the number of spaces (byte), then for every space its length,
+ * minimum value, maximum value and duplicates (bytes), the index of the first attempt (int), the number of results of
+ * the first attempt (short) and for each of them the result (byte), the number of codes that give it (int) and the
+ * index of the reply (int).
+ */
+public final class OpeningBook {
+
+    /**
+     * Fields that represents the format of the file: the magic number, the version, the size of the header of the
+     * file, of the header of a space and of a reply.
+     */
+    static final int MAGIC = 0x45534231;
+    static final byte VERSION = 1;
+    static final int HEADER = 6;
+    static final int SPACE_HEADER = 10;
+    static final int REPLY = 9;
+
+    /**
+     * Logger of the warnings of the book, that is loaded outside of the actors.
+     */
+    private static final Logger LOG = Logger.getLogger(OpeningBook.class.getName());
+
+    /**
+     * The book without spaces, that never knows the attempt.
+     */
+    public static final OpeningBook EMPTY = new OpeningBook(ByteBuffer.allocate(HEADER));
+
+    /**
+     * Field that represents the content of the file.
+     */
+    private final ByteBuffer buffer;
+
+    private OpeningBook(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Class that loads the book of the Strategies the first time it's used.
+     */
+    private static final class Holder {
+        private static final OpeningBook BOOK = loadDefault();
+    }
+
+    /**
+     * Method that return the book shared by all the Strategies, loading it the first time.
+     * @return the book, empty if there's no file.
+     */
+    public static OpeningBook get() {
+        return Holder.BOOK;
+    }
+
+    /**
+     * Method that loads the book of the system property es1.opening-book.
+     * @return the book, empty if there's no file or it can't be read.
+     */
+    private static OpeningBook loadDefault() {
+        try {
+            return loadOrEmpty(Paths.get(System.getProperty("es1.opening-book", "opening-book.bin")));
+        } catch (RuntimeException e) {
+            LOG.log(Level.WARNING, "Invalid opening book path, the Strategies search all the attempts", e);
+            return EMPTY;
+        }
+    }
+
+    /**
+     * Method that maps a book file if there's one. A file that isn't a book doesn't stop the Strategies, that search
+     * their attempts without it: it's reported as a warning and the book is empty.
+     * @param file - the book.
+     * @return the book, empty if there's no file or it can't be read.
+     */
+    public static OpeningBook loadOrEmpty(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return EMPTY;
+        }
+        try {
+            return load(file);
+        } catch (IOException | RuntimeException e) {
+            LOG.log(Level.WARNING, "Opening book " + file + " not loaded, the Strategies search all the attempts", e);
+            return EMPTY;
+        }
+    }
+
+    /**
+     * Method that maps a book file.
+     * @param file - the book.
+     * @return the book.
+     * @throws IOException if the file can't be read or it's not a book.
+     */
+    public static OpeningBook load(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.capacity() < HEADER || buffer.getInt(0) != MAGIC || buffer.get(4) != VERSION) {
+            throw new IOException("Not an opening book: " + file);
+        }
+        //the sizes and the indexes are checked once, so the look ups don't read outside the file or the space
+        int at = HEADER;
+        for (int i = 0; i < (buffer.get(5) & 0xFF); i++) {
+            if (at + SPACE_HEADER > buffer.capacity()) {
+                throw new IOException("Truncated opening book: " + file);
+            }
+            int replies = buffer.getShort(at + 8) & 0xFFFF;
+            if (at + SPACE_HEADER + replies * REPLY > buffer.capacity()) {
+                throw new IOException("Truncated opening book: " + file);
+            }
+            validate(buffer, at, file);
+            at += SPACE_HEADER + replies * REPLY;
+        }
+        return new OpeningBook(buffer);
+    }
+
+    /**
+     * Method that checks that a space of the file is a code space and that its attempts are codes of the space: the
+     * first attempt and the replies are indexes below the size of the space, and the codes of the results are all the
+     * codes of the space.
+     * @param buffer - content of the file.
+     * @param entry - position of the space.
+     * @param file - the book.
+     * @throws IOException if the space isn't valid.
+     */
+    private static void validate(ByteBuffer buffer, int entry, Path file) throws IOException {
+        int length = buffer.get(entry);
+        int minValue = buffer.get(entry + 1);
+        int maxValue = buffer.get(entry + 2);
+        boolean duplicates = buffer.get(entry + 3) != 0;
+        try {
+            CodeSpace.of(length, minValue, maxValue, duplicates);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid code space in opening book " + file + ": " + e.getMessage());
+        }
+        //the size is computed from the rules, enumerating the codes of a corrupted header could take all the memory
+        long size = 1;
+        for (int i = 0; i < length; i++) {
+            size *= duplicates ? maxValue - minValue : maxValue - minValue - i;
+        }
+        int first = buffer.getInt(entry + 4);
+        if (first < 0 || first >= size) {
+            throw new IOException("Invalid first attempt " + first + " in opening book " + file);
+        }
+        long codes = 0;
+        int replies = buffer.getShort(entry + 8) & 0xFFFF;
+        for (int i = 0, at = entry + SPACE_HEADER; i < replies; i++, at += REPLY) {
+            int count = buffer.getInt(at + 1);
+            int reply = buffer.getInt(at + 5);
+            if (count <= 0 || reply < 0 || reply >= size) {
+                throw new IOException("Invalid reply " + reply + " to " + count + " codes in opening book " + file);
+            }
+            codes += count;
+        }
+        if (codes != size) {
+            throw new IOException("The results in opening book " + file + " don't cover the " + size + " codes of their space");
+        }
+    }
+
+    /**
+     * Method that finds the attempt of the book for some candidates: the first attempt if they are all the codes of
+     * the space, the reply if they are exactly the codes that give one result to the first attempt.
+     * The check reads every candidate once, far less than scoring them.
+     * @param space - the code space of the candidates.
+     * @param set - indexes of the candidates.
+     * @return the index in the space of the attempt, -1 if the book doesn't know it.
+     */
+    public int guess(CodeSpace space, int[] set) {
+        int entry = find(space);
+        if (entry < 0 || set.length == 0) {
+            return -1;
+        }
+        int first = buffer.getInt(entry + 4);
+        if (set.length == space.size()) {
+            return first;
+        }
+        int feedback = space.feedbackAt(set[0], first);
+        int replies = buffer.getShort(entry + 8) & 0xFFFF;
+        for (int i = 0, at = entry + SPACE_HEADER; i < replies; i++, at += REPLY) {
+            if ((buffer.get(at) & 0xFF) != feedback) {
+                continue;
+            }
+            //the candidates are a subset of the space, with the size of the result they are all the codes that give it
+            if (buffer.getInt(at + 1) != set.length) {
+                return -1;
+            }
+            for (int code : set) {
+                if (space.feedbackAt(code, first) != feedback) {
+                    return -1;
+                }
+            }
+            return buffer.getInt(at + 5);
+        }
+        return -1;
+    }
+
+    /**
+     * Method that checks if the book has the attempts of a code space.
+     * @param space - the code space.
+     * @return true or false.
+     */
+    public boolean contains(CodeSpace space) {
+        return find(space) >= 0;
+    }
+
+    /**
+     * Method that finds the attempts of a code space in the file.
+     * @param space - the code space.
+     * @return the position of the space, -1 if it isn't in the book.
+     */
+    private int find(CodeSpace space) {
+        int at = HEADER;
+        for (int i = 0; i < (buffer.get(5) & 0xFF); i++) {
+            if (buffer.get(at) == space.length() && buffer.get(at + 1) == space.minValue() && buffer.get(at + 2) == space.maxValue()
+                    && (buffer.get(at + 3) != 0) == space.duplicatesAllowed()) {
+                return at;
+            }
+            at += SPACE_HEADER + (buffer.getShort(at + 8) & 0xFFFF) * REPLY;
+        }
+        return -1;
+    }
+
+    /**
+     * Method that computes the book of some code spaces and writes it, the cost is the one of a complete search on
+     * all the codes of each space plus the searches on the codes of each result.
+     * @param file - the book to write.
+     * @param spaces - the code spaces, at most 255.
+     * @throws IOException if the file can't be written.
+     */
+    public static void build(Path file, List<CodeSpace> spaces) throws IOException {
+        if (spaces.size() > 255) {
+            throw new IllegalArgumentException("At most 255 code spaces are allowed");
+        }
+        List<byte[]> entries = new ArrayList<>();
+        int size = HEADER;
+        for (CodeSpace space : spaces) {
+            byte[] entry = entry(space);
+            entries.add(entry);
+            size += entry.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).put(VERSION).put((byte) spaces.size());
+        entries.forEach(buffer::put);
+        Files.write(file, buffer.array());
+    }
+
+    /**
+     * Method that computes the attempts of a code space.
+     * @param space - the code space.
+     * @return the space in the format of the file.
+     */
+    private static byte[] entry(CodeSpace space) {
+        int[] all = new int[space.size()];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = i;
+        }
+        int first = MinimaxStrategy.score(space, all, true);
+        int[] counts = new int[Feedback.SIZE];
+        for (int code : all) {
+            counts[space.feedbackAt(code, first)]++;
+        }
+        List<Integer> results = new ArrayList<>();
+        for (int feedback = 0; feedback < counts.length; feedback++) {
+            if (counts[feedback] > 0) {
+                results.add(feedback);
+            }
+        }
+        ByteBuffer entry = ByteBuffer.allocate(SPACE_HEADER + results.size() * REPLY);
+        entry.put((byte) space.length()).put((byte) space.minValue()).put((byte) space.maxValue())
+                .put((byte) (space.duplicatesAllowed() ? 1 : 0)).putInt(first).putShort((short) results.size());
+        for (int feedback : results) {
+            int[] set = new int[counts[feedback]];
+            int n = 0;
+            for (int code : all) {
+                if (space.feedbackAt(code, first) == feedback) {
+                    set[n++] = code;
+                }
+            }
+            entry.put((byte) feedback).putInt(set.length).putInt(MinimaxStrategy.score(space, set, true));
+        }
+        return entry.array();
+    }
+}
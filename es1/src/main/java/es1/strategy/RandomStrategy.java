@@ -0,0 +1,28 @@
+package es1.strategy;
+
+import es1.engine.CandidateSet;
+import java.util.Random;
+
+/**
+ * Strategy that generates a random attempt among the codes still possible.
+ */
+public class RandomStrategy implements GuessStrategy {
+
+    /**
+     * Field that represents the generator of the attempts.
+     */
+    private final Random random;
+
+    /**
+     * Constructor of the Class.
+     * @param random - the generator of the attempts, seeded for the same attempts in the same game.
+     */
+    public RandomStrategy(Random random) {
+        this.random = random;
+    }
+
+    @Override
+    public int nextGuess(CandidateSet candidates) {
+        return candidates.nth(random.nextInt(candidates.size()));
+    }
+}
@@ -0,0 +1,31 @@
+package es1.strategy;
+
+import es1.engine.CandidateSet;
+import es1.engine.CodeSpace;
+import es1.engine.Rules;
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * Strategy that attacks a random opponent, also the ones already solved.
+ */
+public class RandomTargetStrategy implements TargetStrategy {
+
+    /**
+     * Field that represents the generator of the opponents.
+     */
+    private final Random random;
+
+    /**
+     * Constructor of the Class.
+     * @param random - the generator of the opponents, seeded for the same opponents in the same game.
+     */
+    public RandomTargetStrategy(Random random) {
+        this.random = random;
+    }
+
+    @Override
+    public int nextTarget(int player, CodeSpace space, CandidateSet[] candidates, BitSet solved) {
+        return Rules.opponent(player, candidates.length, random);
+    }
+}
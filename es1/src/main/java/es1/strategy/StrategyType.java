@@ -0,0 +1,46 @@
+package es1.strategy;
+
+import es1.util.GameClock;
+import java.util.Random;
+
+/**
+ * Enum that lists all the Strategies that a bot Player can use to generate its attempts.
+ */
+public enum StrategyType {
+
+    /**
+     * Random attempts among the codes still possible.
+     */
+    RANDOM,
+
+    /**
+     * Knuth-style minimax over the codes still consistent with the received results.
+     */
+    MINIMAX;
+
+    /**
+     * Method that creates a new Strategy of this type.
+     * @param guessBudget - time that the Strategy can spend to compute an attempt, in milliseconds.
+     * @return the new Strategy.
+     */
+    public GuessStrategy create(long guessBudget) {
+        return create(guessBudget, new Random(), GameClock.SYSTEM);
+    }
+
+    /**
+     * Method that creates a new Strategy of this type for a game, with the generator and the clock of the Player.
+     * @param guessBudget - time that the Strategy can spend to compute an attempt, in milliseconds.
+     * @param random - the generator of the random choices of the Strategy.
+     * @param clock - the clock that measures the time budget.
+     * @return the new Strategy.
+     */
+    public GuessStrategy create(long guessBudget, Random random, GameClock clock) {
+        switch (this) {
+            case MINIMAX:
+                return new MinimaxStrategy(guessBudget, clock);
+            case RANDOM:
+            default:
+                return new RandomStrategy(random);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package es1.strategy;
+
+import es1.engine.CandidateSet;
+import es1.engine.CodeSpace;
+import java.util.BitSet;
+
+/**
+ * Interface of the Strategy that a bot Player uses to choose the opponent of its next attempt.
+ * It sees what the Player knows: the {@link CandidateSet} of the codes still possible for every opponent it attacked
+ * and the opponents whose code it already solved.
+ */
+public interface TargetStrategy {
+
+    /**
+     * Method that chooses the opponent of the next attempt.
+     * @param player - index of the Player that makes the attempt.
+     * @param space - the code space of the game.
+     * @param candidates - the codes still possible for each Player, null for the ones not attacked yet.
+     * @param solved - the opponents whose code the Player solved.
+     * @return index of the opponent.
+     */
+    int nextTarget(int player, CodeSpace space, CandidateSet[] candidates, BitSet solved);
+}
@@ -0,0 +1,34 @@
+package es1.strategy;
+
+import java.util.Random;
+
+/**
+ * Enum that lists all the Strategies that a bot Player can use to choose the opponent of its attempts.
+ */
+public enum TargetType {
+
+    /**
+     * Random opponent, also the ones already solved.
+     */
+    RANDOM,
+
+    /**
+     * The opponent with the fewest codes still possible among the ones not solved yet.
+     */
+    CONSTRAINED;
+
+    /**
+     * Method that creates a new Strategy of this type.
+     * @param random - the generator of the Player.
+     * @return the new Strategy.
+     */
+    public TargetStrategy create(Random random) {
+        switch (this) {
+            case RANDOM:
+                return new RandomTargetStrategy(random);
+            case CONSTRAINED:
+            default:
+                return new ConstrainedTargetStrategy(random);
+        }
+    }
+}
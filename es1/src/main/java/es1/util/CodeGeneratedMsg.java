@@ -1,22 +1,24 @@
 package es1.util;
 
-import java.util.ArrayList;
+import java.io.Serializable;
 
 /**
  * Class that manage the Secret Code of the Player in the Game.
  */
-public class CodeGeneratedMsg {
+public class CodeGeneratedMsg implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     /**
      * Fields that represent the Secret Code of the Player.
      */
-    private final ArrayList<Integer> code;
+    private final int code;
 
     /**
      * Constructor of the Class.
-     * @param code of the Player.
+     * @param code of the Player, packed as described in {@link es1.engine.CodeSpace}.
      */
-    public CodeGeneratedMsg(ArrayList<Integer> code) {
+    public CodeGeneratedMsg(int code) {
         this.code = code;
     }
 
@@ -24,7 +26,7 @@ public class CodeGeneratedMsg {
      * Method that Get the Secret Code of the Player.
      * @return code of the Player.
      */
-    public ArrayList<Integer> getCode() {
+    public int getCode() {
         return code;
     }
 }
@@ -0,0 +1,30 @@
+package es1.util;
+
+/**
+ * Interface of the clock that measures the time budget of the attempts and the duration of the turns of a game.
+ * The games run on the {@link #SYSTEM} clock, the games with virtual time on a {@link VirtualClock}, where the time
+ * spent computing doesn't count, so a seeded game always plays the same attempts whatever the speed of the machine.
+ * The metrics always measure the real time.
+ */
+public interface GameClock {
+
+    /**
+     * The clock of the JVM.
+     */
+    GameClock SYSTEM = System::nanoTime;
+
+    /**
+     * Method that return the current time of the clock, only the difference between two times is meaningful.
+     * @return the time in nanoseconds.
+     */
+    long nanoTime();
+
+    /**
+     * Method that creates the clock of a game.
+     * @param settings - options of the game.
+     * @return a new virtual clock for a game with virtual time, the system clock otherwise.
+     */
+    static GameClock of(GameSettings settings) {
+        return settings.isVirtualTime() ? new VirtualClock() : SYSTEM;
+    }
+}
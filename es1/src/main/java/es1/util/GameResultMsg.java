@@ -0,0 +1,77 @@
+package es1.util;
+
+import es1.strategy.StrategyType;
+import java.io.Serializable;
+
+/**
+ * Class that manage the message sent by the Arbiter at the end of a game to the actor that started it.
+ */
+public class GameResultMsg implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Fields that represents the result of the game.
+     */
+    private final int winner;
+    private final StrategyType winnerStrategy;
+    private final int turns;
+    private final long messages;
+    private final long[] turnLatencies;
+
+    /**
+     * Constructor of the Class.
+     * @param winner - index of the winner.
+     * @param winnerStrategy - Strategy of the winner, null if it's the Human Player.
+     * @param turns - number of turns played.
+     * @param messages - number of messages exchanged by the actors of the game.
+     * @param turnLatencies - latency of every turn, in nanoseconds.
+     */
+    public GameResultMsg(int winner, StrategyType winnerStrategy, int turns, long messages, long[] turnLatencies) {
+        this.winner = winner;
+        this.winnerStrategy = winnerStrategy;
+        this.turns = turns;
+        this.messages = messages;
+        this.turnLatencies = turnLatencies;
+    }
+
+    /**
+     * Method that return the index of the winner.
+     * @return index of the winner.
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Method that return the Strategy of the winner.
+     * @return strategy of the winner or null if it's the Human Player.
+     */
+    public StrategyType getWinnerStrategy() {
+        return winnerStrategy;
+    }
+
+    /**
+     * Method that return the number of turns of the game.
+     * @return number of turns.
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Method that return the number of messages exchanged by the actors of the game.
+     * @return number of messages.
+     */
+    public long getMessages() {
+        return messages;
+    }
+
+    /**
+     * Method that return the latency of every turn of the game.
+     * @return latencies in nanoseconds.
+     */
+    public long[] getTurnLatencies() {
+        return turnLatencies;
+    }
+}
@@ -0,0 +1,239 @@
+package es1.util;
+
+import es1.strategy.StrategyType;
+import es1.strategy.TargetType;
+import java.io.Serializable;
+
+/**
+ * Class that collects the options of a game that have a default value, so they can be added without changing the
+ * constructors of the messages. It's immutable, every with-method returns a modified copy.
+ */
+public class GameSettings implements Cloneable, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Default time that a bot can spend to compute its attempt, in milliseconds.
+     */
+    public static final long DEFAULT_GUESS_BUDGET = 1000;
+
+    /**
+     * Default maximum duration of a turn, in milliseconds.
+     */
+    public static final long DEFAULT_TURN_TIMEOUT = 5000;
+
+    /**
+     * Fields that represents the options of the game.
+     */
+    private StrategyType[] strategies = {StrategyType.RANDOM};
+    private long guessBudget = DEFAULT_GUESS_BUDGET;
+    private Long seed;
+    private long turnTimeout = DEFAULT_TURN_TIMEOUT;
+    private boolean simultaneous;
+    private boolean virtualTime;
+    private TargetType target = TargetType.CONSTRAINED;
+    private boolean publicBoard;
+
+    /**
+     * Method that return the Strategy of the bot Players, the one of the first bot if they have different ones.
+     * @return strategy of the bots.
+     */
+    public StrategyType getStrategy() {
+        return strategies[0];
+    }
+
+    /**
+     * Method that return the Strategy of a bot Player, the strategies are assigned to the Players in round robin.
+     * @param player - index of the Player.
+     * @return strategy of the bot.
+     */
+    public StrategyType getStrategy(int player) {
+        return strategies[player % strategies.length];
+    }
+
+    /**
+     * Method that return the Strategies of the bot Players, in the order they are assigned.
+     * @return a copy of the strategies.
+     */
+    public StrategyType[] getStrategies() {
+        return strategies.clone();
+    }
+
+    /**
+     * Method that return a copy of the settings with another Strategy for the bot Players.
+     * @param strategy - Strategy of the bots.
+     * @return the new settings.
+     */
+    public GameSettings withStrategy(StrategyType strategy) {
+        return withStrategies(strategy);
+    }
+
+    /**
+     * Method that return a copy of the settings with different Strategies for the bot Players, the Player i gets the
+     * Strategy i modulo their number.
+     * @param strategies - Strategies of the bots, at least one.
+     * @return the new settings.
+     */
+    public GameSettings withStrategies(StrategyType... strategies) {
+        if (strategies.length == 0) {
+            throw new IllegalArgumentException("At least one strategy is required");
+        }
+        GameSettings settings = copy();
+        settings.strategies = strategies.clone();
+        return settings;
+    }
+
+    /**
+     * Method that return the time that a bot can spend to compute its attempt, after it the best attempt found so
+     * far is used.
+     * @return time budget in milliseconds.
+     */
+    public long getGuessBudget() {
+        return guessBudget;
+    }
+
+    /**
+     * Method that return a copy of the settings with another time budget for the attempts of the bots.
+     * @param guessBudget - time budget in milliseconds.
+     * @return the new settings.
+     */
+    public GameSettings withGuessBudget(long guessBudget) {
+        GameSettings settings = copy();
+        settings.guessBudget = guessBudget;
+        return settings;
+    }
+
+    /**
+     * Method that return the seed of the random generators of the game.
+     * @return the seed or null if the game isn't reproducible.
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Method that return a copy of the settings with another seed for the random generators of the game.
+     * @param seed - the seed or null for a random game.
+     * @return the new settings.
+     */
+    public GameSettings withSeed(Long seed) {
+        GameSettings settings = copy();
+        settings.seed = seed;
+        return settings;
+    }
+
+    /**
+     * Method that return the maximum duration of a turn, after it the Arbiter starts the turn of the next Player. In a
+     * game with simultaneous rounds it's the maximum duration of a round.
+     * @return timeout in milliseconds.
+     */
+    public long getTurnTimeout() {
+        return turnTimeout;
+    }
+
+    /**
+     * Method that return a copy of the settings with another maximum duration of a turn.
+     * @param turnTimeout - timeout in milliseconds.
+     * @return the new settings.
+     */
+    public GameSettings withTurnTimeout(long turnTimeout) {
+        GameSettings settings = copy();
+        settings.turnTimeout = turnTimeout;
+        return settings;
+    }
+
+    /**
+     * Method that return how the turns are played: in a sequential game one Player at a time makes its attempt, in a
+     * simultaneous game every round all the Players make their attempts at once and the next round starts when all of
+     * them answered or the round timed out.
+     * @return true if the rounds are simultaneous.
+     */
+    public boolean isSimultaneous() {
+        return simultaneous;
+    }
+
+    /**
+     * Method that return a copy of the settings with another mode of the rounds.
+     * @param simultaneous - true for simultaneous rounds, false for sequential turns.
+     * @return the new settings.
+     */
+    public GameSettings withSimultaneous(boolean simultaneous) {
+        GameSettings settings = copy();
+        settings.simultaneous = simultaneous;
+        return settings;
+    }
+
+    /**
+     * Method that return the clock of the game: on the system clock the bots have their time budget and the turns
+     * their timeout in real time, on a virtual clock the time spent computing doesn't count, so the bots never run out
+     * of budget and the attempts of a seeded game are the same whatever the speed and the load of the machine.
+     * The virtual time is for games of bots only.
+     * @return true if the game runs on a virtual clock.
+     */
+    public boolean isVirtualTime() {
+        return virtualTime;
+    }
+
+    /**
+     * Method that return a copy of the settings with another clock.
+     * @param virtualTime - true for a virtual clock, false for the system clock.
+     * @return the new settings.
+     */
+    public GameSettings withVirtualTime(boolean virtualTime) {
+        GameSettings settings = copy();
+        settings.virtualTime = virtualTime;
+        return settings;
+    }
+
+    /**
+     * Method that return how the bot Players choose the opponent of their attempts.
+     * @return the Strategy of the opponents.
+     */
+    public TargetType getTarget() {
+        return target;
+    }
+
+    /**
+     * Method that return a copy of the settings with another Strategy for the opponents of the bots.
+     * @param target - Strategy of the opponents.
+     * @return the new settings.
+     */
+    public GameSettings withTarget(TargetType target) {
+        GameSettings settings = copy();
+        settings.target = target;
+        return settings;
+    }
+
+    /**
+     * Method that return who sees the results of the attempts: normally only the Player that made an attempt, on a
+     * public board the Arbiter publishes every attempt with its opponent and result to all the bots of the game, that
+     * narrow with it the codes still possible for that opponent.
+     * @return true if the attempts are public.
+     */
+    public boolean isPublicBoard() {
+        return publicBoard;
+    }
+
+    /**
+     * Method that return a copy of the settings with another visibility of the attempts.
+     * @param publicBoard - true to publish the attempts to all the Players.
+     * @return the new settings.
+     */
+    public GameSettings withPublicBoard(boolean publicBoard) {
+        GameSettings settings = copy();
+        settings.publicBoard = publicBoard;
+        return settings;
+    }
+
+    /**
+     * Method that copies the settings.
+     * @return the copy.
+     */
+    private GameSettings copy() {
+        try {
+            return (GameSettings) clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package es1.util;
+
+import java.io.Serializable;
+
+/**
+ * Class that manage the Message with the status of the game of an Arbiter.
+ */
+public class GameStatusMsg implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Fields that represents if there's a game in progress, its turns and how long the Arbiter took to recover it.
+     */
+    private final boolean inProgress;
+    private final int turns;
+    private final long recoveryNanos;
+
+    /**
+     * Constructor of the class.
+     * @param inProgress - true if a game is in progress.
+     * @param turns - number of turns played in the game.
+     * @param recoveryNanos - duration of the recovery of the Arbiter, in nanoseconds.
+     */
+    public GameStatusMsg(boolean inProgress, int turns, long recoveryNanos) {
+        this.inProgress = inProgress;
+        this.turns = turns;
+        this.recoveryNanos = recoveryNanos;
+    }
+
+    /**
+     * Method that return if a game is in progress.
+     * @return true if a game is in progress.
+     */
+    public boolean isInProgress() {
+        return inProgress;
+    }
+
+    /**
+     * Method that return the turns played in the game.
+     * @return number of turns.
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Method that return how long the Arbiter took to recover.
+     * @return duration in nanoseconds.
+     */
+    public long getRecoveryNanos() {
+        return recoveryNanos;
+    }
+}
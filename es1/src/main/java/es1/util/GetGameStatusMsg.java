@@ -0,0 +1,11 @@
+package es1.util;
+
+import java.io.Serializable;
+
+/**
+ * Class that manage the Message that asks an Arbiter the status of its game, the Arbiter answers after its recovery.
+ */
+public class GetGameStatusMsg implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+}
@@ -0,0 +1,60 @@
+package es1.util;
+
+/**
+ * Class that brings to a bot Player the attempt computed for it on the compute pool, or the failure of the computation.
+ */
+public class GuessComputedMsg {
+
+    /**
+     * Fields that represents the request that the attempt answers, the attempt and the failure, null if there's none.
+     */
+    private final int request;
+    private final int attempt;
+    private final Throwable failure;
+
+    /**
+     * Constructor of the Class.
+     * @param request - number of the request of the Player, to discard late attempts.
+     * @param attempt - index in the code space of the attempt.
+     */
+    public GuessComputedMsg(int request, int attempt) {
+        this.request = request;
+        this.attempt = attempt;
+        this.failure = null;
+    }
+
+    /**
+     * Constructor of the Class, for a computation that failed.
+     * @param request - number of the request of the Player, to discard late failures.
+     * @param failure - why the computation failed.
+     */
+    public GuessComputedMsg(int request, Throwable failure) {
+        this.request = request;
+        this.attempt = -1;
+        this.failure = failure;
+    }
+
+    /**
+     * Method that return the number of the request.
+     * @return request.
+     */
+    public int getRequest() {
+        return request;
+    }
+
+    /**
+     * Method that return the attempt computed.
+     * @return index in the code space of the attempt.
+     */
+    public int getAttempt() {
+        return attempt;
+    }
+
+    /**
+     * Method that return the failure of the computation.
+     * @return why the computation failed, null if the attempt was computed.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+}
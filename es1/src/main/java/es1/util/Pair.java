@@ -1,11 +1,15 @@
 package es1.util;
 
+import java.io.Serializable;
+
 /**
  * Class that manage the Pair of the Code of the Game.
  * @param <K>
  * @param <V>
  */
-public class Pair<K, V> {
+public class Pair<K, V> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     /**
      * Fields that represents Key and Values of the Pair.
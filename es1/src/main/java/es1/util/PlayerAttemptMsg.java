@@ -1,41 +1,55 @@
 package es1.util;
 
-import java.util.ArrayList;
+import java.io.Serializable;
 
 /**
  * Class that manage the Message for the Attempt of Player to Another Player.
  */
-public class PlayerAttemptMsg {
+public class PlayerAttemptMsg implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     /**
-     * Fields of the class that represents the attempt of the Player and result of the Attempt.
+     * Fields of the class that represents the attempt of the Player, the Player that received it and result of the
+     * Attempt.
      */
-    private final ArrayList<Integer> attempt;
-    private final ArrayList<Integer> result;
+    private final int attempt;
+    private final int target;
+    private final int result;
 
     /**
      * Constructor of the class.
-     * @param attempt sent.
-     * @param result of the attempt.
+     * @param attempt sent, packed as described in {@link es1.engine.CodeSpace}, negative if it isn't a valid code.
+     * @param target - index of the Player that received the attempt.
+     * @param result of the attempt, packed as described in {@link es1.engine.Feedback}.
      */
-    public PlayerAttemptMsg(ArrayList<Integer> attempt, ArrayList<Integer> result) {
+    public PlayerAttemptMsg(int attempt, int target, int result) {
         this.attempt = attempt;
+        this.target = target;
         this.result = result;
     }
 
     /**
      * Method to Get the Attempt of the Player.
-     * @return attempt.
+     * @return packed attempt.
      */
-    public ArrayList<Integer> getAttempt() {
+    public int getAttempt() {
         return attempt;
     }
 
+    /**
+     * Method to Get the Player that received the Attempt.
+     * @return index of the Player.
+     */
+    public int getTarget() {
+        return target;
+    }
+
     /**
      * Method to Get result of the Attempt of the Player.
-     * @return result.
+     * @return packed result.
      */
-    public ArrayList<Integer> getResult() {
+    public int getResult() {
         return result;
     }
 }
@@ -0,0 +1,67 @@
+package es1.util;
+
+import java.io.Serializable;
+
+/**
+ * Class that manage the Message of the public board: the attempt of a Player to Another Player, with its result, that
+ * the Arbiter publishes to the other Players of the game.
+ */
+public class PublicAttemptMsg implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Fields of the class that represents the Player that made the attempt, the attempt, the Player that received it
+     * and result of the Attempt.
+     */
+    private final int player;
+    private final int attempt;
+    private final int target;
+    private final int result;
+
+    /**
+     * Constructor of the class.
+     * @param player - index of the Player that made the attempt.
+     * @param attempt sent, packed as described in {@link es1.engine.CodeSpace}, negative if it isn't a valid code.
+     * @param target - index of the Player that received the attempt.
+     * @param result of the attempt, packed as described in {@link es1.engine.Feedback}.
+     */
+    public PublicAttemptMsg(int player, int attempt, int target, int result) {
+        this.player = player;
+        this.attempt = attempt;
+        this.target = target;
+        this.result = result;
+    }
+
+    /**
+     * Method to Get the Player that made the Attempt.
+     * @return index of the Player.
+     */
+    public int getPlayer() {
+        return player;
+    }
+
+    /**
+     * Method to Get the Attempt.
+     * @return packed attempt.
+     */
+    public int getAttempt() {
+        return attempt;
+    }
+
+    /**
+     * Method to Get the Player that received the Attempt.
+     * @return index of the Player.
+     */
+    public int getTarget() {
+        return target;
+    }
+
+    /**
+     * Method to Get the Result of the Attempt.
+     * @return packed result.
+     */
+    public int getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,67 @@
+package es1.util;
+
+import akka.actor.ActorRef;
+import java.io.Serializable;
+
+/**
+ * Class that manage the message with the Players of the game, sent once to every Player when all of them generated
+ * their secret code, so the messages of the turns can refer to the Players with their index.
+ * It's sent after the setup because a Player deployed on another node can resolve the references of the other Players
+ * only when they exist.
+ */
+public class RosterMsg implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Fields that represents the Players of the game, the index of the receiver and the index of the Human Player.
+     */
+    private final ActorRef[] roster;
+    private final int index;
+    private final int human;
+
+    /**
+     * Constructor of the Class, for a game without Human Player.
+     * @param roster - all Players of the game.
+     * @param index - index of the receiver in the roster.
+     */
+    public RosterMsg(ActorRef[] roster, int index) {
+        this(roster, index, -1);
+    }
+
+    /**
+     * Constructor of the Class.
+     * @param roster - all Players of the game.
+     * @param index - index of the receiver in the roster.
+     * @param human - index of the Human Player in the roster, -1 if there isn't one.
+     */
+    public RosterMsg(ActorRef[] roster, int index, int human) {
+        this.roster = roster;
+        this.index = index;
+        this.human = human;
+    }
+
+    /**
+     * Method that return the Players of the game, in the order used by the indexes of the other messages.
+     * @return the Players, the array must not be modified.
+     */
+    public ActorRef[] getRoster() {
+        return roster;
+    }
+
+    /**
+     * Method that return the index of the receiver in the roster.
+     * @return index of the Player.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Method that return the index of the Human Player in the roster.
+     * @return index of the Player, -1 if there isn't one.
+     */
+    public int getHuman() {
+        return human;
+    }
+}
@@ -1,43 +1,33 @@
 package es1.util;
 
-import akka.actor.ActorRef;
-import java.util.ArrayList;
+import java.io.Serializable;
 
 /**
  * Class that sends the Attempt of Player to Another Player.
  */
-public class SendAttemptToPlayer {
+public class SendAttemptToPlayer implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     /**
-     * Fields of the class that represents the attempt of the Player and the Player to send it.
+     * Fields of the class that represents the attempt of the Player.
      */
-    private final ArrayList<ActorRef> players;
-    private final ArrayList<Integer> attempt;
+    private final int attempt;
 
     /**
      * Constructor of the class.
-     * @param players to send attempt.
-     * @param attempt to send.
+     * @param attempt to send, packed as described in {@link es1.engine.CodeSpace}, negative if it isn't a valid code.
      */
-    public SendAttemptToPlayer(ArrayList<ActorRef> players, ArrayList<Integer> attempt)
+    public SendAttemptToPlayer(int attempt)
     {
-        this.players = players;
         this.attempt = attempt;
     }
 
     /**
-     * Method to Get Players.
-     * @return players.
-     */
-    public ArrayList<ActorRef> getPlayers() {
-        return players;
-    }
-
-    /**
-     * Method to get Attempt to send.
-     * @return attempt.
+     * Method to Get the Attempt.
+     * @return packed attempt.
      */
-    public ArrayList<Integer> getAttempt() {
+    public int getAttempt() {
         return attempt;
     }
 }
@@ -1,31 +1,33 @@
 package es1.util;
 
-import java.util.ArrayList;
+import java.io.Serializable;
 
 /**
  * Class that manage the Response to Player from Another Player.
  */
-public class SendResponseToPlayer {
+public class SendResponseToPlayer implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     /**
-     * Fields of the class that represents the attempt of the Player.
+     * Fields of the class that represents the result of the attempt of the Player.
      */
-    private final ArrayList<Integer> attempt;
+    private final int result;
 
     /**
      * Constructor of the Class.
-     * @param attempt of the player.
+     * @param result of the attempt, packed as described in {@link es1.engine.Feedback}.
      */
-    public SendResponseToPlayer(ArrayList<Integer> attempt)
+    public SendResponseToPlayer(int result)
     {
-        this.attempt = attempt;
+        this.result = result;
     }
 
     /**
-     * Method that returns the Attempt of the Player.
-     * @return attempt of the player.
+     * Method that returns the result of the Attempt of the Player.
+     * @return packed result of the attempt.
      */
-    public ArrayList<Integer> getResult() {
-        return attempt;
+    public int getResult() {
+        return result;
     }
 }
@@ -1,11 +1,14 @@
 package es1.util;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 
 /**
  * Class That Set Up Human Player.
  */
-public class SetupHumanPlayer {
+public class SetupHumanPlayer implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     /**
      * Field that represents the number of the Human Player and the single chars.
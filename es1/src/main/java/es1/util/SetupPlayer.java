@@ -1,21 +1,48 @@
 package es1.util;
 
+import java.io.Serializable;
+
 /**
  * Class That Set Up Player.
  */
-public class SetupPlayer {
+public class SetupPlayer implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     /**
-     * Field that represents the number of the Player.
+     * Field that represents the number of the Player, the options of the game and the secret code of the Player.
      */
     private final int number;
+    private final GameSettings settings;
+    private final int code;
 
     /**
      * Constructor of the class.
      * @param number of the player.
      */
     public SetupPlayer(int number) {
+        this(number, new GameSettings());
+    }
+
+    /**
+     * Constructor of the class.
+     * @param number of the player.
+     * @param settings - options of the game.
+     */
+    public SetupPlayer(int number, GameSettings settings) {
+        this(number, settings, -1);
+    }
+
+    /**
+     * Constructor of the class.
+     * @param number of the player.
+     * @param settings - options of the game.
+     * @param code - packed secret code of the Player, negative to let the Player generate it.
+     */
+    public SetupPlayer(int number, GameSettings settings, int code) {
         this.number = number;
+        this.settings = settings;
+        this.code = code;
     }
 
     /**
@@ -25,4 +52,20 @@ public class SetupPlayer {
     public int getNumber() {
         return number;
     }
+
+    /**
+     * Method that return the options of the game.
+     * @return settings of the game.
+     */
+    public GameSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Method that return the secret code of the Player, given when a game is resumed.
+     * @return packed secret code, negative if the Player generates it.
+     */
+    public int getCode() {
+        return code;
+    }
 }
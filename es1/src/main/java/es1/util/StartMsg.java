@@ -1,20 +1,25 @@
 package es1.util;
 
-import es1.view.ViewFrame;
+import es1.view.GameObserver;
+import java.io.Serializable;
 import java.util.ArrayList;
 
 /**
  * Class that manage the Start message between Arbiter and Players.
+ * It can be sent to an Arbiter on another node of a cluster, in that case the observer isn't sent.
  */
-public class StartMsg {
+public class StartMsg implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     /**
      * Fields to use
      */
     private final int number;
     private final int players;
-    private final ViewFrame viewFrame;
+    private final transient GameObserver observer;
     private final boolean humanPlayer;
+    private final GameSettings settings;
     private String playerName;
     private ArrayList<Integer> playerCode;
 
@@ -22,28 +27,54 @@ public class StartMsg {
      * Constructor of the class if there isn't Human Player.
      * @param number - number of chars of secret code in the game.
      * @param players - number of Players in the game.
-     * @param viewFrame - GUI of the game.
+     * @param observer - GUI of the game or another observer.
      */
-    public StartMsg(int number, int players, ViewFrame viewFrame){
+    public StartMsg(int number, int players, GameObserver observer){
+        this(number, players, observer, new GameSettings());
+    }
+
+    /**
+     * Constructor of the class if there isn't Human Player.
+     * @param number - number of chars of secret code in the game.
+     * @param players - number of Players in the game.
+     * @param observer - GUI of the game or another observer.
+     * @param settings - options of the game.
+     */
+    public StartMsg(int number, int players, GameObserver observer, GameSettings settings){
         this.number = number;
         this.players = players;
-        this.viewFrame = viewFrame;
+        this.observer = observer;
         this.humanPlayer = false;
+        this.settings = settings;
     }
 
     /**
      * Constructor of the class if there's an Human Player.
      * @param number - number of chars of secret code in the game.
      * @param players - number of Players in the game.
-     * @param viewFrame - GUI of the game.
+     * @param observer - GUI of the game or another observer.
      * @param playerName - Name of the Human Player.
      * @param playerCode - Secret code of the Human Player.
      */
-    public StartMsg(int number, int players, ViewFrame viewFrame, String playerName, ArrayList<Integer> playerCode){
+    public StartMsg(int number, int players, GameObserver observer, String playerName, ArrayList<Integer> playerCode){
+        this(number, players, observer, new GameSettings(), playerName, playerCode);
+    }
+
+    /**
+     * Constructor of the class if there's an Human Player.
+     * @param number - number of chars of secret code in the game.
+     * @param players - number of Players in the game.
+     * @param observer - GUI of the game or another observer.
+     * @param settings - options of the game.
+     * @param playerName - Name of the Human Player.
+     * @param playerCode - Secret code of the Human Player.
+     */
+    public StartMsg(int number, int players, GameObserver observer, GameSettings settings, String playerName, ArrayList<Integer> playerCode){
         this.number = number;
         this.players = players;
-        this.viewFrame = viewFrame;
+        this.observer = observer;
         this.humanPlayer = true;
+        this.settings = settings;
         this.playerName = playerName;
         this.playerCode = playerCode;
     }
@@ -65,11 +96,11 @@ public class StartMsg {
     }
 
     /**
-     * Method that return the GUI of the Game.
-     * @return viewFrame.
+     * Method that return the observer of the Game.
+     * @return the GUI or another observer, null if the message comes from another node.
      */
-    public ViewFrame getViewFrame() {
-        return viewFrame;
+    public GameObserver getObserver() {
+        return observer;
     }
 
     /**
@@ -80,6 +111,14 @@ public class StartMsg {
         return humanPlayer;
     }
 
+    /**
+     * Method that return the options of the game.
+     * @return settings of the game.
+     */
+    public GameSettings getSettings() {
+        return settings;
+    }
+
     /**
      * Method that return the Name of the Human Player.
      * @return the name of the Human Player.
@@ -0,0 +1,32 @@
+package es1.util;
+
+import java.io.Serializable;
+
+/**
+ * Class that manage the Message that starts the timer of a turn, or of a round, on the TimeoutActor.
+ */
+public class StartTimerMsg implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Field that represents the id of the turn, a new one for every timer of the game.
+     */
+    private final long turn;
+
+    /**
+     * Constructor of the Class.
+     * @param turn - id of the turn.
+     */
+    public StartTimerMsg(long turn) {
+        this.turn = turn;
+    }
+
+    /**
+     * Method that returns the id of the turn.
+     * @return id of the turn.
+     */
+    public long getTurn() {
+        return turn;
+    }
+}
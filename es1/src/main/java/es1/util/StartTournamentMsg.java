@@ -0,0 +1,75 @@
+package es1.util;
+
+/**
+ * Class that manage the message that starts a tournament: many games between bots, played at the same time.
+ */
+public class StartTournamentMsg {
+
+    /**
+     * Fields that represents the options of the tournament.
+     */
+    private final int games;
+    private final int concurrency;
+    private final int number;
+    private final int players;
+    private final GameSettings settings;
+
+    /**
+     * Constructor of the Class.
+     * @param games - number of games to play.
+     * @param concurrency - number of games played at the same time.
+     * @param number - number of chars of secret code in the games.
+     * @param players - number of Players in every game.
+     * @param settings - options of the games, the seed is the one of the whole tournament.
+     */
+    public StartTournamentMsg(int games, int concurrency, int number, int players, GameSettings settings) {
+        this.games = games;
+        this.concurrency = concurrency;
+        this.number = number;
+        this.players = players;
+        this.settings = settings;
+    }
+
+    /**
+     * Method that return the number of games to play.
+     * @return number of games.
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Method that return the number of games played at the same time.
+     * @return concurrent games.
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Method that return the number of the chars in the secret code of the Players.
+     * @return numbers of chars in the secret code.
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Method that return the number of the Players in every game.
+     * @return numbers of Players.
+     */
+    public int getPlayers() {
+        return players;
+    }
+
+    /**
+     * Method that return the settings of a game of the tournament, every game gets its own seed derived from the one
+     * of the tournament so the whole tournament is reproducible.
+     * @param game - number of the game.
+     * @return settings of the game.
+     */
+    public GameSettings settingsOf(int game) {
+        Long seed = settings.getSeed();
+        return settings.withSeed(seed == null ? null : seed * 1_000_003L + game);
+    }
+}
@@ -1,4 +1,12 @@
 package es1.util;
 
-public class StopMsg {
+import akka.dispatch.ControlMessage;
+import java.io.Serializable;
+
+/**
+ * Message that stops a game, it's a control message that overtakes the messages of the turns in the mailbox.
+ */
+public class StopMsg implements Serializable, ControlMessage {
+
+    private static final long serialVersionUID = 1L;
 }
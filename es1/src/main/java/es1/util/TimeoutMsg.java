@@ -0,0 +1,35 @@
+package es1.util;
+
+import akka.dispatch.ControlMessage;
+import java.io.Serializable;
+
+/**
+ * Class that manage the Message that the TimeoutActor sends to the Arbiter when the timer of a turn expires, it's a
+ * control message that overtakes the messages of the turns in the mailbox. It carries the id of its turn, so a
+ * timeout that was already in the mailbox when the next turn started is recognized and dropped.
+ */
+public class TimeoutMsg implements Serializable, ControlMessage {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Field that represents the id of the turn that expired.
+     */
+    private final long turn;
+
+    /**
+     * Constructor of the Class.
+     * @param turn - id of the turn.
+     */
+    public TimeoutMsg(long turn) {
+        this.turn = turn;
+    }
+
+    /**
+     * Method that returns the id of the turn that expired.
+     * @return id of the turn.
+     */
+    public long getTurn() {
+        return turn;
+    }
+}
@@ -0,0 +1,41 @@
+package es1.util;
+
+import es1.metrics.TournamentStatistics;
+
+/**
+ * Class that manage the message sent by the Tournament when all its games ended.
+ */
+public class TournamentResultMsg {
+
+    /**
+     * Fields that represents the result of the tournament.
+     */
+    private final TournamentStatistics statistics;
+    private final long elapsedNanos;
+
+    /**
+     * Constructor of the Class.
+     * @param statistics - statistics of the games, not modified anymore by the Tournament.
+     * @param elapsedNanos - duration of the tournament.
+     */
+    public TournamentResultMsg(TournamentStatistics statistics, long elapsedNanos) {
+        this.statistics = statistics;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Method that return the statistics of the games.
+     * @return statistics of the tournament.
+     */
+    public TournamentStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Method that return the duration of the tournament.
+     * @return duration in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
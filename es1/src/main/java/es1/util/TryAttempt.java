@@ -1,43 +1,33 @@
 package es1.util;
 
-import akka.actor.ActorRef;
-import java.util.ArrayList;
+import java.io.Serializable;
 
 /**
  * Class that manage the Attempt of all Players (Human or Not)
  */
-public class TryAttempt {
+public class TryAttempt implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     /**
-     * Fields that manage players, eventually Human player and attempts.
+     * Fields that manage eventually Human player and attempts.
      */
-    private final ArrayList<ActorRef> players;
     private final boolean isHuman;
-    private final ArrayList<Integer> attempt;
+    private final int attempt;
     private final int playerToSend;
 
     /**
      * Constructor of the Class
-     * @param players - all players of the game.
      * @param isHuman - check if there's the Human player or not.
-     * @param attempt - the attempt of the Player.
-     * @param playerToSend - which Player to send the attempt.
+     * @param attempt - the attempt of the Human Player, packed as described in {@link es1.engine.CodeSpace}.
+     * @param playerToSend - index of the Player to send the attempt of the Human Player.
      */
-    public TryAttempt(ArrayList<ActorRef> players, boolean isHuman, ArrayList<Integer> attempt, int playerToSend) {
-        this.players = players;
+    public TryAttempt(boolean isHuman, int attempt, int playerToSend) {
         this.isHuman = isHuman;
         this.attempt = attempt;
         this.playerToSend = playerToSend;
     }
 
-    /**
-     *
-     * @return
-     */
-    public ArrayList<ActorRef> getPlayers() {
-        return players;
-    }
-
     /**
      * Method that checks if there's a Human Player in the Game.
      * @return true or false.
@@ -48,15 +38,15 @@ public class TryAttempt {
 
     /**
      * Method that returns the attempt of the User in the Game.
-     * @return attempt
+     * @return packed attempt, negative if it isn't a valid code.
      */
-    public ArrayList<Integer> getAttempt() {
+    public int getAttempt() {
         return attempt;
     }
 
     /**
      * Method that returns the Player to send the Attempt
-     * @return player to send attempt
+     * @return index of the player to send attempt
      */
     public int getPlayerToSend() {
         return playerToSend;
@@ -0,0 +1,32 @@
+package es1.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class that is a clock whose time moves only when it's advanced, by the timeouts of the game. A computation never
+ * runs out of its time budget and a turn times out as soon as it's decided that it does, without waiting for it.
+ */
+public class VirtualClock implements GameClock {
+
+    /**
+     * Field that represents the current time.
+     */
+    private final AtomicLong now = new AtomicLong();
+
+    @Override
+    public long nanoTime() {
+        return now.get();
+    }
+
+    /**
+     * Method that moves the time forward.
+     * @param nanos - time to add, in nanoseconds.
+     * @return the new time.
+     */
+    public long advance(long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("The time can't go back");
+        }
+        return now.addAndGet(nanos);
+    }
+}
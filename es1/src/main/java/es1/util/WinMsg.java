@@ -1,12 +1,15 @@
 package es1.util;
 
-import java.util.ArrayList;
 import akka.actor.ActorRef;
+import java.io.Serializable;
+import java.util.ArrayList;
 
 /**
  * Class that manage the Win message.
  */
-public class WinMsg {
+public class WinMsg implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     /**
      * Field that represents all results of the segret code of the game.
@@ -0,0 +1,124 @@
+package es1.view;
+
+import javax.swing.*;
+import javax.swing.text.BadLocationException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Class that moves the events of the games from the threads of the actors to the text area of the GUI.
+ * The events are queued without locks and a Swing timer appends them in batches on the event dispatch thread at a
+ * fixed frame rate, so a fast game costs one repaint per frame instead of one per turn. The text area keeps only the
+ * last lines, the complete history is written to a file.
+ */
+public class EventFeed {
+
+    /**
+     * Number of times per second the events are moved to the text area.
+     */
+    public static final int FRAMES_PER_SECOND = 30;
+
+    /**
+     * Number of lines kept in the text area.
+     */
+    public static final int MAX_LINES = 500;
+
+    /**
+     * Fields that represents all data of the Class.
+     */
+    private final ConcurrentLinkedQueue<String> events = new ConcurrentLinkedQueue<>();
+    private final JTextArea textArea;
+    private final JScrollPane scrollPane;
+    private final BufferedWriter history;
+    private final Timer timer;
+    private final String[] ring = new String[MAX_LINES];
+    private final StringBuilder batch = new StringBuilder();
+
+    /**
+     * Constructor of the Class, it starts the timer that moves the events to the text area.
+     * @param textArea - the text area that shows the events.
+     * @param scrollPane - the scroll pane of the text area, scrolled to the last event.
+     * @param historyFile - the file of the complete history, replaced if it exists.
+     * @throws IOException if the history file can't be created.
+     */
+    public EventFeed(JTextArea textArea, JScrollPane scrollPane, Path historyFile) throws IOException {
+        this.textArea = textArea;
+        this.scrollPane = scrollPane;
+        this.history = Files.newBufferedWriter(historyFile, StandardCharsets.UTF_8);
+        this.timer = new Timer(1000 / FRAMES_PER_SECOND, ev -> flush());
+        this.timer.start();
+    }
+
+    /**
+     * Method that queues an event, it can be called from any thread.
+     * @param message - Message that describes the event.
+     */
+    public void addEvent(String message) {
+        events.add(message);
+    }
+
+    /**
+     * Method that moves the queued events to the history file and to the text area, dropping the oldest lines of the
+     * text area over {@link #MAX_LINES}. It's called by the timer, it must be called on the event dispatch thread.
+     */
+    public void flush() {
+        int count = 0;
+        String message;
+        try {
+            while ((message = events.poll()) != null) {
+                history.write(message);
+                history.newLine();
+                //only the last events of the batch stay in the text area
+                ring[count++ % MAX_LINES] = message;
+            }
+            if (count == 0) {
+                return;
+            }
+            history.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        batch.setLength(0);
+        for (int i = Math.max(0, count - MAX_LINES); i < count; i++) {
+            batch.append('\n').append(ring[i % MAX_LINES]);
+        }
+        textArea.append(batch.toString());
+        trim();
+        JScrollBar vertical = scrollPane.getVerticalScrollBar();
+        vertical.setValue(vertical.getMaximum());
+    }
+
+    /**
+     * Method that removes the oldest lines of the text area over {@link #MAX_LINES}.
+     */
+    private void trim() {
+        int excess = textArea.getLineCount() - MAX_LINES;
+        if (excess <= 0) {
+            return;
+        }
+        try {
+            textArea.getDocument().remove(0, textArea.getLineStartOffset(excess));
+        } catch (BadLocationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Method that stops the timer, moves the last events and closes the history file.
+     * It must be called on the event dispatch thread.
+     */
+    public void close() {
+        timer.stop();
+        flush();
+        try {
+            history.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
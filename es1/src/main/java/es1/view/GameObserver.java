@@ -0,0 +1,35 @@
+package es1.view;
+
+/**
+ * Interface of the observers of a game, the GUI or the statistics of a headless run.
+ * The methods are called by the Arbiter from the thread of its dispatcher.
+ */
+public interface GameObserver {
+
+    /**
+     * Observer that ignores the game, for the games whose results are collected with messages.
+     */
+    GameObserver NONE = message -> { };
+
+    /**
+     * Method that receives a description of an event of the game.
+     * @param message - Message that describes the event.
+     */
+    void addEvent(String message);
+
+    /**
+     * Method called when a turn ends, with an attempt, a win message or a timeout.
+     * @param latencyNanos - time from the start of the turn to its end, in nanoseconds.
+     */
+    default void turnCompleted(long latencyNanos) {
+    }
+
+    /**
+     * Method called when a Player wins the game, or when it ends without a winner.
+     * @param winner - index of the winner, -1 if there's none.
+     * @param turns - number of turns played.
+     * @param messages - number of messages exchanged by the actors of the game.
+     */
+    default void gameEnded(int winner, int turns, long messages) {
+    }
+}
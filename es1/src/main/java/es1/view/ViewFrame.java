@@ -1,19 +1,23 @@
 package es1.view;
 
 import akka.actor.ActorRef;
+import es1.strategy.StrategyType;
 import es1.util.*;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Random;
 
 /**
  * Class that manage the GUI of the Game and all elements of it.
  */
-public class ViewFrame extends JFrame {
+public class ViewFrame extends JFrame implements GameObserver {
 
     private final String[] players = {"2","3","4"};
     private final String[] numbers = {"1","2","3","4"};
@@ -24,6 +28,7 @@ public class ViewFrame extends JFrame {
     private final JTextArea textArea = new JTextArea("Welcome to Mistermind");
     private final JComboBox<String> player = new JComboBox<>(players);
     private final JComboBox<String> number = new JComboBox<>(numbers);;
+    private final JComboBox<StrategyType> strategy = new JComboBox<>(StrategyType.values());
     private final JButton button = new JButton("Start");
     private final JButton stop = new JButton("Stop");;
     private final JButton send = new JButton("Send Attempt");
@@ -36,17 +41,26 @@ public class ViewFrame extends JFrame {
     private final JTextField code2 = new JTextField();
     private final JTextField code3 = new JTextField();
     private final JTextField code4 = new JTextField();
-    private final JLabel name, selectPlayer, selectCode, chooseNPlayer, codes;
+    private final JLabel name, selectPlayer, selectCode, selectStrategy, chooseNPlayer, codes;
     private final JScrollPane sp;
+    private final EventFeed feed;
     private final Random rand = new Random(); //instance of random class
 
-    public ViewFrame(ActorRef arbiter) {
+    /**
+     * Constructor of the Class.
+     * @param arbiter - the Arbiter of the games.
+     * @throws IOException if the file of the history of the events can't be created.
+     */
+    public ViewFrame(ActorRef arbiter) throws IOException {
         super("Assignment3 - Esercizio 1");
         setSize(900, 400);
 
         textArea.setRows(10);
         textArea.setColumns(25);
         sp = new JScrollPane(textArea);
+        Path history = Paths.get(System.getProperty("java.io.tmpdir"), "mastermind-events.log");
+        feed = new EventFeed(textArea, sp, history);
+        textArea.append("\nAll the events are saved in " + history);
         input.setColumns(5);
         choosePlayer.setColumns(5);
         code1.setColumns(5);
@@ -55,6 +69,7 @@ public class ViewFrame extends JFrame {
         code4.setColumns(5);
         selectPlayer = new JLabel("Select Numbers of Player: ");
         selectCode = new JLabel("Select Numbers of Code to Guess: ");
+        selectStrategy = new JLabel("Bot Strategy: ");
         chooseNPlayer = new JLabel("Choose Player to Send Attempt: ");
         codes = new JLabel("Write all Codes of other Players: ");
         name = new JLabel("Name: "+namePlayer[rand.nextInt(4)]+" - Attempt: ");
@@ -63,6 +78,8 @@ public class ViewFrame extends JFrame {
         panelNorth.add(player);
         panelNorth.add(selectCode);
         panelNorth.add(number);
+        panelNorth.add(selectStrategy);
+        panelNorth.add(strategy);
         panelNorth.add(button);
         panelNorth.add(stop);
         panelCenter.add(sp);
@@ -97,9 +114,9 @@ public class ViewFrame extends JFrame {
                 for(int i = 0; i < input.getText().length(); i++) {
                     code.add(Integer.parseInt(String.valueOf(input.getText().charAt(i))));
                 }
-                arbiter.tell(new StartMsg(Integer.parseInt(numbers[number.getSelectedIndex()]), Integer.parseInt(players[player.getSelectedIndex()]), this, namePlayer[rand.nextInt(4)], code), ActorRef.noSender());
+                arbiter.tell(new StartMsg(Integer.parseInt(numbers[number.getSelectedIndex()]), Integer.parseInt(players[player.getSelectedIndex()]), this, new GameSettings().withStrategy((StrategyType) strategy.getSelectedItem()), namePlayer[rand.nextInt(4)], code), ActorRef.noSender());
             }else{
-                arbiter.tell(new StartMsg(Integer.parseInt(numbers[number.getSelectedIndex()]), Integer.parseInt(players[player.getSelectedIndex()]), this), ActorRef.noSender());
+                arbiter.tell(new StartMsg(Integer.parseInt(numbers[number.getSelectedIndex()]), Integer.parseInt(players[player.getSelectedIndex()]), this, new GameSettings().withStrategy((StrategyType) strategy.getSelectedItem())), ActorRef.noSender());
 
             }
         });
@@ -180,6 +197,7 @@ public class ViewFrame extends JFrame {
         getContentPane().add(panelSouth, BorderLayout.SOUTH);
         addWindowListener(new WindowAdapter() {
             public void windowClosing(WindowEvent ev) {
+                feed.close();
                 System.exit(-1);
             }
         });
@@ -187,13 +205,11 @@ public class ViewFrame extends JFrame {
     }
 
     /**
-     * Method that connect the Scrollbar to the TextArea.
+     * Method that queues an event, it's shown in the text area at the next frame of the EventFeed.
      * @param message - Message to append in the text area.
      */
+    @Override
     public void addEvent(String message){
-        textArea.append( "\n" + message);
-        JScrollBar vertical = sp.getVerticalScrollBar();
-        vertical.setValue( vertical.getMaximum() );
-
+        feed.addEvent(message);
     }
 }
\ No newline at end of file
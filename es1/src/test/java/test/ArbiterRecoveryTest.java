@@ -0,0 +1,259 @@
+package test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.pattern.Patterns;
+import akka.persistence.AbstractPersistentActor;
+import akka.persistence.RecoveryCompleted;
+import akka.persistence.SaveSnapshotSuccess;
+import akka.persistence.SnapshotOffer;
+import com.typesafe.config.ConfigFactory;
+import es1.actors.Arbiter;
+import es1.engine.CodeSpace;
+import es1.persistence.*;
+import es1.strategy.StrategyType;
+import es1.util.GameResultMsg;
+import es1.util.GameSettings;
+import es1.util.GameStatusMsg;
+import es1.util.GetGameStatusMsg;
+import es1.util.StartMsg;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+@SuppressWarnings("unchecked")
+public class ArbiterRecoveryTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final CodeSpace SPACE = CodeSpace.of(2);
+
+    private static Path directory;
+    private static ActorSystem system;
+
+    /**
+     * Persistent actor that journals the events and saves the snapshots of an Arbiter that crashed, with the
+     * persistence id of the Arbiter. It answers "written" when they are stored.
+     */
+    public static class EventWriter extends AbstractPersistentActor {
+
+        private final String persistenceId;
+        private ActorRef requester;
+
+        public EventWriter(String persistenceId) {
+            this.persistenceId = persistenceId;
+        }
+
+        @Override
+        public String persistenceId() {
+            return persistenceId;
+        }
+
+        @Override
+        public String journalPluginId() {
+            return "akka.persistence.journal.leveldb";
+        }
+
+        @Override
+        public String snapshotPluginId() {
+            return "akka.persistence.snapshot-store.local";
+        }
+
+        @Override
+        public Receive createReceiveRecover() {
+            return receiveBuilder().matchAny(event -> { }).build();
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(List.class, events -> {
+                        ActorRef sender = getSender();
+                        persistAll((List<Object>) events, event -> { });
+                        deferAsync("written", done -> sender.tell(done, getSelf()));
+                    })
+                    .match(ArbiterSnapshot.class, snapshot -> {
+                        this.requester = getSender();
+                        saveSnapshot(snapshot);
+                    })
+                    .match(SaveSnapshotSuccess.class, saved -> requester.tell("written", getSelf()))
+                    .build();
+        }
+    }
+
+    /**
+     * Persistent actor that recovers the events of a persistence id and answers "events" with them.
+     */
+    public static class EventReader extends AbstractPersistentActor {
+
+        private final String persistenceId;
+        private final List<Object> events = new ArrayList<>();
+
+        public EventReader(String persistenceId) {
+            this.persistenceId = persistenceId;
+        }
+
+        @Override
+        public String persistenceId() {
+            return persistenceId;
+        }
+
+        @Override
+        public String journalPluginId() {
+            return "akka.persistence.journal.leveldb";
+        }
+
+        @Override
+        public String snapshotPluginId() {
+            return "akka.persistence.snapshot-store.local";
+        }
+
+        @Override
+        public Receive createReceiveRecover() {
+            return receiveBuilder()
+                    .match(SnapshotOffer.class, offer -> { })
+                    .match(RecoveryCompleted.class, done -> { })
+                    .matchAny(events::add)
+                    .build();
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .matchEquals("events", request -> getSender().tell(new ArrayList<>(events), getSelf()))
+                    .build();
+        }
+    }
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        directory = Files.createTempDirectory("persistence");
+        system = ActorSystem.create("RecoveryTest", ConfigFactory.parseString(
+                "es1.persistence.enabled = on\n"
+                        + "akka.persistence.journal.leveldb.dir = \"" + directory.resolve("journal").toString().replace('\\', '/') + "\"\n"
+                        + "akka.persistence.snapshot-store.local.dir = \"" + directory.resolve("snapshots").toString().replace('\\', '/') + "\"\n")
+                .withFallback(ConfigFactory.load()));
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        system.terminate();
+        system.getWhenTerminated().toCompletableFuture().join();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * Method that journals the events and the snapshots of a game of 2 bots with codes [1, 2] and [3, 4], then starts
+     * its Arbiter and waits until it resumed the game and a bot won.
+     * @param name - name of the Arbiter.
+     * @param stored - lists of events and snapshots, in the order they are stored.
+     * @return the status of the Arbiter after its recovery.
+     * @throws Exception if the game doesn't end.
+     */
+    private static GameStatusMsg recoverAndFinish(String name, Object... stored) throws Exception {
+        ActorRef writer = system.actorOf(Props.create(EventWriter.class, "/user/" + name));
+        for (Object events : stored) {
+            assertEquals("written", Patterns.ask(writer, events, TIMEOUT).toCompletableFuture().get());
+        }
+        system.stop(writer);
+
+        ActorRef arbiter = system.actorOf(Props.create(Arbiter.class), name);
+        GameStatusMsg recovered = (GameStatusMsg) Patterns.ask(arbiter, new GetGameStatusMsg(), TIMEOUT).toCompletableFuture().get();
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        GameStatusMsg status = recovered;
+        while (status.isInProgress() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            status = (GameStatusMsg) Patterns.ask(arbiter, new GetGameStatusMsg(), TIMEOUT).toCompletableFuture().get();
+        }
+        assertFalse("the resumed game must end", status.isInProgress());
+        assertTrue(status.getTurns() > recovered.getTurns());
+        return recovered;
+    }
+
+    @Test
+    public void eventsTest() throws Exception {
+        StartMsg start = new StartMsg(2, 2, null, new GameSettings().withStrategy(StrategyType.RANDOM).withSeed(3L));
+        List<Object> events = Arrays.asList(
+                new GameStartedEvent(start),
+                new CodesGeneratedEvent(new int[]{12, 34}, new int[]{1, 0}),
+                new TurnEndedEvent(TurnEndedEvent.ATTEMPT, 1, 0, 13, SPACE.feedback(12, 13)),
+                new TurnEndedEvent(TurnEndedEvent.TIMEOUT, 0),
+                new RoundShuffledEvent(new int[]{0, 1}),
+                new TurnEndedEvent(TurnEndedEvent.ATTEMPT, 0, 1, 43, SPACE.feedback(34, 43)));
+        GameStatusMsg recovered = recoverAndFinish("FromEvents", events);
+        assertTrue(recovered.isInProgress());
+        assertEquals(3, recovered.getTurns());
+    }
+
+    @Test
+    public void simultaneousRoundTest() throws Exception {
+        StartMsg start = new StartMsg(2, 2, null, new GameSettings().withStrategy(StrategyType.RANDOM).withSeed(7L).withSimultaneous(true));
+        //the game stopped in the middle of a round, the Player 0 didn't answer yet
+        List<Object> events = Arrays.asList(
+                new GameStartedEvent(start),
+                new CodesGeneratedEvent(new int[]{12, 34}, new int[]{0, 1}),
+                new TurnEndedEvent(TurnEndedEvent.ATTEMPT, 1, 0, 13, SPACE.feedback(12, 13)));
+        GameStatusMsg recovered = recoverAndFinish("Simultaneous", events);
+        assertTrue(recovered.isInProgress());
+        assertEquals(1, recovered.getTurns());
+    }
+
+    @Test
+    public void snapshotTest() throws Exception {
+        StartMsg start = new StartMsg(2, 2, null, new GameSettings().withStrategy(StrategyType.MINIMAX).withSeed(5L));
+        ArbiterSnapshot snapshot = new ArbiterSnapshot(start, new int[]{12, 34}, new int[]{0, 1}, 1, 41,
+                new int[]{0, 1, 43, SPACE.feedback(34, 43)});
+        //the events before the snapshot are replaced by it, the ones after it are replayed
+        GameStatusMsg recovered = recoverAndFinish("FromSnapshot",
+                Arrays.asList(new GameStartedEvent(start), new TurnEndedEvent(TurnEndedEvent.TIMEOUT, 0)),
+                snapshot,
+                Arrays.asList(new TurnEndedEvent(TurnEndedEvent.ATTEMPT, 1, 0, 21, SPACE.feedback(12, 21))));
+        assertTrue(recovered.isInProgress());
+        assertEquals(42, recovered.getTurns());
+    }
+
+    @Test
+    public void gameIdTest() throws Exception {
+        //the events of a game of another tournament were journaled with the path of its Arbiter
+        StartMsg start = new StartMsg(2, 2, null, new GameSettings().withStrategy(StrategyType.RANDOM).withSeed(3L));
+        ActorRef writer = system.actorOf(Props.create(EventWriter.class, "/user/Game-0"));
+        assertEquals("written", Patterns.ask(writer, Arrays.asList(new GameStartedEvent(start),
+                new CodesGeneratedEvent(new int[]{12, 34}, new int[]{0, 1})), TIMEOUT).toCompletableFuture().get());
+        system.stop(writer);
+        ActorRef arbiter = system.actorOf(Arbiter.props("run-2-Game-0"), "Game-0");
+        GameStatusMsg status = (GameStatusMsg) Patterns.ask(arbiter, new GetGameStatusMsg(), TIMEOUT).toCompletableFuture().get();
+        assertFalse(status.isInProgress());
+        system.stop(arbiter);
+    }
+
+    @Test
+    public void endedGameTest() throws Exception {
+        //the events of a game that ended are deleted, only the snapshot of its end is left
+        StartMsg start = new StartMsg(2, 2, null, new GameSettings().withStrategy(StrategyType.RANDOM).withSeed(9L));
+        ActorRef arbiter = system.actorOf(Arbiter.props("ended"));
+        assertTrue(Patterns.ask(arbiter, start, TIMEOUT).toCompletableFuture().get() instanceof GameResultMsg);
+        system.stop(arbiter);
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        List<?> events;
+        do {
+            ActorRef reader = system.actorOf(Props.create(EventReader.class, "ended"));
+            events = (List<?>) Patterns.ask(reader, "events", TIMEOUT).toCompletableFuture().get();
+            system.stop(reader);
+        } while (!events.isEmpty() && System.nanoTime() < deadline);
+        assertEquals(Arrays.asList(), events);
+    }
+}
@@ -0,0 +1,28 @@
+package test;
+
+import es1.batch.BatchOptions;
+import es1.cluster.ClusterRunner;
+import org.junit.Test;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+public class ClusterRunnerTest {
+
+    @Test
+    public void shardsTest() throws Exception {
+        BatchOptions options = BatchOptions.parse(new String[]{"--players", "3", "--length", "3", "--strategy", "random",
+                "--games", "40", "--concurrency", "8", "--seed", "9", "--nodes", "2"});
+        String report = new ClusterRunner(options).run();
+        assertTrue(report, report.contains("\"games\":40,"));
+        //the shards of the games are spread on both nodes
+        Matcher shards = Pattern.compile("\"shardsPerNode\":\\{\"MastermindCluster@127.0.0.1:25520\":(\\d+),\"MastermindCluster@127.0.0.1:25521\":(\\d+)}").matcher(report);
+        assertTrue(report, shards.find());
+        int first = Integer.parseInt(shards.group(1));
+        int second = Integer.parseInt(shards.group(2));
+        assertTrue(report, first > 0 && second > 0);
+        assertTrue(report, Math.abs(first - second) <= Math.max(first, second) / 2 + 1);
+    }
+}
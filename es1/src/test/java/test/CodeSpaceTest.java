@@ -0,0 +1,70 @@
+package test;
+
+import es1.engine.CandidateSet;
+import es1.engine.CodeSpace;
+import es1.engine.Feedback;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class CodeSpaceTest {
+
+    @Test
+    public void sizeTest() {
+        assertEquals(72, CodeSpace.of(2).size());
+        assertEquals(3024, CodeSpace.of(4).size());
+        assertEquals(6561, CodeSpace.of(4, 1, 10, true).size());
+    }
+
+    @Test
+    public void packTest() {
+        CodeSpace space = CodeSpace.of(4);
+        ArrayList<Integer> code = new ArrayList<>(Arrays.asList(3, 9, 1, 5));
+        int packed = space.pack(code);
+        assertEquals(3915, packed);
+        assertEquals(code, space.toList(packed));
+        assertTrue(space.indexOf(packed) >= 0);
+        assertEquals(packed, space.codeAt(space.indexOf(packed)));
+    }
+
+    @Test
+    public void feedbackTest() {
+        CodeSpace space = CodeSpace.of(4);
+        int secret = space.pack(Arrays.asList(1, 2, 3, 4));
+        assertEquals(Feedback.of(4, 0), space.feedback(secret, secret));
+        assertEquals(Feedback.of(0, 4), space.feedback(secret, space.pack(Arrays.asList(4, 3, 2, 1))));
+        assertEquals(Feedback.of(1, 1), space.feedback(secret, space.pack(Arrays.asList(1, 5, 2, 6))));
+        assertEquals(Feedback.of(0, 0), space.feedback(secret, space.pack(Arrays.asList(5, 6, 7, 8))));
+    }
+
+    @Test
+    public void feedbackTableTest() {
+        CodeSpace space = CodeSpace.of(3);
+        assertTrue(space.hasTable());
+        Random random = new Random(1);
+        for (int i = 0; i < 1000; i++) {
+            int secret = random.nextInt(space.size());
+            int attempt = random.nextInt(space.size());
+            assertEquals(space.feedback(space.codeAt(secret), space.codeAt(attempt)), space.feedbackAt(secret, attempt));
+        }
+    }
+
+    @Test
+    public void candidateSetTest() {
+        CodeSpace space = CodeSpace.of(3);
+        int secret = space.pack(Arrays.asList(7, 2, 5));
+        CandidateSet candidates = new CandidateSet(space);
+        assertEquals(space.size(), candidates.size());
+        Random random = new Random(1);
+        while (candidates.size() > 1) {
+            int attempt = space.codeAt(candidates.nth(random.nextInt(candidates.size())));
+            candidates.retain(attempt, space.feedback(secret, attempt));
+            assertTrue(candidates.contains(space.indexOf(secret)));
+        }
+        assertEquals(secret, space.codeAt(candidates.indexes()[0]));
+    }
+}
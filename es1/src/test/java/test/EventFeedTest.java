@@ -0,0 +1,44 @@
+package test;
+
+import es1.view.EventFeed;
+import org.junit.Test;
+
+import javax.swing.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class EventFeedTest {
+
+    @Test
+    public void feedTest() throws Exception {
+        Path history = Files.createTempFile("events", ".log");
+        JTextArea textArea = new JTextArea("Welcome");
+        EventFeed feed = new EventFeed(textArea, new JScrollPane(textArea), history);
+        int events = EventFeed.MAX_LINES * 3 + 7;
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int first = t;
+            threads[t] = new Thread(() -> {
+                for (int i = first; i < events; i += threads.length) {
+                    feed.addEvent("Event " + i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        SwingUtilities.invokeAndWait(feed::close);
+
+        assertEquals(EventFeed.MAX_LINES, textArea.getLineCount());
+        List<String> lines = Files.readAllLines(history, StandardCharsets.UTF_8);
+        assertEquals(events, lines.size());
+        assertEquals(events, lines.stream().distinct().count());
+        assertTrue(textArea.getText().endsWith(lines.get(events - 1)));
+        Files.delete(history);
+    }
+}
@@ -0,0 +1,136 @@
+package test;
+
+import es1.engine.CodeSpace;
+import es1.engine.Feedback;
+import es1.journal.GameJournal;
+import es1.journal.JournalReader;
+import es1.journal.JournalReplay;
+import es1.journal.JournalVisitor;
+import es1.strategy.StrategyType;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class GameJournalTest {
+
+    private static final CodeSpace SPACE = CodeSpace.of(3);
+
+    /**
+     * Method that journals a game of 3 bots where Player0 guesses the codes of the others with random attempts.
+     * @param journal - the journal.
+     * @param random - the random of the game.
+     */
+    private static void playGame(GameJournal journal, Random random) {
+        int[] codes = {SPACE.randomCode(random), SPACE.randomCode(random), SPACE.randomCode(random)};
+        int game = journal.setup(3, codes, new StrategyType[]{StrategyType.RANDOM, StrategyType.MINIMAX, null}, 7L);
+        for (int target = 1; target < 3; target++) {
+            int attempt = SPACE.randomCode(random);
+            journal.attempt(game, 0, target, attempt, SPACE.feedback(codes[target], attempt));
+            journal.attempt(game, 0, target, codes[target], SPACE.feedback(codes[target], codes[target]));
+        }
+        journal.timeout(game, 1);
+        journal.win(game, 2, false, new int[]{0}, new int[]{-1});
+        journal.win(game, 0, true, new int[]{1, 2}, new int[]{codes[1], codes[2]});
+    }
+
+    @Test
+    public void concurrentGamesTest() throws Exception {
+        Path directory = Files.createTempDirectory("journal");
+        GameJournal journal = new GameJournal(directory, "test", 4096);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            Random random = new Random(t);
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    playGame(journal, random);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        journal.attempt(0, 1, 0, 123, Feedback.of(3, 3));
+        journal.attempt(1, 1, 3, 123, Feedback.of(0, 0));
+        journal.flush();
+
+        Map<String, List<Path>> journals = JournalReader.journals(directory);
+        assertEquals(1, journals.size());
+        assertTrue(journals.get("test").size() > 1);
+        JournalReplay replay = new JournalReplay();
+        replay.replay("test", journals.get("test"));
+        assertEquals(400, replay.getGames());
+        assertEquals(400, replay.getFinished());
+        //only the wrong result and the invalid opponent written at the end
+        assertEquals(2, replay.getMismatches().size());
+        assertTrue(replay.getMismatches().get(0).contains("game 0"));
+        assertTrue(replay.getMismatches().get(1).contains("game 1: attempt of Player1 to the invalid opponent Player3"));
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Test
+    public void manyPlayersTest() throws Exception {
+        //indexes and counts over the range of a short, a roster whose pairs of Players wouldn't fit in memory
+        Path directory = Files.createTempDirectory("journal");
+        GameJournal journal = new GameJournal(directory, "many", 1 << 20);
+        Random random = new Random(3);
+        int[] codes = new int[40_000];
+        StrategyType[] strategies = new StrategyType[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = SPACE.randomCode(random);
+            strategies[i] = StrategyType.RANDOM;
+        }
+        int game = journal.setup(3, codes, strategies, null);
+        journal.attempt(game, 39_000, 35_000, codes[35_000], SPACE.feedback(codes[35_000], codes[35_000]));
+        journal.timeout(game, 39_999);
+        journal.win(game, 39_000, true, new int[]{35_000, 130}, new int[]{codes[35_000], codes[130]});
+        journal.flush();
+
+        List<Path> segments = JournalReader.journals(directory).get("many");
+        List<String> records = new ArrayList<>();
+        JournalReader.read(segments, new JournalVisitor() {
+            @Override
+            public void setup(int game, long nanos, int length, int[] read, StrategyType[] types, Long seed) {
+                assertArrayEquals(codes, read);
+                records.add("setup " + read.length);
+            }
+
+            @Override
+            public void attempt(int game, long nanos, int player, int target, int attempt, int feedback) {
+                records.add("attempt " + player + " " + target);
+            }
+
+            @Override
+            public void timeout(int game, long nanos, int player) {
+                records.add("timeout " + player);
+            }
+
+            @Override
+            public void win(int game, long nanos, int player, boolean valid, int[] targets, int[] claims) {
+                records.add("win " + player + " " + Arrays.toString(targets));
+            }
+        });
+        assertEquals(Arrays.asList("setup 40000", "attempt 39000 35000", "timeout 39999", "win 39000 [35000, 130]"), records);
+        JournalReplay replay = new JournalReplay();
+        replay.replay("many", segments);
+        assertEquals(1, replay.getFinished());
+        assertTrue(replay.getMismatches().toString(), replay.getMismatches().isEmpty());
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+}
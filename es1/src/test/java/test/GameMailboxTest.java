@@ -0,0 +1,160 @@
+package test;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.persistence.JournalProtocol;
+import com.typesafe.config.ConfigFactory;
+import es1.dispatch.GameMailbox;
+import es1.metrics.GameMetrics;
+import es1.strategy.StrategyType;
+import es1.util.GameResultMsg;
+import es1.util.GameSettings;
+import es1.util.StartMsg;
+import es1.util.StopMsg;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class GameMailboxTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private static ActorSystem system;
+
+    /**
+     * Actor that waits on a latch with its first message, so the next ones stay in the mailbox, and records the others
+     * in the order it handles them.
+     */
+    public static class Recorder extends AbstractActor {
+
+        private final CountDownLatch blocked;
+        private final CountDownLatch release;
+        private final List<Object> received;
+
+        public Recorder(CountDownLatch blocked, CountDownLatch release, List<Object> received) {
+            this.blocked = blocked;
+            this.release = release;
+            this.received = received;
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .matchEquals("block", block -> {
+                        blocked.countDown();
+                        release.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                    })
+                    .matchAny(received::add)
+                    .build();
+        }
+    }
+
+    @BeforeClass
+    public static void setUp() {
+        system = ActorSystem.create("MailboxTest", ConfigFactory.parseString(
+                "small-mailbox = ${es1.game-mailbox} { mailbox-capacity = 3, droppable-messages = [\"java.lang.Integer\"] }\n"
+                        + "oldest-mailbox = ${small-mailbox} { overflow-policy = drop-oldest }\n")
+                .withFallback(ConfigFactory.load())
+                .resolve());
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        system.terminate();
+        system.getWhenTerminated().toCompletableFuture().join();
+    }
+
+    /**
+     * Method that blocks a Recorder, sends it the messages, unblocks it and returns what it handled.
+     * @param mailbox - id of the mailbox of the Recorder.
+     * @param expected - number of messages that must be handled.
+     * @param messages - the messages.
+     * @return the messages handled, in order.
+     * @throws Exception if the Recorder doesn't block.
+     */
+    private static List<Object> handled(String mailbox, int expected, Object... messages) throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Object> received = new CopyOnWriteArrayList<>();
+        ActorRef recorder = system.actorOf(Props.create(Recorder.class, blocked, release, received).withMailbox(mailbox));
+        recorder.tell("block", ActorRef.noSender());
+        assertTrue(blocked.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        for (Object message : messages) {
+            recorder.tell(message, ActorRef.noSender());
+        }
+        release.countDown();
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (received.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        //a message dropped by mistake would arrive after the expected ones
+        Thread.sleep(50);
+        system.stop(recorder);
+        return new ArrayList<>(received);
+    }
+
+    @Test
+    public void controlMessagesFirstTest() throws Exception {
+        StopMsg stop = new StopMsg();
+        List<Object> handled = handled(GameMailbox.ID, 5, 1, 2, "Timeout", 3, stop);
+        assertEquals(Arrays.asList("Timeout", stop, 1, 2, 3), handled);
+    }
+
+    @Test
+    public void dropNewestTest() throws Exception {
+        long dropped = GameMetrics.get().getDroppedMessages();
+        List<Object> handled = handled("small-mailbox", 4, 1, 2, 3, 4, 5, "Timeout");
+        assertEquals(Arrays.asList("Timeout", 1, 2, 3), handled);
+        assertEquals(dropped + 2, GameMetrics.get().getDroppedMessages());
+    }
+
+    @Test
+    public void dropOldestTest() throws Exception {
+        List<Object> handled = handled("oldest-mailbox", 4, 1, 2, 3, 4, 5, "Timeout");
+        assertEquals(Arrays.asList("Timeout", 3, 4, 5), handled);
+    }
+
+    @Test
+    public void journalRepliesTest() throws Exception {
+        //the confirmations of the journal arrive also when the queue is full
+        Object written = JournalProtocol.WriteMessagesSuccessful$.MODULE$;
+        JournalProtocol.RecoverySuccess recovered = new JournalProtocol.RecoverySuccess(7L);
+        List<Object> handled = handled("small-mailbox", 5, 1, 2, 3, 4, written, recovered);
+        assertEquals(Arrays.asList(written, recovered, 1, 2, 3), handled);
+    }
+
+    @Test
+    public void protocolMessagesTest() throws Exception {
+        //only the droppable messages are bounded, the others wait in the queue however many they are
+        List<Object> handled = handled("small-mailbox", 7, "a", "b", 1, "c", "d", 2, "e");
+        assertEquals(Arrays.asList("a", "b", 1, "c", "d", 2, "e"), handled);
+    }
+
+    @Test
+    public void largeRosterTest() throws Exception {
+        //every Player of a simultaneous round answers at once, many more messages than the capacity of the mailbox
+        ActorSystem small = ActorSystem.create("LargeRosterTest", ConfigFactory.parseString("es1.game-mailbox.mailbox-capacity = 4")
+                .withFallback(ConfigFactory.load()));
+        try {
+            GameSettings settings = new GameSettings().withStrategy(StrategyType.RANDOM).withSeed(31L)
+                    .withSimultaneous(true).withPublicBoard(true);
+            GameResultMsg result = Games.play(small, new StartMsg(2, 40, null, settings));
+            assertTrue(result.getWinner() >= 0 && result.getWinner() < 40);
+        } finally {
+            small.terminate();
+            small.getWhenTerminated().toCompletableFuture().join();
+        }
+    }
+}
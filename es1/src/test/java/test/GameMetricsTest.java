@@ -0,0 +1,85 @@
+package test;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.PoisonPill;
+import akka.actor.Props;
+import akka.pattern.Patterns;
+import es1.metrics.GameMetrics;
+import es1.dispatch.GameMailbox;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+import static org.junit.Assert.*;
+
+public class GameMetricsTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * Actor that answers every message that has a sender with the message itself.
+     */
+    public static class Echo extends AbstractActor {
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder().matchAny(message -> {
+                if (!getSender().equals(getContext().getSystem().deadLetters())) {
+                    getSender().tell(message, getSelf());
+                }
+            }).build();
+        }
+    }
+
+    @Test
+    public void jmxTest() throws Exception {
+        GameMetrics metrics = GameMetrics.get();
+        long turns = metrics.getTurnLatencyMicros().getCount();
+        long timeouts = metrics.getTimeouts();
+        GameMetrics.turnEnded(2_000_000);
+        GameMetrics.turnEnded(4_000_000);
+        GameMetrics.turnTimedOut();
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(GameMetrics.OBJECT_NAME);
+        CompositeData latency = (CompositeData) server.getAttribute(name, "TurnLatencyMicros");
+        assertEquals(turns + 2, latency.get("count"));
+        assertTrue((Double) latency.get("max") >= 3990);
+        assertEquals(timeouts + 1, server.getAttribute(name, "Timeouts"));
+        assertTrue((Double) server.getAttribute(name, "TimeoutRate") > 0);
+        assertTrue(((String) server.invoke(name, "dump", null, null)).contains("\"turnLatencyMicros\""));
+    }
+
+    @Test
+    public void mailboxAndDeadLettersTest() throws Exception {
+        ActorSystem system = ActorSystem.create("MetricsTest");
+        try {
+            long messages = GameMetrics.get().getMessages();
+            long deadLetters = GameMetrics.get().getDeadLetters();
+            ActorRef echo = system.actorOf(Props.create(Echo.class).withMailbox(GameMailbox.ID));
+            for (int i = 0; i < 100; i++) {
+                echo.tell(i, ActorRef.noSender());
+            }
+            assertEquals("last", Patterns.ask(echo, "last", TIMEOUT).toCompletableFuture().get());
+            assertTrue(GameMetrics.get().getMessages() >= messages + 101);
+            assertTrue(GameMetrics.get().getMailboxSize().getMax() >= 1);
+
+            echo.tell(PoisonPill.getInstance(), ActorRef.noSender());
+            long deadline = System.nanoTime() + TIMEOUT.toNanos();
+            while (GameMetrics.get().getDeadLetters() == deadLetters && System.nanoTime() < deadline) {
+                echo.tell("lost", ActorRef.noSender());
+                Thread.sleep(10);
+            }
+            assertTrue(GameMetrics.get().getDeadLetters() > deadLetters);
+        } finally {
+            system.terminate();
+            system.getWhenTerminated().toCompletableFuture().join();
+        }
+    }
+}
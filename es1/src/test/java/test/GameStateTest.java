@@ -0,0 +1,106 @@
+package test;
+
+import es1.batch.SimulationRunner;
+import es1.engine.CodeSpace;
+import es1.engine.Feedback;
+import es1.engine.GameState;
+import es1.engine.Move;
+import es1.engine.Rules;
+import es1.strategy.StrategyType;
+import es1.util.GameResultMsg;
+import es1.util.GameSettings;
+import es1.util.Pair;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class GameStateTest {
+
+    private static final CodeSpace SPACE = CodeSpace.of(2);
+
+    @Test
+    public void playTest() {
+        int a = SPACE.pack(Arrays.asList(1, 2));
+        int b = SPACE.pack(Arrays.asList(3, 4));
+        int c = SPACE.pack(Arrays.asList(5, 6));
+        GameState start = GameState.start(SPACE, a, b, c);
+
+        GameState state = start.play(new Move(0, 1, SPACE.pack(Arrays.asList(4, 3))));
+        assertEquals(Feedback.of(0, 2), state.feedback());
+        assertEquals(1, state.turns());
+        state = state.play(new Move(0, 1, b));
+        assertTrue(state.hasSolved(0, 1));
+        //the same opponent solved again doesn't count twice
+        state = state.play(new Move(0, 1, b));
+        assertEquals(1, state.solvedBy(0));
+        assertFalse(state.isOver());
+        state = state.play(new Move(1, 0, -1));
+        assertEquals(Feedback.of(0, 0), state.feedback());
+        state = state.play(new Move(0, 2, c));
+        assertTrue(state.isOver());
+        assertEquals(0, state.winner());
+        assertEquals(5, state.turns());
+
+        //every turn returned a new state
+        assertEquals(0, start.turns());
+        assertFalse(start.hasSolved(0, 1));
+        try {
+            state.play(new Move(1, 0, a));
+            fail("the game is over");
+        } catch (IllegalStateException e) {
+            //expected
+        }
+        try {
+            start.play(new Move(1, 1, a));
+            fail("a Player can't attempt its own code");
+        } catch (IllegalArgumentException e) {
+            //expected
+        }
+    }
+
+    @Test
+    public void checkWinnerTest() {
+        Map<Integer, Integer> codes = new HashMap<>();
+        codes.put(1, SPACE.pack(Arrays.asList(1, 5)));
+        assertTrue(Rules.checkWinner(codes, claim(1, 1, 5), SPACE));
+        assertFalse(Rules.checkWinner(codes, claim(1, 5, 1), SPACE));
+        assertFalse(Rules.checkWinner(codes, claim(2, 1, 5), SPACE));
+        assertFalse(Rules.checkWinner(codes, claim(1, 1, 5, 0), SPACE));
+        //chars out of the space would pack to the same code
+        assertFalse(Rules.checkWinner(codes, claim(1, 0, 15), SPACE));
+        assertFalse(Rules.checkWinner(codes, claim(1, 2, -5), SPACE));
+        assertFalse(Rules.checkWinner(codes, claim(1, 1, null), SPACE));
+    }
+
+    /**
+     * Method that builds the claim of a win message on the code of one Player.
+     * @param player - the Player.
+     * @param digits - chars of the code claimed.
+     * @return the claims.
+     */
+    private static ArrayList<Pair<Integer, ArrayList<Integer>>> claim(int player, Integer... digits) {
+        ArrayList<Pair<Integer, ArrayList<Integer>>> claims = new ArrayList<>();
+        claims.add(new Pair<>(player, new ArrayList<>(Arrays.asList(digits))));
+        return claims;
+    }
+
+    @Test
+    public void simulationTest() {
+        GameSettings settings = new GameSettings().withStrategies(StrategyType.MINIMAX, StrategyType.RANDOM).withSeed(21L);
+        GameResultMsg result = SimulationRunner.play(3, 4, settings);
+        assertTrue(result.getWinner() >= 0 && result.getWinner() < 4);
+        assertEquals(settings.getStrategy(result.getWinner()), result.getWinnerStrategy());
+        assertTrue(result.getTurns() >= 3);
+
+        GameSettings minimax = settings.withStrategy(StrategyType.MINIMAX);
+        GameResultMsg first = SimulationRunner.play(3, 3, minimax);
+        GameResultMsg second = SimulationRunner.play(3, 3, minimax);
+        assertEquals(first.getWinner(), second.getWinner());
+        assertEquals(first.getTurns(), second.getTurns());
+    }
+}
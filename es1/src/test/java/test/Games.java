@@ -0,0 +1,37 @@
+package test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.pattern.Patterns;
+import es1.actors.Arbiter;
+import es1.util.GameResultMsg;
+import es1.util.StartMsg;
+
+import java.time.Duration;
+
+/**
+ * Class that plays the games of the tests on their own Arbiter.
+ */
+final class Games {
+
+    static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private Games() {
+    }
+
+    /**
+     * Method that plays a game on a new Arbiter, waits for its result and stops the Arbiter.
+     * @param system - the ActorSystem of the test.
+     * @param start - the start of the game.
+     * @return the result.
+     * @throws Exception if the game doesn't end.
+     */
+    static GameResultMsg play(ActorSystem system, StartMsg start) throws Exception {
+        ActorRef arbiter = system.actorOf(Arbiter.props());
+        try {
+            return (GameResultMsg) Patterns.ask(arbiter, start, TIMEOUT).toCompletableFuture().get();
+        } finally {
+            system.stop(arbiter);
+        }
+    }
+}
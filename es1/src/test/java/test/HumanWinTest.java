@@ -0,0 +1,79 @@
+package test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.pattern.Patterns;
+import es1.actors.Arbiter;
+import es1.util.GameResultMsg;
+import es1.util.HumanWinMsg;
+import es1.util.Pair;
+import es1.util.StartMsg;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class HumanWinTest {
+
+    private static ActorSystem system;
+
+    @BeforeClass
+    public static void setUp() {
+        system = ActorSystem.create("HumanWinTest");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        system.terminate();
+        system.getWhenTerminated().toCompletableFuture().join();
+    }
+
+    /**
+     * Method that plays a game of the Human Player alone, that claims the win with a code at its first turn.
+     * @param claim - the code claimed.
+     * @return the result of the game.
+     * @throws Exception if the game doesn't end.
+     */
+    private static GameResultMsg claim(ArrayList<Integer> claim) throws Exception {
+        CountDownLatch turn = new CountDownLatch(1);
+        ActorRef arbiter = system.actorOf(Arbiter.props());
+        try {
+            StartMsg start = new StartMsg(3, 0, event -> {
+                if (event.startsWith("Please")) {
+                    turn.countDown();
+                }
+            }, "Human", new ArrayList<>(Arrays.asList(1, 2, 3)));
+            CompletableFuture<Object> result = Patterns.ask(arbiter, start, Games.TIMEOUT).toCompletableFuture();
+            assertTrue(turn.await(Games.TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+            ArrayList<Pair<Integer, ArrayList<Integer>>> results = new ArrayList<>();
+            results.add(new Pair<>(0, claim));
+            //the GUI sends the win message without sender
+            arbiter.tell(new HumanWinMsg(results), ActorRef.noSender());
+            return (GameResultMsg) result.get(Games.TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            system.stop(arbiter);
+        }
+    }
+
+    @Test
+    public void winnerTest() throws Exception {
+        GameResultMsg result = claim(new ArrayList<>(Arrays.asList(1, 2, 3)));
+        assertEquals(0, result.getWinner());
+        assertNull(result.getWinnerStrategy());
+    }
+
+    @Test
+    public void noPlayersLeftTest() throws Exception {
+        //the wrong win removes the last Player, the game ends without a winner
+        GameResultMsg result = claim(new ArrayList<>(Arrays.asList(3, 2, 1)));
+        assertEquals(-1, result.getWinner());
+        assertEquals(1, result.getTurns());
+    }
+}
@@ -0,0 +1,163 @@
+package test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.serialization.Serialization;
+import akka.serialization.SerializationExtension;
+import akka.serialization.Serializer;
+import akka.serialization.Serializers;
+import es1.cluster.GameEnvelope;
+import es1.engine.Feedback;
+import es1.persistence.ArbiterSnapshot;
+import es1.persistence.GameStartedEvent;
+import es1.serialization.MessageSerializer;
+import es1.strategy.StrategyType;
+import es1.strategy.TargetType;
+import es1.util.*;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class MessageSerializerTest {
+
+    private static ActorSystem system;
+    private static ActorRef first;
+    private static ActorRef second;
+
+    @BeforeClass
+    public static void setUp() {
+        system = ActorSystem.create("SerializerTest");
+        first = system.actorOf(Props.empty(), "first");
+        second = system.actorOf(Props.empty(), "second");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        system.terminate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T roundTrip(T message) {
+        Serialization serialization = SerializationExtension.get(system);
+        Serializer serializer = serialization.findSerializerFor(message);
+        assertEquals(MessageSerializer.IDENTIFIER, serializer.identifier());
+        byte[] bytes = serializer.toBinary(message);
+        return (T) serialization.deserialize(bytes, serializer.identifier(), Serializers.manifestFor(serializer, message)).get();
+    }
+
+    @Test
+    public void turnMessagesTest() {
+        TryAttempt tryAttempt = roundTrip(new TryAttempt(true, -1, 3));
+        assertTrue(tryAttempt.isHuman());
+        assertEquals(-1, tryAttempt.getAttempt());
+        assertEquals(3, tryAttempt.getPlayerToSend());
+
+        assertEquals(3915, roundTrip(new SendAttemptToPlayer(3915)).getAttempt());
+        assertEquals(Feedback.of(4, 0), roundTrip(new SendResponseToPlayer(Feedback.of(4, 0))).getResult());
+        assertEquals(42, roundTrip(new CodeGeneratedMsg(42)).getCode());
+
+        PlayerAttemptMsg attempt = roundTrip(new PlayerAttemptMsg(1234, 7, Feedback.of(1, 2)));
+        assertEquals(1234, attempt.getAttempt());
+        assertEquals(7, attempt.getTarget());
+        assertEquals(Feedback.of(1, 2), attempt.getResult());
+
+        PublicAttemptMsg board = roundTrip(new PublicAttemptMsg(2, 1234, 7, Feedback.of(1, 2)));
+        assertEquals(2, board.getPlayer());
+        assertEquals(1234, board.getAttempt());
+        assertEquals(7, board.getTarget());
+        assertEquals(Feedback.of(1, 2), board.getResult());
+    }
+
+    @Test
+    public void refsTest() {
+        ArrayList<Pair<ActorRef, ArrayList<Integer>>> result = new ArrayList<>();
+        result.add(new Pair<>(first, new ArrayList<>(Arrays.asList(1, 2, 3))));
+        result.add(new Pair<>(second, new ArrayList<>(Arrays.asList(4, 5, 6))));
+        WinMsg win = roundTrip(new WinMsg(result));
+        assertEquals(2, win.getResult().size());
+        assertEquals(first, win.getResult().get(0).getKey());
+        assertEquals(Arrays.asList(4, 5, 6), win.getResult().get(1).getValue());
+
+        GameSettings settings = new GameSettings().withStrategies(StrategyType.MINIMAX, StrategyType.RANDOM).withSeed(-5L);
+        SetupPlayer setup = roundTrip(new SetupPlayer(4, settings));
+        assertEquals(4, setup.getNumber());
+        assertEquals(StrategyType.RANDOM, setup.getSettings().getStrategy(1));
+        assertEquals(Long.valueOf(-5L), setup.getSettings().getSeed());
+
+        RosterMsg roster = roundTrip(new RosterMsg(new ActorRef[]{first, second}, 1));
+        assertArrayEquals(new ActorRef[]{first, second}, roster.getRoster());
+        assertEquals(1, roster.getIndex());
+        assertEquals(-1, roster.getHuman());
+        assertEquals(0, roundTrip(new RosterMsg(new ActorRef[]{first, second}, 1, 0)).getHuman());
+    }
+
+    @Test
+    public void gameMessagesTest() {
+        StartMsg start = new StartMsg(3, 5, null, new GameSettings().withTurnTimeout(100).withSimultaneous(true).withVirtualTime(true).withTarget(TargetType.RANDOM).withPublicBoard(true));
+        GameEnvelope envelope = roundTrip(new GameEnvelope("Game-1", start));
+        assertEquals("Game-1", envelope.getGameId());
+        StartMsg received = (StartMsg) envelope.getMessage();
+        assertEquals(3, received.getNumber());
+        assertEquals(5, received.getPlayers());
+        assertEquals(100, received.getSettings().getTurnTimeout());
+        assertTrue(received.getSettings().isSimultaneous());
+        assertTrue(received.getSettings().isVirtualTime());
+        assertEquals(TargetType.RANDOM, received.getSettings().getTarget());
+        assertTrue(received.getSettings().isPublicBoard());
+        assertNull(received.getSettings().getSeed());
+
+        GameResultMsg result = roundTrip(new GameResultMsg(2, StrategyType.MINIMAX, 3, 40, new long[]{10, 20, 300000}));
+        assertEquals(2, result.getWinner());
+        assertEquals(StrategyType.MINIMAX, result.getWinnerStrategy());
+        assertArrayEquals(new long[]{10, 20, 300000}, result.getTurnLatencies());
+    }
+
+    @Test
+    public void oldLayoutTest() {
+        //a start frame journaled before the options were added at the end of the frames: 3 chars, 4 Players, one
+        //minimax strategy, budget 100, seed 7, timeout 100, no Human Player
+        byte[] start = {3, 4, 1, (byte) StrategyType.MINIMAX.ordinal(), 100, 1, 14, 100, 0};
+        Serialization serialization = SerializationExtension.get(system);
+        GameStartedEvent event = (GameStartedEvent) serialization.deserialize(start, MessageSerializer.IDENTIFIER, "EG").get();
+        GameSettings settings = event.getStart().getSettings();
+        assertEquals(3, event.getStart().getNumber());
+        assertEquals(4, event.getStart().getPlayers());
+        assertEquals(StrategyType.MINIMAX, settings.getStrategy(2));
+        assertEquals(100, settings.getGuessBudget());
+        assertEquals(Long.valueOf(7L), settings.getSeed());
+        assertEquals(100, settings.getTurnTimeout());
+        assertFalse(settings.isSimultaneous());
+        assertFalse(settings.isVirtualTime());
+        assertEquals(TargetType.RANDOM, settings.getTarget());
+        assertFalse(settings.isPublicBoard());
+
+        //a snapshot of the same game: codes 5 and 7, order [0, 2], one turn played of the round, no history
+        byte[] snapshot = new byte[start.length + 11];
+        snapshot[0] = 1;
+        System.arraycopy(start, 0, snapshot, 1, start.length);
+        System.arraycopy(new byte[]{1, 2, 10, 14, 2, 0, 4, 1, 1, 0}, 0, snapshot, start.length + 1, 10);
+        ArbiterSnapshot recovered = (ArbiterSnapshot) serialization.deserialize(snapshot, MessageSerializer.IDENTIFIER, "AS").get();
+        assertEquals(Long.valueOf(7L), recovered.getStart().getSettings().getSeed());
+        assertEquals(TargetType.RANDOM, recovered.getStart().getSettings().getTarget());
+        assertArrayEquals(new int[]{5, 7}, recovered.getCodes());
+        assertArrayEquals(new int[]{0, 2}, recovered.getOrder());
+        assertEquals(1, recovered.getCount());
+        assertEquals(1, recovered.getTurns());
+        assertEquals(0, recovered.getHistory().length);
+
+        //the new layout keeps the options after the fields of the snapshot
+        StartMsg simultaneous = new StartMsg(3, 4, null, new GameSettings().withSimultaneous(true).withPublicBoard(true), "Human", new ArrayList<>(Arrays.asList(1, 2, 3)));
+        ArbiterSnapshot written = roundTrip(new ArbiterSnapshot(simultaneous, new int[]{1, 2, 3, 4, 5}, new int[]{4, 3, 2, 1, 0}, 2, 7, new int[]{0, 1, 2, 3}));
+        assertTrue(written.getStart().getSettings().isSimultaneous());
+        assertTrue(written.getStart().getSettings().isPublicBoard());
+        assertEquals(TargetType.CONSTRAINED, written.getStart().getSettings().getTarget());
+        assertEquals("Human", written.getStart().getPlayerName());
+        assertArrayEquals(new int[]{0, 1, 2, 3}, written.getHistory());
+    }
+}
@@ -0,0 +1,112 @@
+package test;
+
+import es1.engine.CandidateSet;
+import es1.engine.CodeSpace;
+import es1.engine.Feedback;
+import es1.strategy.GuessStrategy;
+import es1.strategy.MinimaxStrategy;
+import es1.strategy.OpeningBook;
+import es1.util.VirtualClock;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class OpeningBookTest {
+
+    @Test
+    public void bookTest() throws IOException {
+        CodeSpace space = CodeSpace.of(3);
+        Path file = Files.createTempFile("opening", ".book");
+        try {
+            OpeningBook.build(file, Arrays.asList(space, CodeSpace.of(2, 0, 4, true)));
+            OpeningBook book = OpeningBook.load(file);
+            assertTrue(book.contains(space));
+            assertFalse(book.contains(CodeSpace.of(2)));
+
+            //the book knows the attempts of a complete search
+            GuessStrategy search = new MinimaxStrategy(0, new VirtualClock(), OpeningBook.EMPTY);
+            CandidateSet all = new CandidateSet(space);
+            int first = book.guess(space, all.indexes());
+            assertEquals(search.nextGuess(all), first);
+            int replies = 0;
+            for (int feedback = 0; feedback < Feedback.SIZE; feedback++) {
+                CandidateSet set = new CandidateSet(space);
+                set.retain(space.codeAt(first), feedback);
+                if (set.size() > 0) {
+                    assertEquals(search.nextGuess(set), book.guess(space, set.indexes()));
+                    replies++;
+                }
+            }
+            assertTrue(replies > 1);
+
+            //candidates narrowed further aren't in the book
+            CandidateSet narrowed = new CandidateSet(space);
+            narrowed.retain(space.codeAt(first), Feedback.of(0, 0));
+            narrowed.retain(space.codeAt(narrowed.nth(0)), Feedback.of(0, 0));
+            assertEquals(-1, book.guess(space, narrowed.indexes()));
+            assertEquals(-1, book.guess(CodeSpace.of(2), new CandidateSet(CodeSpace.of(2)).indexes()));
+            assertEquals(-1, OpeningBook.EMPTY.guess(space, all.indexes()));
+
+            Files.write(file, new byte[]{1, 2, 3, 4, 5, 6});
+            try {
+                OpeningBook.load(file);
+                fail("not an opening book");
+            } catch (IOException e) {
+                //expected
+            }
+            assertSame(OpeningBook.EMPTY, OpeningBook.loadOrEmpty(file));
+
+            //a space with more than 32767 results, read as a negative count it would point back into the file
+            ByteBuffer truncated = ByteBuffer.allocate(16).putInt(0x45534231).put((byte) 1).put((byte) 1)
+                    .put(new byte[]{3, 1, 10, 0}).putInt(0).putShort((short) 0x8000);
+            Files.write(file, truncated.array());
+            try {
+                OpeningBook.load(file);
+                fail("the replies aren't in the file");
+            } catch (IOException e) {
+                assertTrue(e.getMessage().startsWith("Truncated"));
+            }
+            assertSame(OpeningBook.EMPTY, OpeningBook.loadOrEmpty(file));
+
+            //an attempt that isn't a code of the space, the Strategies search instead of playing it
+            OpeningBook.build(file, Arrays.asList(space));
+            byte[] corrupted = Files.readAllBytes(file);
+            ByteBuffer.wrap(corrupted).putInt(6 + 10 + 5, space.size());
+            Files.write(file, corrupted);
+            try {
+                OpeningBook.load(file);
+                fail("the reply isn't in the space");
+            } catch (IOException e) {
+                assertTrue(e.getMessage().startsWith("Invalid reply"));
+            }
+            assertSame(OpeningBook.EMPTY, OpeningBook.loadOrEmpty(file));
+
+            //a negative first attempt, read from a corrupted file
+            OpeningBook.build(file, Arrays.asList(space));
+            corrupted = Files.readAllBytes(file);
+            ByteBuffer.wrap(corrupted).putInt(6 + 4, -1);
+            Files.write(file, corrupted);
+            assertSame(OpeningBook.EMPTY, OpeningBook.loadOrEmpty(file));
+
+            //a header that isn't a code space
+            OpeningBook.build(file, Arrays.asList(space));
+            corrupted = Files.readAllBytes(file);
+            corrupted[6 + 2] = 2;
+            Files.write(file, corrupted);
+            try {
+                OpeningBook.load(file);
+                fail("not a code space");
+            } catch (IOException e) {
+                assertTrue(e.getMessage().startsWith("Invalid code space"));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package test;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.pattern.Patterns;
+import es1.actors.Player;
+import es1.engine.CandidateSet;
+import es1.engine.CodeSpace;
+import es1.engine.Feedback;
+import es1.strategy.GuessStrategy;
+import es1.strategy.MinimaxStrategy;
+import es1.strategy.OpeningBook;
+import es1.strategy.StrategyType;
+import es1.util.CodeGeneratedMsg;
+import es1.util.GameSettings;
+import es1.util.GuessComputedMsg;
+import es1.util.RosterMsg;
+import es1.util.SendAttemptToPlayer;
+import es1.util.SendResponseToPlayer;
+import es1.util.SetupPlayer;
+import es1.util.TryAttempt;
+import es1.util.VirtualClock;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class PlayerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private static final CodeSpace SPACE = CodeSpace.of(3);
+
+    private static ActorSystem system;
+
+    /**
+     * Actor that is the opponent of the Player, it records the attempts it receives without answering them.
+     */
+    public static class Opponent extends AbstractActor {
+
+        private final BlockingQueue<Integer> attempts;
+
+        public Opponent(BlockingQueue<Integer> attempts) {
+            this.attempts = attempts;
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(SendAttemptToPlayer.class, attempt -> attempts.add(attempt.getAttempt()))
+                    .build();
+        }
+    }
+
+    @BeforeClass
+    public static void setUp() {
+        system = ActorSystem.create("PlayerTest");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        system.terminate();
+        system.getWhenTerminated().toCompletableFuture().join();
+    }
+
+    @Test
+    public void computedGuessTest() throws Exception {
+        BlockingQueue<Integer> attempts = new LinkedBlockingQueue<>();
+        ActorRef player = system.actorOf(Player.props());
+        ActorRef opponent = system.actorOf(Props.create(Opponent.class, attempts));
+        GameSettings settings = new GameSettings().withStrategy(StrategyType.RANDOM).withSeed(11L);
+        assertTrue(Patterns.ask(player, new SetupPlayer(3, settings), TIMEOUT).toCompletableFuture().get() instanceof CodeGeneratedMsg);
+        player.tell(new RosterMsg(new ActorRef[]{player, opponent}, 0), ActorRef.noSender());
+
+        //the random Strategy computes the attempt of the first request at once
+        player.tell(new TryAttempt(false, -1, -1), ActorRef.noSender());
+        assertNotNull(attempts.poll(5, TimeUnit.SECONDS));
+
+        //the attempt computed for an older request is dropped, the one of the current request is sent
+        player.tell(new GuessComputedMsg(0, 7), ActorRef.noSender());
+        player.tell(new GuessComputedMsg(1, 5), ActorRef.noSender());
+        assertEquals(Integer.valueOf(SPACE.codeAt(5)), attempts.poll(5, TimeUnit.SECONDS));
+        assertNull(attempts.poll(300, TimeUnit.MILLISECONDS));
+
+        //a failed computation of an older request is dropped too
+        player.tell(new GuessComputedMsg(0, new IllegalStateException("test")), ActorRef.noSender());
+        assertNull(attempts.poll(300, TimeUnit.MILLISECONDS));
+
+        //a failed computation falls back to random candidates
+        Set<Integer> fallbacks = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            player.tell(new GuessComputedMsg(1, new IllegalStateException("test")), ActorRef.noSender());
+            Integer attempt = attempts.poll(5, TimeUnit.SECONDS);
+            assertNotNull(attempt);
+            fallbacks.add(attempt);
+        }
+        assertTrue(fallbacks.size() > 1);
+        system.stop(player);
+        system.stop(opponent);
+    }
+
+    @Test
+    public void inconsistentResultsTest() throws Exception {
+        BlockingQueue<Integer> attempts = new LinkedBlockingQueue<>();
+        ActorRef player = system.actorOf(Player.props());
+        ActorRef opponent = system.actorOf(Props.create(Opponent.class, attempts));
+        GameSettings settings = new GameSettings().withStrategy(StrategyType.MINIMAX).withSeed(13L);
+        Patterns.ask(player, new SetupPlayer(3, settings), TIMEOUT).toCompletableFuture().get();
+        player.tell(new RosterMsg(new ActorRef[]{player, opponent}, 0), ActorRef.noSender());
+
+        player.tell(new TryAttempt(false, -1, -1), ActorRef.noSender());
+        assertNotNull(attempts.poll(5, TimeUnit.SECONDS));
+        //two chars in the right position and the third in another one: no code gives it
+        player.tell(new SendResponseToPlayer(Feedback.of(2, 1)), opponent);
+        //the bot has no candidate left for the code of the other bot, it keeps playing with random attempts
+        for (int i = 0; i < 3; i++) {
+            player.tell(new TryAttempt(false, -1, -1), ActorRef.noSender());
+            Integer attempt = attempts.poll(5, TimeUnit.SECONDS);
+            assertNotNull(attempt);
+            assertTrue(SPACE.indexOf(attempt) >= 0);
+        }
+        system.stop(player);
+        system.stop(opponent);
+    }
+
+    @Test
+    public void negativeClockTest() {
+        //the times of the system clock can be negative, a search without budget is complete whatever they are
+        GuessStrategy negative = new MinimaxStrategy(1000, () -> -10L, OpeningBook.EMPTY);
+        GuessStrategy virtual = new MinimaxStrategy(1000, new VirtualClock(), OpeningBook.EMPTY);
+        Random random = new Random(1);
+        int checked = 0;
+        for (int game = 0; game < 20; game++) {
+            //the candidates left after two attempts of a game
+            int secret = SPACE.randomCode(random);
+            CandidateSet set = new CandidateSet(SPACE);
+            for (int i = 0; i < 2; i++) {
+                int attempt = SPACE.randomCode(random);
+                set.retain(attempt, SPACE.feedback(secret, attempt));
+            }
+            if (set.size() > 1) {
+                int expected = virtual.nextGuess(set);
+                assertEquals(expected, negative.nextGuess(set));
+                if (expected != set.indexes()[0]) {
+                    checked++;
+                }
+            }
+        }
+        assertTrue(checked > 0);
+    }
+}
@@ -0,0 +1,57 @@
+package test;
+
+import akka.actor.ActorSystem;
+import es1.batch.SimulationRunner;
+import es1.strategy.StrategyType;
+import es1.util.GameResultMsg;
+import es1.util.GameSettings;
+import es1.util.StartMsg;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PublicBoardTest {
+
+    private static ActorSystem system;
+
+    @BeforeClass
+    public static void setUp() {
+        system = ActorSystem.create("PublicBoardTest");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        system.terminate();
+        system.getWhenTerminated().toCompletableFuture().join();
+    }
+
+    @Test
+    public void turnsTest() {
+        GameSettings settings = new GameSettings().withStrategy(StrategyType.RANDOM).withVirtualTime(true);
+        int hidden = 0;
+        int shared = 0;
+        for (long seed = 0; seed < 50; seed++) {
+            hidden += SimulationRunner.play(2, 5, settings.withSeed(seed)).getTurns();
+            shared += SimulationRunner.play(2, 5, settings.withSeed(seed).withPublicBoard(true)).getTurns();
+        }
+        assertTrue(shared + " turns, " + hidden + " without the public board", shared < hidden);
+    }
+
+    @Test
+    public void actorsTest() throws Exception {
+        //every bot sees the attempts of the others before its turn, so the actors play the game of the simulation
+        GameSettings settings = new GameSettings().withStrategies(StrategyType.MINIMAX, StrategyType.RANDOM)
+                .withSeed(23L).withVirtualTime(true).withPublicBoard(true);
+        for (boolean simultaneous : new boolean[]{false, true}) {
+            GameResultMsg result = Games.play(system, new StartMsg(3, 4, null, settings.withSimultaneous(simultaneous)));
+            assertTrue(result.getWinner() >= 0 && result.getWinner() < 4);
+            if (!simultaneous) {
+                GameResultMsg simulated = SimulationRunner.play(3, 4, settings);
+                assertEquals(simulated.getWinner(), result.getWinner());
+                assertEquals(simulated.getTurns(), result.getTurns());
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package test;
+
+import akka.actor.ActorSystem;
+import es1.metrics.GameMetrics;
+import es1.strategy.StrategyType;
+import es1.util.GameResultMsg;
+import es1.util.GameSettings;
+import es1.util.StartMsg;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class SimultaneousRoundTest {
+
+    private static ActorSystem system;
+
+    @BeforeClass
+    public static void setUp() {
+        system = ActorSystem.create("SimultaneousTest");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        system.terminate();
+        system.getWhenTerminated().toCompletableFuture().join();
+    }
+
+    @Test
+    public void botsTest() throws Exception {
+        GameSettings settings = new GameSettings().withStrategy(StrategyType.RANDOM).withSeed(11L).withSimultaneous(true);
+        GameResultMsg result = Games.play(system, new StartMsg(3, 4, null, settings));
+        assertTrue(result.getWinner() >= 0 && result.getWinner() < 4);
+        assertEquals(result.getTurns(), result.getTurnLatencies().length);
+    }
+
+    @Test
+    public void roundTimeoutTest() throws Exception {
+        //the Human Player never answers, every round waits for it until the timeout and the bots go on without it
+        long timeouts = GameMetrics.get().getTimeouts();
+        GameSettings settings = new GameSettings().withStrategy(StrategyType.RANDOM).withSeed(13L).withSimultaneous(true).withTurnTimeout(100);
+        GameResultMsg result = Games.play(system, new StartMsg(2, 2, null, settings, "Human", new ArrayList<>(Arrays.asList(1, 2))));
+        assertTrue(result.getWinner() == 0 || result.getWinner() == 1);
+        assertTrue(GameMetrics.get().getTimeouts() > timeouts);
+    }
+}
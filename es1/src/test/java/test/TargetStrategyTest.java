@@ -0,0 +1,59 @@
+package test;
+
+import es1.batch.SimulationRunner;
+import es1.engine.CandidateSet;
+import es1.engine.CodeSpace;
+import es1.engine.Feedback;
+import es1.strategy.StrategyType;
+import es1.strategy.TargetStrategy;
+import es1.strategy.TargetType;
+import es1.util.GameSettings;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TargetStrategyTest {
+
+    private static final CodeSpace SPACE = CodeSpace.of(2);
+
+    @Test
+    public void constrainedTest() {
+        TargetStrategy target = TargetType.CONSTRAINED.create(new Random(3));
+        CandidateSet[] candidates = new CandidateSet[4];
+        BitSet solved = new BitSet();
+        //nothing known yet: any opponent but the Player itself
+        boolean[] chosen = new boolean[4];
+        for (int i = 0; i < 100; i++) {
+            chosen[target.nextTarget(1, SPACE, candidates, solved)] = true;
+        }
+        assertArrayEquals(new boolean[]{true, false, true, true}, chosen);
+
+        candidates[2] = new CandidateSet(SPACE);
+        candidates[2].retain(SPACE.pack(Arrays.asList(1, 2)), Feedback.of(1, 0));
+        candidates[3] = new CandidateSet(SPACE);
+        candidates[3].retain(SPACE.pack(Arrays.asList(1, 2)), Feedback.of(0, 0));
+        assertTrue(candidates[2].size() < candidates[3].size());
+        assertEquals(2, target.nextTarget(1, SPACE, candidates, solved));
+        //a solved opponent is never attacked again
+        solved.set(2);
+        assertEquals(3, target.nextTarget(1, SPACE, candidates, solved));
+        solved.set(3);
+        assertEquals(0, target.nextTarget(1, SPACE, candidates, solved));
+    }
+
+    @Test
+    public void turnsTest() {
+        GameSettings settings = new GameSettings().withStrategy(StrategyType.RANDOM).withVirtualTime(true);
+        int random = 0;
+        int constrained = 0;
+        for (long seed = 0; seed < 50; seed++) {
+            random += SimulationRunner.play(2, 4, settings.withSeed(seed).withTarget(TargetType.RANDOM)).getTurns();
+            constrained += SimulationRunner.play(2, 4, settings.withSeed(seed).withTarget(TargetType.CONSTRAINED)).getTurns();
+        }
+        assertTrue(constrained + " turns, " + random + " with random opponents", constrained < random);
+    }
+}
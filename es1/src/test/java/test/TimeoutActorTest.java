@@ -0,0 +1,175 @@
+package test;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.pattern.Patterns;
+import com.typesafe.config.ConfigFactory;
+import es1.actors.Arbiter;
+import es1.actors.TimeoutActor;
+import es1.batch.SimulationRunner;
+import es1.metrics.GameMetrics;
+import es1.strategy.StrategyType;
+import es1.util.GameResultMsg;
+import es1.util.GameSettings;
+import es1.util.StartMsg;
+import es1.util.StartTimerMsg;
+import es1.util.TimeoutMsg;
+import es1.util.VirtualClock;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class TimeoutActorTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private static ActorSystem system;
+
+    /**
+     * Actor that sends the messages of the test to the TimeoutActor, so it's the Arbiter of the timers, and records
+     * the timeouts it receives.
+     */
+    public static class FakeArbiter extends AbstractActor {
+
+        private final ActorRef timer;
+        private final BlockingQueue<Long> timeouts;
+
+        public FakeArbiter(ActorRef timer, BlockingQueue<Long> timeouts) {
+            this.timer = timer;
+            this.timeouts = timeouts;
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(TimeoutMsg.class, timeout -> timeouts.add(timeout.getTurn()))
+                    .matchAny(message -> timer.tell(message, getSelf()))
+                    .build();
+        }
+    }
+
+    @BeforeClass
+    public static void setUp() {
+        system = ActorSystem.create("TimeoutActorTest");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        system.terminate();
+        system.getWhenTerminated().toCompletableFuture().join();
+    }
+
+    @Test
+    public void timerTest() throws Exception {
+        BlockingQueue<Long> timeouts = new LinkedBlockingQueue<>();
+        ActorRef timer = system.actorOf(TimeoutActor.props(Duration.ofMillis(100)));
+        ActorRef arbiter = system.actorOf(Props.create(FakeArbiter.class, timer, timeouts));
+
+        arbiter.tell(new StartTimerMsg(1), ActorRef.noSender());
+        assertEquals(Long.valueOf(1), timeouts.poll(5, TimeUnit.SECONDS));
+
+        //the timer of a new turn replaces the one of the previous turn
+        arbiter.tell(new StartTimerMsg(2), ActorRef.noSender());
+        arbiter.tell(new StartTimerMsg(3), ActorRef.noSender());
+        assertEquals(Long.valueOf(3), timeouts.poll(5, TimeUnit.SECONDS));
+        assertNull(timeouts.poll(300, TimeUnit.MILLISECONDS));
+
+        arbiter.tell(new StartTimerMsg(4), ActorRef.noSender());
+        arbiter.tell("ResetTimer", ActorRef.noSender());
+        assertNull(timeouts.poll(300, TimeUnit.MILLISECONDS));
+
+        arbiter.tell("StopTimer", ActorRef.noSender());
+        arbiter.tell(new StartTimerMsg(5), ActorRef.noSender());
+        assertNull(timeouts.poll(300, TimeUnit.MILLISECONDS));
+        system.stop(arbiter);
+        system.stop(timer);
+    }
+
+    @Test
+    public void virtualClockTest() throws Exception {
+        BlockingQueue<Long> timeouts = new LinkedBlockingQueue<>();
+        VirtualClock clock = new VirtualClock();
+        ActorRef timer = system.actorOf(TimeoutActor.props(Duration.ofMillis(100), clock));
+        ActorRef arbiter = system.actorOf(Props.create(FakeArbiter.class, timer, timeouts));
+
+        //the deadline is on the virtual clock, it doesn't expire in real time
+        arbiter.tell(new StartTimerMsg(1), ActorRef.noSender());
+        assertNull(timeouts.poll(300, TimeUnit.MILLISECONDS));
+        arbiter.tell("Idle", ActorRef.noSender());
+        assertEquals(Long.valueOf(1), timeouts.poll(5, TimeUnit.SECONDS));
+        assertEquals(Duration.ofMillis(100).toNanos(), clock.nanoTime());
+
+        //a turn that ended has no deadline to reach
+        arbiter.tell(new StartTimerMsg(2), ActorRef.noSender());
+        arbiter.tell("ResetTimer", ActorRef.noSender());
+        arbiter.tell("Idle", ActorRef.noSender());
+        assertNull(timeouts.poll(300, TimeUnit.MILLISECONDS));
+        assertEquals(Duration.ofMillis(100).toNanos(), clock.nanoTime());
+        system.stop(arbiter);
+        system.stop(timer);
+    }
+
+    @Test
+    public void idleTimeoutTest() throws Exception {
+        //a turn on a virtual clock that nothing ends for the idle timeout in real time reaches its deadline
+        ActorSystem quiet = ActorSystem.create("IdleTimeoutTest", ConfigFactory.parseString("es1.virtual-time.idle-timeout = 200ms")
+                .withFallback(ConfigFactory.load()));
+        try {
+            BlockingQueue<Long> timeouts = new LinkedBlockingQueue<>();
+            VirtualClock clock = new VirtualClock();
+            ActorRef timer = quiet.actorOf(TimeoutActor.props(Duration.ofHours(1), clock));
+            ActorRef arbiter = quiet.actorOf(Props.create(FakeArbiter.class, timer, timeouts));
+            arbiter.tell(new StartTimerMsg(1), ActorRef.noSender());
+            assertEquals(Long.valueOf(1), timeouts.poll(5, TimeUnit.SECONDS));
+            assertEquals(Duration.ofHours(1).toNanos(), clock.nanoTime());
+
+            //a turn that ends in time is never idle
+            arbiter.tell(new StartTimerMsg(2), ActorRef.noSender());
+            arbiter.tell("ResetTimer", ActorRef.noSender());
+            assertNull(timeouts.poll(500, TimeUnit.MILLISECONDS));
+        } finally {
+            quiet.terminate();
+            quiet.getWhenTerminated().toCompletableFuture().join();
+        }
+    }
+
+    @Test
+    public void staleTimeoutTest() throws Exception {
+        //timeouts of turns that aren't the current one don't end any turn
+        long timeouts = GameMetrics.get().getTimeouts();
+        GameSettings settings = new GameSettings().withStrategy(StrategyType.RANDOM).withSeed(29L).withVirtualTime(true);
+        ActorRef arbiter = system.actorOf(Arbiter.props());
+        CompletableFuture<Object> result = Patterns.ask(arbiter, new StartMsg(3, 4, null, settings), TIMEOUT).toCompletableFuture();
+        while (!result.isDone()) {
+            arbiter.tell(new TimeoutMsg(0), ActorRef.noSender());
+            Thread.sleep(1);
+        }
+        GameResultMsg game = (GameResultMsg) result.get();
+        system.stop(arbiter);
+        GameResultMsg simulated = SimulationRunner.play(3, 4, settings);
+        assertEquals(simulated.getWinner(), game.getWinner());
+        assertEquals(simulated.getTurns(), game.getTurns());
+        assertEquals(timeouts, GameMetrics.get().getTimeouts());
+    }
+
+    @Test
+    public void setupTimeoutTest() throws Exception {
+        //the Human Player fails on a code it can't pack and never generates it, the game ends at the timeout
+        GameSettings settings = new GameSettings().withStrategy(StrategyType.RANDOM).withTurnTimeout(200);
+        GameResultMsg result = Games.play(system, new StartMsg(3, 2, null, settings, "Human", new ArrayList<>(Arrays.asList(1, null, 3))));
+        assertEquals(-1, result.getWinner());
+        assertEquals(0, result.getTurns());
+    }
+}
@@ -0,0 +1,82 @@
+package test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.PoisonPill;
+import akka.actor.Props;
+import akka.pattern.Patterns;
+import com.typesafe.config.ConfigFactory;
+import es1.actors.Tournament;
+import es1.metrics.TournamentStatistics;
+import es1.strategy.StrategyType;
+import es1.util.GameSettings;
+import es1.util.StartTournamentMsg;
+import es1.util.TournamentResultMsg;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.*;
+
+public class TournamentTest {
+
+    private static ActorSystem system;
+
+    @BeforeClass
+    public static void setUp() {
+        system = ActorSystem.create("TournamentTest");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        system.terminate();
+        system.getWhenTerminated().toCompletableFuture().join();
+    }
+
+    private static CompletableFuture<Object> start(ActorSystem system, String name, StartTournamentMsg tournament) {
+        ActorRef actor = system.actorOf(Props.create(Tournament.class), name);
+        return Patterns.ask(actor, tournament, Games.TIMEOUT).toCompletableFuture();
+    }
+
+    @Test
+    public void gamesTest() throws Exception {
+        GameSettings settings = new GameSettings().withStrategy(StrategyType.RANDOM).withSeed(3L);
+        TournamentStatistics statistics = ((TournamentResultMsg) start(system, "games", new StartTournamentMsg(6, 2, 3, 3, settings))
+                .get()).getStatistics();
+        assertEquals(6, statistics.getGames());
+        assertEquals(0, statistics.getFailedGames());
+    }
+
+    @Test
+    public void stoppedGamesTest() throws Exception {
+        //the Arbiters are stopped while their games are played, the tournament ends without their results
+        GameSettings settings = new GameSettings().withStrategy(StrategyType.RANDOM).withSeed(5L);
+        CompletableFuture<Object> result = start(system, "stopped", new StartTournamentMsg(3, 3, 4, 30, settings));
+        while (!result.isDone()) {
+            system.actorSelection("/user/stopped/Game-*").tell(PoisonPill.getInstance(), ActorRef.noSender());
+            Thread.sleep(5);
+        }
+        TournamentStatistics statistics = ((TournamentResultMsg) result.get()).getStatistics();
+        assertEquals(3, statistics.getGames() + statistics.getFailedGames());
+        assertTrue(statistics.getFailedGames() > 0);
+    }
+
+    @Test
+    public void stalledGamesTest() throws Exception {
+        //the games can't end before the timeout of the tournament, they are stopped and counted as failed
+        ActorSystem stalling = ActorSystem.create("StalledTournamentTest",
+                ConfigFactory.parseString("es1.tournament.game-timeout = 1ms").withFallback(ConfigFactory.load()));
+        try {
+            GameSettings settings = new GameSettings().withStrategy(StrategyType.RANDOM).withSeed(7L);
+            TournamentStatistics statistics = ((TournamentResultMsg) start(stalling, "stalled", new StartTournamentMsg(4, 2, 4, 30, settings))
+                    .get()).getStatistics();
+            assertEquals(4, statistics.getGames() + statistics.getFailedGames());
+            assertTrue(statistics.getFailedGames() > 0);
+        } finally {
+            stalling.terminate();
+            stalling.getWhenTerminated().toCompletableFuture().join();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package test;
+
+import es1.engine.TurnOrder;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TurnOrderTest {
+
+    @Test
+    public void removeTest() {
+        TurnOrder order = new TurnOrder(5, new int[]{3, 0, 4, 1, 2});
+        //the Player in turn at position 1 is removed, the last one takes its place and plays next
+        order.remove(0);
+        assertEquals(4, order.size());
+        assertFalse(order.contains(0));
+        assertEquals(2, order.get(1));
+        assertArrayEquals(new int[]{3, 2, 4, 1}, order.toArray());
+        order.remove(1);
+        order.remove(1);
+        assertArrayEquals(new int[]{3, 2, 4}, order.toArray());
+        assertTrue(order.contains(4));
+        assertFalse(order.contains(7));
+    }
+
+    @Test
+    public void shuffleTest() {
+        TurnOrder order = TurnOrder.of(50);
+        order.remove(7);
+        List<Integer> expected = new ArrayList<>();
+        for (int player : order.toArray()) {
+            expected.add(player);
+        }
+        //a seeded game keeps the rounds it had with the shuffle of the lists
+        Collections.shuffle(expected, new Random(42));
+        int[] shuffled = order.shuffled(new Random(42));
+        for (int i = 0; i < shuffled.length; i++) {
+            assertEquals((int) expected.get(i), shuffled[i]);
+        }
+        order.reset(shuffled);
+        assertEquals(49, order.size());
+        assertFalse(order.contains(7));
+        order.remove(shuffled[10]);
+        assertEquals(shuffled[48], order.get(10));
+    }
+}
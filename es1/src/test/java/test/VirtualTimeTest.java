@@ -0,0 +1,137 @@
+package test;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.PoisonPill;
+import akka.pattern.Patterns;
+import com.typesafe.config.ConfigFactory;
+import es1.actors.Arbiter;
+import es1.batch.SimulationRunner;
+import es1.metrics.GameMetrics;
+import es1.strategy.StrategyType;
+import es1.util.GameResultMsg;
+import es1.util.GameSettings;
+import es1.util.GameStatusMsg;
+import es1.util.GetGameStatusMsg;
+import es1.util.StartMsg;
+import es1.util.TryAttempt;
+import es1.util.VirtualClock;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.*;
+
+public class VirtualTimeTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private static ActorSystem system;
+
+    @BeforeClass
+    public static void setUp() {
+        system = ActorSystem.create("VirtualTimeTest");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        system.terminate();
+        system.getWhenTerminated().toCompletableFuture().join();
+    }
+
+    @Test
+    public void clockTest() {
+        VirtualClock clock = new VirtualClock();
+        assertEquals(0, clock.nanoTime());
+        assertEquals(0, clock.nanoTime());
+        assertEquals(5, clock.advance(5));
+        assertEquals(5, clock.nanoTime());
+        try {
+            clock.advance(-1);
+            fail("the time can't go back");
+        } catch (IllegalArgumentException e) {
+            //expected
+        }
+    }
+
+    @Test
+    public void simulationTest() {
+        //no budget at all: on the system clock the search would stop at once, on the virtual clock it's complete
+        GameSettings settings = new GameSettings().withStrategies(StrategyType.MINIMAX, StrategyType.RANDOM)
+                .withGuessBudget(0).withVirtualTime(true);
+        for (long seed = 0; seed < 5; seed++) {
+            GameResultMsg first = SimulationRunner.play(3, 4, settings.withSeed(seed));
+            GameResultMsg second = SimulationRunner.play(3, 4, settings.withSeed(seed).withGuessBudget(60_000));
+            assertEquals(first.getWinner(), second.getWinner());
+            assertEquals(first.getTurns(), second.getTurns());
+        }
+    }
+
+    @Test
+    public void actorsTest() throws Exception {
+        //a turn timeout that every attempt of a bot would exceed in real time
+        long timeouts = GameMetrics.get().getTimeouts();
+        GameSettings settings = new GameSettings().withStrategies(StrategyType.MINIMAX, StrategyType.RANDOM)
+                .withSeed(17L).withTurnTimeout(1).withVirtualTime(true);
+        GameResultMsg first = Games.play(system, new StartMsg(3, 3, null, settings));
+        GameResultMsg second = Games.play(system, new StartMsg(3, 3, null, settings));
+        assertEquals(first.getWinner(), second.getWinner());
+        assertEquals(first.getTurns(), second.getTurns());
+        assertEquals(timeouts, GameMetrics.get().getTimeouts());
+        //the actors and the simulation play the same game
+        GameResultMsg simulated = SimulationRunner.play(3, 3, settings);
+        assertEquals(first.getWinner(), simulated.getWinner());
+        assertEquals(first.getTurns(), simulated.getTurns());
+    }
+
+    @Test
+    public void idleTest() throws Exception {
+        //turns that can't end time out at their deadline on the virtual clock, an hour later, at once in real time
+        long timeouts = GameMetrics.get().getTimeouts();
+        GameSettings settings = new GameSettings().withStrategy(StrategyType.RANDOM).withSeed(5L)
+                .withTurnTimeout(3_600_000).withVirtualTime(true);
+        ActorRef arbiter = system.actorOf(Arbiter.props(), "idle");
+        Patterns.ask(arbiter, new StartMsg(4, 6, null, settings), TIMEOUT);
+        long deadline = System.currentTimeMillis() + TIMEOUT.toMillis();
+        while (((GameStatusMsg) Patterns.ask(arbiter, new GetGameStatusMsg(), TIMEOUT).toCompletableFuture().get()).getTurns() == 0) {
+            assertTrue(System.currentTimeMillis() < deadline);
+            Thread.sleep(1);
+        }
+        //an attempt to a Player out of the roster makes every bot fail and forget the game
+        system.actorSelection("/user/idle/Guess*").tell(new TryAttempt(true, 0, 99), ActorRef.noSender());
+        while (GameMetrics.get().getTimeouts() < timeouts + 12) {
+            assertTrue(System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+        system.stop(arbiter);
+    }
+
+    @Test
+    public void stoppedPlayersTest() throws Exception {
+        //the Players stop without failing, their turns time out when they stop or when the game has been quiet for a while
+        ActorSystem quiet = ActorSystem.create("StoppedPlayersTest", ConfigFactory.parseString("es1.virtual-time.idle-timeout = 100ms")
+                .withFallback(ConfigFactory.load()));
+        try {
+            long timeouts = GameMetrics.get().getTimeouts();
+            GameSettings settings = new GameSettings().withStrategy(StrategyType.RANDOM).withSeed(7L)
+                    .withTurnTimeout(3_600_000).withVirtualTime(true);
+            ActorRef arbiter = quiet.actorOf(Arbiter.props(), "stopped");
+            Patterns.ask(arbiter, new StartMsg(4, 4, null, settings), Games.TIMEOUT);
+            long deadline = System.currentTimeMillis() + Games.TIMEOUT.toMillis();
+            while (((GameStatusMsg) Patterns.ask(arbiter, new GetGameStatusMsg(), Games.TIMEOUT).toCompletableFuture().get()).getTurns() == 0) {
+                assertTrue(System.currentTimeMillis() < deadline);
+                Thread.sleep(1);
+            }
+            quiet.actorSelection("/user/stopped/Guess*").tell(PoisonPill.getInstance(), ActorRef.noSender());
+            while (GameMetrics.get().getTimeouts() < timeouts + 8) {
+                assertTrue(System.currentTimeMillis() < deadline);
+                Thread.sleep(10);
+            }
+        } finally {
+            quiet.terminate();
+            quiet.getWhenTerminated().toCompletableFuture().join();
+        }
+    }
+}